@@ -25,6 +25,11 @@ package org.dozer;
  * 
  * This interface also gives you the opportunity to send a configuration parameter to it
  * <p>
+ * Dozer creates one instance for each field with a custom-converter-param and sets the parameter once, so such
+ * instances are never reconfigured. An instance passed to the mapper is shared by all fields it converts instead:
+ * it gets the parameter of the field before each conversion, so it must not be used by concurrent mappings of
+ * fields with different parameters.
+ * <p>
  * <a
  * href="http://dozer.sourceforge.net/documentation/customconverter.html">http://dozer.sourceforge.net/documentation/customconverter.html</a>
  * 
@@ -0,0 +1,248 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.dozer.classmap.ClassMap;
+import org.dozer.classmap.ClassMappings;
+import org.dozer.classmap.Configuration;
+import org.dozer.converters.CustomConverterContainer;
+import org.dozer.converters.CustomConverterDescription;
+import org.dozer.fieldmap.FieldMap;
+import org.dozer.util.MappingUtils;
+import org.dozer.util.ReflectionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Internal class holding the custom converter instances of a single bean mapper. Converters of the loaded mappings
+ * are bound when the registry is created: each converter class gets one instance, injected or created, and each field
+ * with a configurable converter gets an instance of its own with the field's parameter set. Bound converters are
+ * shared by all threads and are not modified afterwards, with one exception: injected configurable converters get the
+ * parameter of the field they convert before each conversion, see {@link ConfigurableCustomConverter}.
+ * <p>
+ * {@link MapperAware} converters get a mapper once, which delegates to the processor invoking the converter on the
+ * calling thread, so nested mappings are part of the mapping in progress.
+ * Only intended for internal use.
+ */
+final class CustomConverterRegistry {
+
+  private static final Logger log = LoggerFactory.getLogger(CustomConverterRegistry.class);
+
+  // Processor invoking a MapperAware converter on this thread
+  private static final ThreadLocal<MappingProcessor> ACTIVE = new ThreadLocal<MappingProcessor>();
+
+  private final List<CustomConverter> injectedConverters;
+  private final Set<CustomConverter> injected = Collections.newSetFromMap(new IdentityHashMap<CustomConverter, Boolean>());
+  private final Mapper mapper;
+
+  private final ConcurrentMap<Class<?>, CustomConverter> byClass = new ConcurrentHashMap<Class<?>, CustomConverter>();
+  // Configurable converters created for a field by converter class. Class level converters may convert a field too,
+  // so a field may have more than one.
+  private final ConcurrentMap<Class<?>, ConcurrentMap<FieldMap, CustomConverter>> byField =
+      new ConcurrentHashMap<Class<?>, ConcurrentMap<FieldMap, CustomConverter>>();
+
+  /**
+   * @param fallbackMapper mapper used by MapperAware converters called outside of a mapping, may be null
+   */
+  CustomConverterRegistry(ClassMappings classMappings, Configuration globalConfiguration,
+                          List<CustomConverter> injectedConverters, Map<String, CustomConverter> injectedConvertersWithId,
+                          Mapper fallbackMapper) {
+    this.injectedConverters = injectedConverters;
+    this.mapper = new ProcessorMapper(fallbackMapper);
+    injected.addAll(injectedConverters);
+    injected.addAll(injectedConvertersWithId.values());
+    for (CustomConverter converter : injected) {
+      if (converter instanceof MapperAware) {
+        ((MapperAware) converter).setMapper(mapper);
+      }
+    }
+
+    if (globalConfiguration != null) {
+      bindAll(globalConfiguration.getCustomConverters());
+    }
+    if (classMappings != null) {
+      for (ClassMap classMap : classMappings.getAll().values()) {
+        bindAll(classMap.getCustomConverters());
+        for (FieldMap fieldMap : classMap.getFieldMaps()) {
+          if (MappingUtils.isBlankOrNull(fieldMap.getCustomConverterId())
+              && !MappingUtils.isBlankOrNull(fieldMap.getCustomConverter())) {
+            tryBind(null, fieldMap);
+          }
+        }
+      }
+    }
+  }
+
+  private void bindAll(CustomConverterContainer converters) {
+    for (CustomConverterDescription description : converters.getConverters()) {
+      tryBind(description.getType(), null);
+    }
+  }
+
+  /**
+   * @param converterClass converter class, or null for the converter of the field
+   */
+  private void tryBind(Class<?> converterClass, FieldMap fieldMap) {
+    try {
+      getConverter(converterClass != null ? converterClass : fieldMap.getCustomConverterClass(), fieldMap);
+    } catch (MappingException e) {
+      // A converter which cannot be loaded or created fails the conversions using it, not the mapper
+      log.debug("Custom converter is bound on first use: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Returns the converter of the given class, binding it when the class was not known on load.
+   *
+   * @param fieldMap field converted, or null for a class level conversion
+   */
+  CustomConverter getConverter(Class<?> converterClass, FieldMap fieldMap) {
+    CustomConverter converter = byClass.get(converterClass);
+    if (converter == null) {
+      converter = bind(converterClass);
+    }
+    if (fieldMap == null || !(converter instanceof ConfigurableCustomConverter) || injected.contains(converter)) {
+      return converter;
+    }
+    ConcurrentMap<FieldMap, CustomConverter> fieldConverters = byField.get(converterClass);
+    if (fieldConverters == null) {
+      fieldConverters = new ConcurrentHashMap<FieldMap, CustomConverter>();
+      ConcurrentMap<FieldMap, CustomConverter> existing = byField.putIfAbsent(converterClass, fieldConverters);
+      if (existing != null) {
+        fieldConverters = existing;
+      }
+    }
+    CustomConverter fieldConverter = fieldConverters.get(fieldMap);
+    if (fieldConverter == null) {
+      fieldConverter = create(converterClass);
+      ((ConfigurableCustomConverter) fieldConverter).setParameter(fieldMap.getCustomConverterParam());
+      CustomConverter existing = fieldConverters.putIfAbsent(fieldMap, fieldConverter);
+      if (existing != null) {
+        fieldConverter = existing;
+      }
+    }
+    return fieldConverter;
+  }
+
+  /**
+   * @return whether the converter is shared with the application, rather than created by the registry
+   */
+  boolean isInjected(CustomConverter converter) {
+    return injected.contains(converter);
+  }
+
+  private CustomConverter bind(Class<?> converterClass) {
+    // The last injected instance of the class wins
+    CustomConverter converter = null;
+    for (CustomConverter injectedConverter : injectedConverters) {
+      if (converterClass.isInstance(injectedConverter)) {
+        converter = injectedConverter;
+      }
+    }
+    if (converter == null) {
+      converter = create(converterClass);
+    }
+    CustomConverter existing = byClass.putIfAbsent(converterClass, converter);
+    return existing != null ? existing : converter;
+  }
+
+  private CustomConverter create(Class<?> converterClass) {
+    CustomConverter converter = (CustomConverter) ReflectionUtils.newInstance(converterClass);
+    if (converter instanceof MapperAware) {
+      ((MapperAware) converter).setMapper(mapper);
+    }
+    return converter;
+  }
+
+  /**
+   * Marks the processor as the one invoking MapperAware converters on this thread.
+   *
+   * @return processor to be restored by {@link #exit(MappingProcessor)}
+   */
+  static MappingProcessor enter(MappingProcessor processor) {
+    MappingProcessor previous = ACTIVE.get();
+    ACTIVE.set(processor);
+    return previous;
+  }
+
+  static void exit(MappingProcessor previous) {
+    if (previous == null) {
+      ACTIVE.remove();
+    } else {
+      ACTIVE.set(previous);
+    }
+  }
+
+  /**
+   * Mapper given to MapperAware converters. It maps with the processor invoking the converter on the calling thread.
+   */
+  private static final class ProcessorMapper implements Mapper {
+
+    private final Mapper fallbackMapper;
+
+    ProcessorMapper(Mapper fallbackMapper) {
+      this.fallbackMapper = fallbackMapper;
+    }
+
+    private Mapper target() {
+      Mapper processor = ACTIVE.get();
+      if (processor != null) {
+        return processor;
+      }
+      if (fallbackMapper == null) {
+        MappingUtils.throwMappingException("Custom converter used the mapper outside of a mapping");
+      }
+      return fallbackMapper;
+    }
+
+    public <T> T map(Object source, Class<T> destinationClass) {
+      return target().map(source, destinationClass);
+    }
+
+    public void map(Object source, Object destination) {
+      target().map(source, destination);
+    }
+
+    public <T> T map(Object source, Class<T> destinationClass, String mapId) {
+      return target().map(source, destinationClass, mapId);
+    }
+
+    public void map(Object source, Object destination, String mapId) {
+      target().map(source, destination, mapId);
+    }
+
+    public <T> void mapAll(Collection<?> sources, Collection<? super T> destinations, Class<T> destinationClass,
+                           String mapId) {
+      target().mapAll(sources, destinations, destinationClass, mapId);
+    }
+
+    public <T> Iterator<T> mapIterator(Iterator<?> sources, Class<T> destinationClass, String mapId) {
+      return target().mapIterator(sources, destinationClass, mapId);
+    }
+
+  }
+
+}
@@ -17,6 +17,7 @@ package org.dozer;
 
 import org.dozer.cache.CacheManager;
 import org.dozer.cache.DozerCacheManager;
+import org.dozer.cache.DozerCachePolicy;
 import org.dozer.cache.DozerCacheType;
 import org.dozer.classmap.ClassMappings;
 import org.dozer.classmap.Configuration;
@@ -32,19 +33,27 @@ import org.dozer.loader.xml.MappingStreamReader;
 import org.dozer.loader.xml.XMLParserFactory;
 import org.dozer.metadata.DozerMappingMetadata;
 import org.dozer.metadata.MappingMetadata;
+import org.dozer.plan.MappingPlanCache;
 import org.dozer.stats.GlobalStatistics;
+import org.dozer.stats.MetricsExport;
+import org.dozer.stats.MetricsExporter;
+import org.dozer.stats.MetricsSnapshot;
 import org.dozer.stats.StatisticType;
-import org.dozer.stats.StatisticsInterceptor;
 import org.dozer.stats.StatisticsManager;
+import org.dozer.util.MappingUtils;
 import org.dozer.util.MappingValidator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.InputStream;
-import java.lang.reflect.Proxy;
 import java.net.URL;
 import java.util.*;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Stream;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -66,7 +75,11 @@ public class DozerBeanMapper implements Mapper {
 
   private final Logger log = LoggerFactory.getLogger(DozerBeanMapper.class);
 
-  private final StatisticsManager statsMgr = GlobalStatistics.getInstance().getStatsMgr();
+  // Smaller chunks cost more in task hand off than they gain from parallel mapping
+  private static final int MIN_PARALLEL_CHUNK_SIZE = 64;
+
+  // Statistics of this instance, which are added to the global statistics as well
+  private final StatisticsManager statsMgr = GlobalStatistics.getInstance().createMapperStatsMgr();
   private final AtomicBoolean initializing = new AtomicBoolean(false);
   private final CountDownLatch ready = new CountDownLatch(1);
 
@@ -80,6 +93,7 @@ public class DozerBeanMapper implements Mapper {
   private final Map<String, CustomConverter> customConvertersWithId = new HashMap<String, CustomConverter>();
 
   private CustomFieldMapper customFieldMapper;
+  private MetricsExporter metricsExporter;
 
   /*
    * Not accessible for injection
@@ -87,8 +101,21 @@ public class DozerBeanMapper implements Mapper {
   private ClassMappings customMappings;
   private Configuration globalConfiguration;
   // There are no global caches. Caches are per bean mapper instance
-  private final CacheManager cacheManager = new DozerCacheManager();
+  private CacheManager cacheManager = new DozerCacheManager(statsMgr);
+  private final Map<DozerCacheType, DozerCachePolicy> cachePolicies =
+      new EnumMap<DozerCacheType, DozerCachePolicy>(DozerCacheType.class);
+  private final Map<DozerCacheType, Integer> cacheSizes = new EnumMap<DozerCacheType, Integer>(DozerCacheType.class);
   private DozerEventManager eventManager;
+  private MappingPlanCache mappingPlans;
+  private CustomConverterRegistry converters;
+  private volatile MetricsExport metricsExport;
+  private boolean reuseProcessors;
+  // Per thread processor, used when processor reuse is enabled
+  private final ThreadLocal<ProcessorHolder> reusableProcessors = new ThreadLocal<ProcessorHolder>();
+  // Holders of all threads, emptied by destroy() so that pooled threads do not keep processors of a discarded
+  // mapper. Held weakly, holders of terminated threads are collected with the thread.
+  private final Set<ProcessorHolder> processorHolders =
+      Collections.newSetFromMap(new WeakHashMap<ProcessorHolder, Boolean>());
 
   public DozerBeanMapper() {
     this(Collections.<String>emptyList());
@@ -127,6 +154,77 @@ public class DozerBeanMapper implements Mapper {
     getMappingProcessor().map(source, destination);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  public <T> void mapAll(Collection<?> sources, Collection<? super T> destinations, Class<T> destinationClass,
+                         String mapId) throws MappingException {
+    // One processor maps the whole batch
+    getMappingProcessor().mapAll(sources, destinations, destinationClass, mapId);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public <T> Stream<T> mapStream(Stream<?> sources, Class<T> destinationClass, String mapId) throws MappingException {
+    MappingValidator.validateMappingRequest(sources, destinationClass);
+    initMappings();
+    return sources.map(new StreamMapping<T>(this, destinationClass, mapId));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public <T> Iterator<T> mapIterator(Iterator<?> sources, Class<T> destinationClass, String mapId)
+      throws MappingException {
+    initMappings();
+    // The iterator is consumed after this call returns, possibly on another thread, so it owns its processor
+    return createMappingProcessor().mapIterator(sources, destinationClass, mapId);
+  }
+
+  /**
+   * Parallel variant of {@link #mapAll(Collection, Class)} running on the common fork join pool.
+   *
+   * @see #mapAllParallel(Collection, Class, String, ForkJoinPool)
+   */
+  public <T> List<T> mapAllParallel(Collection<?> sources, Class<T> destinationClass) throws MappingException {
+    return mapAllParallel(sources, destinationClass, null, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Constructs new instance of destinationClass for each of the sources and performs mapping between them on the
+   * given pool. Sources are split into chunks, each chunk is mapped by the processor of the worker thread which
+   * picked it up. Each source is mapped on its own, as if passed to {@link #map(Object, Class, String)}, so objects
+   * shared by several sources must be safe to read concurrently. Null sources are mapped to null.
+   *
+   * @param sources
+   * @param destinationClass
+   * @param mapId
+   * @param pool
+   * @param <T>
+   * @return list of mapped objects in the iteration order of sources
+   * @throws MappingException
+   */
+  public <T> List<T> mapAllParallel(Collection<?> sources, Class<T> destinationClass, String mapId, ForkJoinPool pool)
+      throws MappingException {
+    MappingValidator.validateMappingRequest(sources, destinationClass);
+    if (pool == null) {
+      MappingUtils.throwMappingException("Pool must not be null");
+    }
+    Object[] sourceArray = sources.toArray();
+    Object[] results = new Object[sourceArray.length];
+    int chunkSize = Math.max(MIN_PARALLEL_CHUNK_SIZE, sourceArray.length / (pool.getParallelism() * 4));
+    ParallelMappingTask task = new ParallelMappingTask(this, sourceArray, results, 0, sourceArray.length, chunkSize,
+        destinationClass, mapId);
+    if (sourceArray.length <= chunkSize) {
+      // not worth a hand off
+      task.compute();
+    } else {
+      pool.invoke(task);
+    }
+    return (List<T>) new ArrayList<Object>(Arrays.asList(results));
+  }
+
   /**
    * Returns list of provided mapping file URLs
    *
@@ -155,6 +253,13 @@ public class DozerBeanMapper implements Mapper {
     DestBeanCreator.setStoredFactories(factories);
   }
 
+  /**
+   * Converter instances passed that way are used instead of creating converters of their classes. They are shared by
+   * all threads, and so are the converters Dozer creates: one for each converter class, and one for each field with a
+   * converter parameter.
+   *
+   * @param customConverters converter instances
+   */
   public void setCustomConverters(List<CustomConverter> customConverters) {
     checkIfInitialized();
     this.customConverters.clear();
@@ -174,34 +279,67 @@ public class DozerBeanMapper implements Mapper {
 
     log.info("Initializing a new instance of dozer bean mapper.");
 
-    // initialize any bean mapper caches. These caches are only visible to the bean mapper instance and
-    // are not shared across the VM.
     GlobalSettings globalSettings = GlobalSettings.getInstance();
-    cacheManager.addCache(DozerCacheType.CONVERTER_BY_DEST_TYPE.name(), globalSettings.getConverterByDestTypeCacheMaxSize());
-    cacheManager.addCache(DozerCacheType.SUPER_TYPE_CHECK.name(), globalSettings.getSuperTypesCacheMaxSize());
+    reuseProcessors = globalSettings.isProcessorReuseEnabled();
 
     // stats
     statsMgr.increment(StatisticType.MAPPER_INSTANCES_COUNT);
   }
 
+  /**
+   * Shuts Dozer down, stops the metrics export of this instance and releases the mapping processors reused by the
+   * threads which mapped with this instance.
+   */
   public void destroy() {
     DozerInitializer.getInstance().destroy();
+    MetricsExport export = metricsExport;
+    if (export != null) {
+      export.stop();
+    }
+    synchronized (processorHolders) {
+      for (ProcessorHolder holder : processorHolders) {
+        holder.processor = null;
+      }
+      processorHolders.clear();
+    }
+    reusableProcessors.remove();
   }
 
   protected Mapper getMappingProcessor() {
     initMappings();
 
-    Mapper processor = new MappingProcessor(customMappings, globalConfiguration, cacheManager, statsMgr, customConverters,
-            eventManager, getCustomFieldMapper(), customConvertersWithId);
-
-    // If statistics are enabled, then Proxy the processor with a statistics interceptor
-    if (statsMgr.isStatisticsEnabled()) {
-      processor = (Mapper) Proxy.newProxyInstance(processor.getClass().getClassLoader(),
-              processor.getClass().getInterfaces(),
-              new StatisticsInterceptor(processor, statsMgr));
+    if (reuseProcessors) {
+      ProcessorHolder holder = reusableProcessors.get();
+      if (holder == null) {
+        holder = new ProcessorHolder();
+        reusableProcessors.set(holder);
+      }
+      MappingProcessor reusable = holder.processor;
+      if (reusable == null) {
+        reusable = createMappingProcessor();
+        reusable.setReusable(true);
+        holder.processor = reusable;
+        synchronized (processorHolders) {
+          processorHolders.add(holder);
+        }
+      }
+      // A processor in use belongs to a mapping in progress on this thread, e.g. a custom converter calling the
+      // bean mapper directly. Such nested mapping gets a processor of its own.
+      if (!reusable.isInUse()) {
+        return reusable;
+      }
     }
 
-    return processor;
+    return createMappingProcessor();
+  }
+
+  void setReuseProcessors(boolean reuseProcessors) {
+    this.reuseProcessors = reuseProcessors;
+  }
+
+  private MappingProcessor createMappingProcessor() {
+    return new MappingProcessor(customMappings, globalConfiguration, cacheManager, statsMgr, eventManager,
+            getCustomFieldMapper(), customConvertersWithId, mappingPlans, converters);
   }
 
   void loadCustomMappings() {
@@ -269,6 +407,43 @@ public class DozerBeanMapper implements Mapper {
     this.eventListeners.addAll(eventListeners);
   }
 
+  /**
+   * Sets the cache manager holding the caches of this mapper. Caches the manager already holds are used as they are,
+   * missing ones are added to it, so the manager may be shared by several mappers only if it holds all caches.
+   *
+   * @param cacheManager cache manager to use instead of the default one
+   */
+  public void setCacheManager(CacheManager cacheManager) {
+    checkIfInitialized();
+    this.cacheManager = cacheManager;
+  }
+
+  public CacheManager getCacheManager() {
+    return cacheManager;
+  }
+
+  /**
+   * Overrides eviction policies of caches, which are otherwise taken from global settings.
+   *
+   * @param cachePolicies policy by cache type
+   */
+  public void setCachePolicies(Map<DozerCacheType, DozerCachePolicy> cachePolicies) {
+    checkIfInitialized();
+    this.cachePolicies.clear();
+    this.cachePolicies.putAll(cachePolicies);
+  }
+
+  /**
+   * Overrides maximum sizes of caches, which are otherwise taken from global settings.
+   *
+   * @param cacheSizes maximum number of entries by cache type
+   */
+  public void setCacheSizes(Map<DozerCacheType, Integer> cacheSizes) {
+    checkIfInitialized();
+    this.cacheSizes.clear();
+    this.cacheSizes.putAll(cacheSizes);
+  }
+
   public CustomFieldMapper getCustomFieldMapper() {
     return customFieldMapper;
   }
@@ -278,6 +453,25 @@ public class DozerBeanMapper implements Mapper {
     this.customFieldMapper = customFieldMapper;
   }
 
+  /**
+   * Sets the exporter which receives the statistics of this instance periodically, instead of the one configured with
+   * the dozer.metrics.exporter property. The export starts with the first mapping and stops on {@link #destroy()}, or
+   * once this instance has been garbage collected.
+   *
+   * @param metricsExporter exporter of the statistics of this instance
+   */
+  public void setMetricsExporter(MetricsExporter metricsExporter) {
+    checkIfInitialized();
+    this.metricsExporter = metricsExporter;
+  }
+
+  /**
+   * @return current statistics of this instance, without the mappings of other instances
+   */
+  public MetricsSnapshot getMetrics() {
+    return MetricsSnapshot.of(statsMgr);
+  }
+
   /**
    * The {@link org.dozer.metadata.MappingMetadata} interface can be used to query information about the current
    * mapping definitions. It provides read only access to all important classes and field
@@ -314,6 +508,19 @@ public class DozerBeanMapper implements Mapper {
       try {
         loadCustomMappings();
         eventManager = new DozerEventManager(eventListeners);
+        GlobalSettings globalSettings = GlobalSettings.getInstance();
+        // initialize any bean mapper caches. These caches are only visible to the bean mapper instance and
+        // are not shared across the VM.
+        addCache(DozerCacheType.CONVERTER_BY_DEST_TYPE, globalSettings.getConverterByDestTypeCacheMaxSize(),
+            globalSettings.getConverterByDestTypeCachePolicy());
+        addCache(DozerCacheType.SUPER_TYPE_CHECK, globalSettings.getSuperTypesCacheMaxSize(),
+            globalSettings.getSuperTypesCachePolicy());
+        // A custom field mapper may map any field into anything, so the destination types prove nothing
+        mappingPlans = new MappingPlanCache(customMappings, cacheManager, globalSettings.isMapperGenerationEnabled(),
+            globalSettings.isTreeDetectionEnabled() && getCustomFieldMapper() == null);
+        converters = new CustomConverterRegistry(customMappings, globalConfiguration, customConverters,
+            customConvertersWithId, this);
+        startMetricsExport(globalSettings);
       } catch (RuntimeException e) {
         // reset initialized state if error happens
         initializing.set(false);
@@ -332,4 +539,110 @@ public class DozerBeanMapper implements Mapper {
     }
   }
 
+  private void startMetricsExport(GlobalSettings globalSettings) {
+    MetricsExporter exporter = metricsExporter;
+    if (exporter == null) {
+      exporter = DozerInitializer.getInstance().createMetricsExporter(globalSettings);
+    }
+    if (exporter != null) {
+      metricsExport = MetricsExport.start(this, statsMgr, exporter, globalSettings.getMetricsExportInterval());
+    }
+  }
+
+  MetricsExport getMetricsExport() {
+    return metricsExport;
+  }
+
+  private void addCache(DozerCacheType cacheType, int defaultSize, DozerCachePolicy defaultPolicy) {
+    if (cacheManager.cacheExists(cacheType.name())) {
+      return;
+    }
+    Integer size = cacheSizes.get(cacheType);
+    DozerCachePolicy policy = cachePolicies.get(cacheType);
+    cacheManager.addCache(cacheType.name(), size != null ? size : defaultSize, policy != null ? policy : defaultPolicy);
+  }
+
+  /**
+   * Reusable processor of one thread, which can be released by another thread.
+   */
+  private static final class ProcessorHolder {
+
+    private volatile MappingProcessor processor;
+
+  }
+
+  /**
+   * Maps stream elements with a processor owned by the first thread which consumes the stream. Parallel streams
+   * call the function from other threads too, their elements are mapped as by {@link #map(Object, Class, String)}.
+   */
+  private static final class StreamMapping<T> implements Function<Object, T> {
+
+    private final DozerBeanMapper mapper;
+    private final Class<T> destinationClass;
+    private final String mapId;
+    private final AtomicReference<Thread> owner = new AtomicReference<Thread>();
+    // accessed by the owner thread only
+    private Function<Object, T> ownerMapping;
+
+    StreamMapping(DozerBeanMapper mapper, Class<T> destinationClass, String mapId) {
+      this.mapper = mapper;
+      this.destinationClass = destinationClass;
+      this.mapId = mapId;
+    }
+
+    public T apply(Object source) {
+      Thread current = Thread.currentThread();
+      if (owner.get() == current || owner.compareAndSet(null, current)) {
+        if (ownerMapping == null) {
+          ownerMapping = mapper.createMappingProcessor().sequenceMapping(destinationClass, mapId);
+        }
+        return ownerMapping.apply(source);
+      }
+      return source != null ? mapper.map(source, destinationClass, mapId) : null;
+    }
+  }
+
+  /**
+   * Maps a range of sources, splitting it in halves until it fits into a chunk. Results are written to the same
+   * indexes as the sources, so the output order does not depend on scheduling.
+   */
+  private static final class ParallelMappingTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final DozerBeanMapper mapper;
+    private final Object[] sources;
+    private final Object[] results;
+    private final int from;
+    private final int to;
+    private final int chunkSize;
+    private final Class<?> destinationClass;
+    private final String mapId;
+
+    ParallelMappingTask(DozerBeanMapper mapper, Object[] sources, Object[] results, int from, int to, int chunkSize,
+                        Class<?> destinationClass, String mapId) {
+      this.mapper = mapper;
+      this.sources = sources;
+      this.results = results;
+      this.from = from;
+      this.to = to;
+      this.chunkSize = chunkSize;
+      this.destinationClass = destinationClass;
+      this.mapId = mapId;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from > chunkSize) {
+        int middle = (from + to) >>> 1;
+        invokeAll(new ParallelMappingTask(mapper, sources, results, from, middle, chunkSize, destinationClass, mapId),
+            new ParallelMappingTask(mapper, sources, results, middle, to, chunkSize, destinationClass, mapId));
+        return;
+      }
+      List<Object> chunk = new ArrayList<Object>(to - from);
+      mapper.getMappingProcessor().mapAll(Arrays.asList(sources).subList(from, to), chunk, destinationClass, mapId);
+      System.arraycopy(chunk.toArray(), 0, results, from, chunk.size());
+    }
+  }
+
 }
@@ -29,6 +29,8 @@ public abstract class DozerConverter<A, B> implements ConfigurableCustomConverte
   private String parameter;
   private Class<A> prototypeA;
   private Class<B> prototypeB;
+  // Whether to convert from A to B, by destination and source class
+  private final ClassValue<DirectionBySource> directions;
 
   /**
    * Defines two types, which will take part transformation.
@@ -41,38 +43,52 @@ public abstract class DozerConverter<A, B> implements ConfigurableCustomConverte
   public DozerConverter(Class<A> prototypeA, Class<B> prototypeB) {
     this.prototypeA = prototypeA;
     this.prototypeB = prototypeB;
+    this.directions = new DirectionByDestination(prototypeA, prototypeB, getClass());
   }
 
-  // Method first checks exact type matches and only then checks for assignement
   public Object convert(Object existingDestinationFieldValue, Object sourceFieldValue, Class<?> destinationClass, Class<?> sourceClass) {
+    boolean convertTo;
+    if (destinationClass != null && sourceClass != null) {
+      convertTo = directions.get(destinationClass).get(sourceClass);
+    } else {
+      convertTo = isConvertTo(prototypeA, prototypeB, getClass(), destinationClass, sourceClass);
+    }
+    if (convertTo) {
+      return convertTo((A) sourceFieldValue, (B) existingDestinationFieldValue);
+    } else {
+      return convertFrom((B) sourceFieldValue, (A) existingDestinationFieldValue);
+    }
+  }
+
+  // Method first checks exact type matches and only then checks for assignement
+  private static boolean isConvertTo(Class<?> prototypeA, Class<?> prototypeB, Class<?> converterClass,
+                                     Class<?> destinationClass, Class<?> sourceClass) {
     Class<?> wrappedDestinationClass = ClassUtils.primitiveToWrapper(destinationClass);
     Class<?> wrappedSourceClass = ClassUtils.primitiveToWrapper(sourceClass);
 
     if (prototypeA.equals(wrappedDestinationClass)) {
-      return convertFrom((B) sourceFieldValue, (A) existingDestinationFieldValue);
+      return false;
     } else if (prototypeB.equals(wrappedDestinationClass)) {
-      return convertTo((A) sourceFieldValue, (B) existingDestinationFieldValue);
+      return true;
     } else if (prototypeA.equals(wrappedSourceClass)) {
-      return convertTo((A) sourceFieldValue, (B) existingDestinationFieldValue);
+      return true;
     } else if (prototypeB.equals(wrappedSourceClass)) {
-      return convertFrom((B) sourceFieldValue, (A) existingDestinationFieldValue);
+      return false;
     } else if (prototypeA.isAssignableFrom(wrappedDestinationClass)) {
-      return convertFrom((B) sourceFieldValue, (A) existingDestinationFieldValue);
+      return false;
     } else if (prototypeB.isAssignableFrom(wrappedDestinationClass)) {
-      return convertTo((A) sourceFieldValue, (B) existingDestinationFieldValue);
+      return true;
     } else if (prototypeA.isAssignableFrom(wrappedSourceClass)) {
-      return convertTo((A) sourceFieldValue, (B) existingDestinationFieldValue);
+      return true;
     } else if (prototypeB.isAssignableFrom(wrappedSourceClass)) {
-      return convertFrom((B) sourceFieldValue, (A) existingDestinationFieldValue);
+      return false;
     } else {
       throw new MappingException("Destination Type (" + wrappedDestinationClass.getName()
           + ") is not accepted by this Custom Converter (" 
-          + this.getClass().getName() + ")!");
+          + converterClass.getName() + ")!");
     }
-
   }
 
-
   /**
    * Converts the source field to the destination field and return the resulting destination
    * value.
@@ -139,4 +155,49 @@ public abstract class DozerConverter<A, B> implements ConfigurableCustomConverte
     return parameter;
   }
 
+  /*
+   * The class values are static classes, because the values they store on the converted classes must not reach the
+   * converter. Otherwise the values would keep their own keys reachable.
+   */
+
+  private static final class DirectionByDestination extends ClassValue<DirectionBySource> {
+
+    private final Class<?> prototypeA;
+    private final Class<?> prototypeB;
+    private final Class<?> converterClass;
+
+    DirectionByDestination(Class<?> prototypeA, Class<?> prototypeB, Class<?> converterClass) {
+      this.prototypeA = prototypeA;
+      this.prototypeB = prototypeB;
+      this.converterClass = converterClass;
+    }
+
+    @Override
+    protected DirectionBySource computeValue(Class<?> destinationClass) {
+      return new DirectionBySource(prototypeA, prototypeB, converterClass, destinationClass);
+    }
+
+  }
+
+  private static final class DirectionBySource extends ClassValue<Boolean> {
+
+    private final Class<?> prototypeA;
+    private final Class<?> prototypeB;
+    private final Class<?> converterClass;
+    private final Class<?> destinationClass;
+
+    DirectionBySource(Class<?> prototypeA, Class<?> prototypeB, Class<?> converterClass, Class<?> destinationClass) {
+      this.prototypeA = prototypeA;
+      this.prototypeB = prototypeB;
+      this.converterClass = converterClass;
+      this.destinationClass = destinationClass;
+    }
+
+    @Override
+    protected Boolean computeValue(Class<?> sourceClass) {
+      return isConvertTo(prototypeA, prototypeB, converterClass, destinationClass, sourceClass);
+    }
+
+  }
+
 }
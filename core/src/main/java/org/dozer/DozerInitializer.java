@@ -18,9 +18,11 @@ package org.dozer;
 import org.dozer.config.BeanContainer;
 import org.dozer.config.GlobalSettings;
 import org.dozer.jmx.DozerAdminController;
+import org.dozer.jmx.DozerProfilerController;
 import org.dozer.jmx.DozerStatisticsController;
 import org.dozer.jmx.JMXPlatform;
 import org.dozer.jmx.JMXPlatformImpl;
+import org.dozer.stats.MetricsExporter;
 import org.dozer.util.DefaultClassLoader;
 import org.dozer.util.DozerClassLoader;
 import org.dozer.util.DozerConstants;
@@ -52,6 +54,7 @@ public final class DozerInitializer {
 
   private static final String DOZER_STATISTICS_CONTROLLER = "org.dozer.jmx:type=DozerStatisticsController";
   private static final String DOZER_ADMIN_CONTROLLER = "org.dozer.jmx:type=DozerAdminController";
+  private static final String DOZER_PROFILER_CONTROLLER = "org.dozer.jmx:type=DozerProfilerController";
 
   private static final DozerInitializer instance = new DozerInitializer();
 
@@ -130,6 +133,19 @@ public final class DozerInitializer {
     }
   }
 
+  /**
+   * @return new instance of the metrics exporter set in the global settings, or null if there is none
+   */
+  MetricsExporter createMetricsExporter(GlobalSettings globalSettings) {
+    String exporterName = globalSettings.getMetricsExporterName();
+    if (exporterName == null) {
+      return null;
+    }
+    DozerClassLoader classLoader = BeanContainer.getInstance().getClassLoader();
+    Class<? extends MetricsExporter> exporterType = loadBeanType(exporterName, classLoader, MetricsExporter.class);
+    return ReflectionUtils.newInstance(exporterType);
+  }
+
   private <T> Class<? extends T> loadBeanType(String classLoaderName, DozerClassLoader classLoader, Class<T> iface) {
     Class<?> beanType = classLoader.loadClass(classLoaderName);
     if (beanType != null && !iface.isAssignableFrom(beanType)) {
@@ -166,6 +182,7 @@ public final class DozerInitializer {
     if (platform.isAvailable()) {
       platform.registerMBean(DOZER_STATISTICS_CONTROLLER, new DozerStatisticsController());
       platform.registerMBean(DOZER_ADMIN_CONTROLLER, new DozerAdminController());
+      platform.registerMBean(DOZER_PROFILER_CONTROLLER, new DozerProfilerController());
     } else {
       log.warn("jdk1.5 jmx management classes unavailable. Dozer JMX MBeans will not be auto registered.");
     }
@@ -173,6 +190,7 @@ public final class DozerInitializer {
 
   private void unregisterJMXBeans(JMXPlatform platform) throws MBeanRegistrationException, MalformedObjectNameException {
     if (platform.isAvailable()) {
+      platform.unregisterMBean(DOZER_PROFILER_CONTROLLER);
       platform.unregisterMBean(DOZER_ADMIN_CONTROLLER);
       platform.unregisterMBean(DOZER_STATISTICS_CONTROLLER);
     } else {
@@ -15,41 +15,50 @@
  */
 package org.dozer;
 
-import java.util.HashMap;
-import java.util.IdentityHashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 /**
  * Keeps track of mapped object during this mapping process execution.
  * Objects, which are referenced multiple types in object hierarchy will be fetched from here
  * to retain referential integrity of resulting object graph.
+ * <p/>
+ * Entries are kept in a single open addressing table of (source, map id, destination) triples, hashed by identity
+ * of the source and the map id. One source may be mapped to several destinations, e.g. of different types, each of
+ * them is a separate entry. Entries are never removed one by one, so linear probing needs no tombstones.
  *
  * @author dmitry.buzdin
  */
 public class MappedFieldsTracker {
 
+  private static final int INITIAL_CAPACITY = 32;
+  private static final int ENTRY_SIZE = 3;
+
   // Hash Code is ignored as it can serve application specific needs
-  // <srcObject, <hashCodeOfDestination, mappedDestinationMapIdField>>
-  private final Map<Object, Map<Integer, MapIdField>> mappedFields = new IdentityHashMap<Object, Map<Integer, MapIdField>>();
+  // [src, mapId, dest] triples, the table is allocated on first put
+  private Object[] table;
+  private int size;
 
 
   public void put(Object src, Object dest, String mapId) {
-    int destId = System.identityHashCode(dest);
-
-    Map<Integer, MapIdField> mappedTo = mappedFields.get(src);
-    if (mappedTo == null) {
-      mappedTo = new HashMap<Integer, MapIdField>();
-      mappedFields.put(src, mappedTo);
+    if (table == null) {
+      table = new Object[INITIAL_CAPACITY * ENTRY_SIZE];
     }
-
-    MapIdField destMapIdField = mappedTo.get(destId);
-    if (destMapIdField == null) {
-      destMapIdField = new MapIdField();
-      mappedTo.put(destId, destMapIdField);
+    int mask = table.length / ENTRY_SIZE - 1;
+    int index = hash(src, mapId) & mask;
+    Object key;
+    while ((key = table[index * ENTRY_SIZE]) != null) {
+      if (key == src && table[index * ENTRY_SIZE + 2] == dest && equal(mapId, table[index * ENTRY_SIZE + 1])) {
+        // already known
+        return;
+      }
+      index = (index + 1) & mask;
     }
-
-    if (!destMapIdField.containsMapId(mapId)) {
-      destMapIdField.put(mapId, dest);
+    table[index * ENTRY_SIZE] = src;
+    table[index * ENTRY_SIZE + 1] = mapId;
+    table[index * ENTRY_SIZE + 2] = dest;
+    // keep load factor below 1/2 so that probe sequences stay short
+    if (++size * 2 > mask) {
+      resize();
     }
   }
 
@@ -58,16 +67,22 @@ public class MappedFieldsTracker {
   }
 
   public Object getMappedValue(Object src, Class<?> destType, String mapId) {
-    Map<Integer, MapIdField> alreadyMappedFields = mappedFields.get(src);
-    if (alreadyMappedFields != null) {
-      for (MapIdField alreadyMappedField : alreadyMappedFields.values()) {
-        Object mappedValue = alreadyMappedField.get(mapId);
+    if (size == 0) {
+      return null;
+    }
+    int mask = table.length / ENTRY_SIZE - 1;
+    int index = hash(src, mapId) & mask;
+    Object key;
+    while ((key = table[index * ENTRY_SIZE]) != null) {
+      if (key == src && equal(mapId, table[index * ENTRY_SIZE + 1])) {
+        Object mappedValue = table[index * ENTRY_SIZE + 2];
         // 1664984 - bi-directionnal mapping with sets & subclasses
         if (mappedValue != null && destType.isAssignableFrom(mappedValue.getClass())) {
           // Source value has already been mapped to the required destFieldType.
           return mappedValue;
         }
       }
+      index = (index + 1) & mask;
     }
     return null;
   }
@@ -75,4 +90,41 @@ public class MappedFieldsTracker {
   public Object getMappedValue(Object src, Class<?> destType) {
     return getMappedValue(src, destType, null);
   }
+
+  /**
+   * Forgets all mapped objects. The table keeps its capacity, so a tracker reused for graphs of similar size does
+   * not allocate again.
+   */
+  public void clear() {
+    if (size > 0) {
+      Arrays.fill(table, null);
+      size = 0;
+    }
+  }
+
+  private void resize() {
+    Object[] oldTable = table;
+    table = new Object[oldTable.length * 2];
+    int mask = table.length / ENTRY_SIZE - 1;
+    for (int i = 0; i < oldTable.length; i += ENTRY_SIZE) {
+      Object src = oldTable[i];
+      if (src != null) {
+        int index = hash(src, (String) oldTable[i + 1]) & mask;
+        while (table[index * ENTRY_SIZE] != null) {
+          index = (index + 1) & mask;
+        }
+        System.arraycopy(oldTable, i, table, index * ENTRY_SIZE, ENTRY_SIZE);
+      }
+    }
+  }
+
+  private static int hash(Object src, String mapId) {
+    int h = System.identityHashCode(src) * 31 + (mapId != null ? mapId.hashCode() : 0);
+    h *= 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  private static boolean equal(String mapId, Object other) {
+    return mapId == null ? other == null : mapId.equals(other);
+  }
 }
@@ -15,6 +15,12 @@
  */
 package org.dozer;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
 /**
  * Public root interface for performing Dozer mappings from application code.
  * 
@@ -65,4 +71,114 @@ public interface Mapper {
    */
   void map(Object source, Object destination, String mapId) throws MappingException;
 
+  /**
+   * Constructs new instance of destinationClass for each of the sources and performs mapping between them. Each source
+   * is mapped on its own, as if passed to {@link #map(Object, Class)}. Null sources are mapped to null.
+   *
+   * @param sources
+   * @param destinationClass
+   * @param <T>
+   * @return list of mapped objects in the iteration order of sources
+   * @throws MappingException
+   */
+  default <T> List<T> mapAll(Collection<?> sources, Class<T> destinationClass) throws MappingException {
+    List<T> destinations = new ArrayList<T>(sources.size());
+    mapAll(sources, destinations, destinationClass, null);
+    return destinations;
+  }
+
+  /**
+   * Constructs new instance of destinationClass for each of the sources, performs mapping between them and adds
+   * the mapped objects to destinations. Each source is mapped on its own, as if passed to
+   * {@link #map(Object, Class, String)}. Null sources are mapped to null.
+   *
+   * @param sources
+   * @param destinations
+   * @param destinationClass
+   * @param mapId
+   * @param <T>
+   * @throws MappingException
+   */
+  default <T> void mapAll(Collection<?> sources, Collection<? super T> destinations, Class<T> destinationClass,
+                          String mapId) throws MappingException {
+    for (Object source : sources) {
+      destinations.add(source != null ? map(source, destinationClass, mapId) : null);
+    }
+  }
+
+  /**
+   * Lazily maps elements of the source stream to new instances of destinationClass, as if each of them was passed to
+   * {@link #map(Object, Class)}. Null elements are mapped to null. Nothing is mapped before the returned stream is
+   * consumed, and mapped objects are not retained by the mapper.
+   *
+   * @param sources
+   * @param destinationClass
+   * @param <T>
+   * @return stream of mapped objects
+   * @throws MappingException
+   */
+  default <T> Stream<T> mapStream(Stream<?> sources, Class<T> destinationClass) throws MappingException {
+    return mapStream(sources, destinationClass, null);
+  }
+
+  /**
+   * Lazily maps elements of the source stream to new instances of destinationClass.
+   *
+   * @param sources
+   * @param destinationClass
+   * @param mapId
+   * @param <T>
+   * @return stream of mapped objects
+   * @throws MappingException
+   * @see #mapStream(Stream, Class)
+   */
+  default <T> Stream<T> mapStream(Stream<?> sources, Class<T> destinationClass, String mapId)
+      throws MappingException {
+    return sources.map(source -> source != null ? map(source, destinationClass, mapId) : null);
+  }
+
+  /**
+   * Lazily maps elements of the source iterator to new instances of destinationClass, as if each of them was passed
+   * to {@link #map(Object, Class)}. Null elements are mapped to null. An element is mapped when it is returned by
+   * the iterator, and mapped objects are not retained by the mapper.
+   *
+   * @param sources
+   * @param destinationClass
+   * @param <T>
+   * @return iterator of mapped objects
+   * @throws MappingException
+   */
+  default <T> Iterator<T> mapIterator(Iterator<?> sources, Class<T> destinationClass) throws MappingException {
+    return mapIterator(sources, destinationClass, null);
+  }
+
+  /**
+   * Lazily maps elements of the source iterator to new instances of destinationClass.
+   *
+   * @param sources
+   * @param destinationClass
+   * @param mapId
+   * @param <T>
+   * @return iterator of mapped objects
+   * @throws MappingException
+   * @see #mapIterator(Iterator, Class)
+   */
+  default <T> Iterator<T> mapIterator(final Iterator<?> sources, final Class<T> destinationClass, final String mapId)
+      throws MappingException {
+    return new Iterator<T>() {
+      public boolean hasNext() {
+        return sources.hasNext();
+      }
+
+      public T next() {
+        Object source = sources.next();
+        return source != null ? map(source, destinationClass, mapId) : null;
+      }
+
+      public void remove() {
+        sources.remove();
+      }
+    };
+  }
+
 }
\ No newline at end of file
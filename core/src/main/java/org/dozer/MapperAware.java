@@ -17,7 +17,8 @@ package org.dozer;
 
 /**
  * Interface that gives an ability to receive mapper instance inside {@link org.dozer.CustomConverter}.
- * Dozer will inject mapper object before executing custom converter logic.
+ * Dozer injects the mapper once, before the first conversion. Mappings done with it while converting are part of
+ * the mapping which invoked the converter.
  *
  * @author dmitry.buzdin
  */
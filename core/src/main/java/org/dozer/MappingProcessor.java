@@ -16,7 +16,6 @@
 package org.dozer;
 
 import static org.dozer.util.DozerConstants.BASE_CLASS;
-import static org.dozer.util.DozerConstants.ITERATE;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
@@ -24,7 +23,6 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
@@ -32,12 +30,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.apache.commons.lang3.StringUtils;
 import org.dozer.builder.BuilderUtil;
 import org.dozer.builder.DestBeanBuilderCreator;
 import org.dozer.cache.Cache;
-import org.dozer.cache.CacheKeyFactory;
 import org.dozer.cache.CacheManager;
 import org.dozer.cache.DozerCacheType;
 import org.dozer.classmap.ClassMap;
@@ -46,6 +44,7 @@ import org.dozer.classmap.ClassMappings;
 import org.dozer.classmap.Configuration;
 import org.dozer.classmap.CopyByReferenceContainer;
 import org.dozer.classmap.RelationshipType;
+import org.dozer.config.GlobalSettings;
 import org.dozer.converters.DateFormatContainer;
 import org.dozer.converters.PrimitiveOrWrapperConverter;
 import org.dozer.event.DozerEvent;
@@ -55,19 +54,26 @@ import org.dozer.event.EventManager;
 import org.dozer.factory.BeanCreationDirective;
 import org.dozer.factory.DestBeanCreator;
 import org.dozer.fieldmap.CustomGetSetMethodFieldMap;
-import org.dozer.fieldmap.ExcludeFieldMap;
 import org.dozer.fieldmap.FieldMap;
 import org.dozer.fieldmap.HintContainer;
 import org.dozer.fieldmap.MapFieldMap;
+import org.dozer.jfr.FlightRecording;
+import org.dozer.plan.GeneratedMapper;
+import org.dozer.plan.GeneratedMapperException;
+import org.dozer.plan.MappingPlan;
+import org.dozer.plan.MappingPlanCache;
+import org.dozer.plan.MappingStep;
+import org.dozer.stats.MappingProfiler;
 import org.dozer.stats.StatisticType;
 import org.dozer.stats.StatisticsManager;
 import org.dozer.util.CollectionUtils;
 import org.dozer.util.DozerConstants;
+import org.dozer.util.EnumTranslator;
 import org.dozer.util.IteratorUtils;
 import org.dozer.util.LogMsgFactory;
 import org.dozer.util.MappingUtils;
 import org.dozer.util.MappingValidator;
-import org.dozer.util.ReflectionUtils;
+import org.dozer.util.UnmatchedEnumPolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -90,32 +96,52 @@ public class MappingProcessor implements Mapper {
 
   private final ClassMappings classMappings;
   private final Configuration globalConfiguration;
-  private final List<CustomConverter> customConverterObjects;
   private final Map<String, CustomConverter> customConverterObjectsWithId;
   private final StatisticsManager statsMgr;
   private final EventManager eventMgr;
   private final CustomFieldMapper customFieldMapper;
 
   private final MappedFieldsTracker mappedFields = new MappedFieldsTracker();
+  // Converters of the bean mapper, bound when its mappings are loaded
+  private final CustomConverterRegistry converters;
+  // Number of mappings in progress, nested ones are started by MapperAware custom converters
+  private int depth;
+  private boolean reusable;
+  // Turned off while mapping below a tree mapping, whose objects are neither recorded nor looked up
+  private boolean tracking = true;
 
   private final Cache converterByDestTypeCache;
-  private final Cache superTypeCache;
+  private final MappingPlanCache mappingPlans;
+  // Generated mappers bypass per field hooks, so they are only used when no hooks are registered
+  private final boolean generatedMappersAllowed;
   private final PrimitiveOrWrapperConverter primitiveConverter = new PrimitiveOrWrapperConverter();
   private final LogMsgFactory logMsgFactory = new LogMsgFactory();
+  private final UnmatchedEnumPolicy unmatchedEnumPolicy = GlobalSettings.getInstance().getUnmatchedEnumPolicy();
+  private final MappingProfiler profiler = MappingProfiler.getInstance();
 
   protected MappingProcessor(ClassMappings classMappings, Configuration globalConfiguration, CacheManager cacheMgr,
                              StatisticsManager statsMgr, List<CustomConverter> customConverterObjects,
                              DozerEventManager eventManager, CustomFieldMapper customFieldMapper,
-                             Map<String, CustomConverter> customConverterObjectsWithId) {
+                             Map<String, CustomConverter> customConverterObjectsWithId, MappingPlanCache mappingPlans) {
+    this(classMappings, globalConfiguration, cacheMgr, statsMgr, eventManager, customFieldMapper,
+        customConverterObjectsWithId, mappingPlans, new CustomConverterRegistry(classMappings, globalConfiguration,
+            customConverterObjects, customConverterObjectsWithId, null));
+  }
+
+  MappingProcessor(ClassMappings classMappings, Configuration globalConfiguration, CacheManager cacheMgr,
+                   StatisticsManager statsMgr, DozerEventManager eventManager, CustomFieldMapper customFieldMapper,
+                   Map<String, CustomConverter> customConverterObjectsWithId, MappingPlanCache mappingPlans,
+                   CustomConverterRegistry converters) {
     this.classMappings = classMappings;
     this.globalConfiguration = globalConfiguration;
     this.statsMgr = statsMgr;
-    this.customConverterObjects = customConverterObjects;
+    this.converters = converters;
     this.eventMgr = eventManager;
     this.customFieldMapper = customFieldMapper;
     this.converterByDestTypeCache = cacheMgr.getCache(DozerCacheType.CONVERTER_BY_DEST_TYPE.name());
-    this.superTypeCache = cacheMgr.getCache(DozerCacheType.SUPER_TYPE_CHECK.name());
     this.customConverterObjectsWithId = customConverterObjectsWithId;
+    this.mappingPlans = mappingPlans;
+    this.generatedMappersAllowed = customFieldMapper == null && !eventManager.hasListeners();
   }
 
   /* Mapper Interface Implementation */
@@ -126,7 +152,7 @@ public class MappingProcessor implements Mapper {
 
   public <T> T map(final Object srcObj, final Class<T> destClass, final String mapId) {
     MappingValidator.validateMappingRequest(srcObj, destClass);
-    return mapGeneral(srcObj, destClass, null, mapId);
+    return mapGeneral(srcObj, destClass, null, mapId, null);
   }
 
   public void map(final Object srcObj, final Object destObj) {
@@ -135,10 +161,44 @@ public class MappingProcessor implements Mapper {
 
   public void map(final Object srcObj, final Object destObj, final String mapId) {
     MappingValidator.validateMappingRequest(srcObj, destObj);
-    mapGeneral(srcObj, null, destObj, mapId);
+    mapGeneral(srcObj, null, destObj, mapId, null);
+  }
+
+  public <T> void mapAll(Collection<?> sources, Collection<? super T> destinations, Class<T> destClass,
+                         String mapId) {
+    MappingValidator.validateMappingRequest(sources, destClass);
+    SequenceMapping<T> mapping = new SequenceMapping<T>(destClass, mapId);
+    for (Object source : sources) {
+      destinations.add(mapping.apply(source));
+    }
+  }
+
+  public <T> Iterator<T> mapIterator(final Iterator<?> sources, Class<T> destClass, String mapId) {
+    MappingValidator.validateMappingRequest(sources, destClass);
+    final SequenceMapping<T> mapping = new SequenceMapping<T>(destClass, mapId);
+    return new Iterator<T>() {
+      public boolean hasNext() {
+        return sources.hasNext();
+      }
+
+      public T next() {
+        return mapping.apply(sources.next());
+      }
+
+      public void remove() {
+        sources.remove();
+      }
+    };
   }
   /* End of Mapper Interface Implementation */
 
+  /**
+   * @return function mapping each source as a top level object, to be applied by the thread owning the processor
+   */
+  <T> Function<Object, T> sequenceMapping(Class<T> destClass, String mapId) {
+    return new SequenceMapping<T>(destClass, mapId);
+  }
+
   /**
    * Single point of entry for atomic mapping operations
    *
@@ -146,10 +206,61 @@ public class MappingProcessor implements Mapper {
    * @param destClass destination class
    * @param destObj   destination object
    * @param mapId     mapping identifier
+   * @param classMap  class map resolved by the caller, or null to look it up
    * @param <T>       destination object type
    * @return new or updated destination object
    */
-  private <T> T mapGeneral(Object srcObj, final Class<T> destClass, final T destObj, final String mapId) {
+  private <T> T mapGeneral(Object srcObj, final Class<T> destClass, final T destObj, final String mapId,
+                           ClassMap classMap) {
+    // Only top level mappings are timed, nested ones are part of them
+    boolean timed = depth == 0 && statsMgr.isStatisticsEnabled();
+    long start = timed ? System.nanoTime() : 0;
+    Object recorded = FlightRecording.beginMapping();
+    depth++;
+    try {
+      T result = mapGeneralInternal(srcObj, destClass, destObj, mapId, classMap);
+      FlightRecording.endMapping(recorded, srcObj.getClass(), destClass != null ? destClass : destObj.getClass(), mapId,
+          depth == 1);
+      if (timed) {
+        statsMgr.recordMappingTime(srcObj.getClass(), destClass != null ? destClass : destObj.getClass(),
+            System.nanoTime() - start);
+      }
+      return result;
+    } catch (RuntimeException e) {
+      if (timed) {
+        recordMappingFailure(srcObj, destClass != null ? destClass : destObj.getClass(), e);
+      }
+      throw e;
+    } finally {
+      // Reusable processor behaves as a new one for each top level mapping
+      if (--depth == 0 && reusable) {
+        mappedFields.clear();
+      }
+    }
+  }
+
+  private void recordMappingFailure(Object srcObj, Class<?> destClass, Throwable e) {
+    statsMgr.increment(StatisticType.MAPPING_FAILURE_COUNT);
+    statsMgr.increment(StatisticType.MAPPING_FAILURE_EX_TYPE_COUNT, MappingUtils.getRootCause(e).getClass());
+    // The combination of src and dest class name is the statistic entry key
+    statsMgr.increment(StatisticType.MAPPING_FAILURE_TYPE_COUNT,
+        srcObj.getClass().getName() + "-->" + destClass.getName());
+  }
+
+  /**
+   * Marks the processor to be reused for subsequent mappings. Objects mapped by one top level mapping are not
+   * referenced by the next one.
+   */
+  void setReusable(boolean reusable) {
+    this.reusable = reusable;
+  }
+
+  boolean isInUse() {
+    return depth > 0;
+  }
+
+  private <T> T mapGeneralInternal(Object srcObj, final Class<T> destClass, final T destObj, final String mapId,
+                                   ClassMap classMap) {
     srcObj = MappingUtils.deProxy(srcObj);
 
     Class<T> destType;
@@ -162,20 +273,21 @@ public class MappingProcessor implements Mapper {
       result = null;
     }
 
-    ClassMap classMap = null;
     try {
-      classMap = getClassMap(srcObj.getClass(), destType, mapId);
+      if (classMap == null) {
+        classMap = getClassMap(srcObj.getClass(), destType, mapId);
+      }
 
-      eventMgr.fireEvent(new DozerEvent(DozerEventType.MAPPING_STARTED, classMap, null, srcObj, result, null));
+      if (eventMgr.isInterested(DozerEventType.MAPPING_STARTED, classMap, null)) {
+        eventMgr.fireEvent(new DozerEvent(DozerEventType.MAPPING_STARTED, classMap, null, srcObj, result, null));
+      }
 
       // TODO Check if any proxy issues are here
       // Check to see if custom converter has been specified for this mapping
       // combination. If so, just use it.
-      Class<?> converterClass = MappingUtils.findCustomConverter(converterByDestTypeCache, classMap.getCustomConverters(), srcObj
-          .getClass(), destType);
-
+      Class<?> converterClass = mappingPlans.getPlan(classMap, srcObj.getClass(), destType).getConverterClass();
 
-      if (destObj == null) {
+      if (destObj == null && tracking) {
         // If this is a nested MapperAware conversion this mapping can be already processed
         // but we can do this optimization only in case of no destObject, instead we must copy to the dest object
         Object alreadyMappedValue = mappedFields.getMappedValue(srcObj, destType, mapId);
@@ -192,39 +304,40 @@ public class MappingProcessor implements Mapper {
               new BeanCreationDirective(srcObj, classMap.getSrcClassToMap(), classMap.getDestClassToMap(), destType,
               classMap.getDestClassBeanFactory(), classMap.getDestClassBeanFactoryId(), classMap.getDestClassCreateMethod());
 
-      result = createByCreationDirectiveAndMap(creationDirective, classMap, srcObj, result, false, null);
+      result = createByCreationDirectiveAndMap(creationDirective, classMap, srcObj, result, null);
     } catch (Throwable e) {
       MappingUtils.throwMappingException(e);
     }
-    eventMgr.fireEvent(new DozerEvent(DozerEventType.MAPPING_FINISHED, classMap, null, srcObj, result, null));
+    if (eventMgr.isInterested(DozerEventType.MAPPING_FINISHED, classMap, null)) {
+      eventMgr.fireEvent(new DozerEvent(DozerEventType.MAPPING_FINISHED, classMap, null, srcObj, result, null));
+    }
 
     return result;
   }
 
   /**
    * Create builder or target object if needed and call
-   * {@link MappingProcessor#mapToDestObject(org.dozer.classmap.ClassMap, Object, Object, boolean, String)} function with
-   * arguments {@code classMap}, {@code srcObj}, {@code result}, {@code bypassSuperMappings}, {@code mapId}
+   * {@link MappingProcessor#mapToDestObject(org.dozer.classmap.ClassMap, Object, Object, String)} function with
+   * arguments {@code classMap}, {@code srcObj}, {@code result}, {@code mapId}
    * @param creationDirective   directive for concrete mapping (based mostly on {@code classMap})
    * @param classMap            class map information for concrete class
    * @param srcObj              source object
    * @param result              target entity for mapping
-   * @param bypassSuperMappings //TODO
    * @param mapId               mapping identifier
    * @return                    result or created target entity for mapping
    */
-  private <T> T createByCreationDirectiveAndMap(BeanCreationDirective creationDirective, ClassMap classMap, Object srcObj, T result, boolean bypassSuperMappings, String mapId) {
+  private <T> T createByCreationDirectiveAndMap(BeanCreationDirective creationDirective, ClassMap classMap, Object srcObj, T result, String mapId) {
     if (result == null) {
       BeanBuilder beanBuilder = DestBeanBuilderCreator.create(creationDirective);
       if (beanBuilder == null) {
         result = (T) DestBeanCreator.create(creationDirective);
-        mapToDestObject(classMap, srcObj, result, bypassSuperMappings, mapId);
+        mapToDestObject(classMap, srcObj, result, mapId);
       } else {
-        mapToDestObject(classMap, srcObj, beanBuilder, bypassSuperMappings, mapId);
+        mapToDestObject(classMap, srcObj, beanBuilder, mapId);
         result = (T) beanBuilder.build();
       }
     } else {
-      mapToDestObject(classMap, srcObj, result, bypassSuperMappings, mapId);
+      mapToDestObject(classMap, srcObj, result, mapId);
     }
     return result;
   }
@@ -234,28 +347,21 @@ public class MappingProcessor implements Mapper {
    * @param classMap            object with mapping configuration
    * @param srcObj              source object
    * @param destObj             destination object
-   * @param bypassSuperMappings //TODO
    * @param mapId               mapping identifier
    */
-  private void mapToDestObject(ClassMap classMap, Object srcObj, Object destObj, boolean bypassSuperMappings, String mapId) {
+  private void mapToDestObject(ClassMap classMap, Object srcObj, Object destObj, String mapId) {
 	Object result = destObj;
 	if(javax.xml.bind.JAXBElement.class.isAssignableFrom(destObj.getClass())){
 	  classMap = getClassMap(srcObj.getClass(), javax.xml.bind.JAXBElement.class.cast(destObj).getDeclaredType(), mapId);
 	  result = javax.xml.bind.JAXBElement.class.cast(destObj).getValue();
 	}
 
-	map(classMap, srcObj, result, bypassSuperMappings, new ArrayList<String>(), mapId);
+	map(classMap, srcObj, result, mapId);
   }
 
-  private void map(ClassMap classMap, Object srcObj, Object destObj, boolean bypassSuperMappings, List<String> mappedParentFields, String mapId) {
+  private void map(ClassMap classMap, Object srcObj, Object destObj, String mapId) {
     srcObj = MappingUtils.deProxy(srcObj);
 
-    // 1596766 - Recursive object mapping issue. Prevent recursive mapping
-    // infinite loop. Keep a record of mapped fields
-    // by storing the id of the sourceObj and the destObj to be mapped. This can
-    // be referred to later to avoid recursive mapping loops
-    mappedFields.put(srcObj, destObj, mapId);
-
     // If class map hasn't already been determined, find the appropriate one for
     // the src/dest object combination
     if (classMap == null) {
@@ -265,37 +371,69 @@ public class MappingProcessor implements Mapper {
     Class<?> srcClass = srcObj.getClass();
     Class<?> destClass = destObj.getClass();
 
-    // Check to see if custom converter has been specified for this mapping
-    // combination. If so, just use it.
-    Class<?> converterClass = MappingUtils.findCustomConverter(converterByDestTypeCache, classMap.getCustomConverters(), srcClass,
-        destClass);
-    if (converterClass != null) {
-      mapUsingCustomConverter(converterClass, srcClass, srcObj, destClass, destObj, null, true);
-      return;
+    // Custom converter, super class mappings and excluded fields are already resolved by the plan
+    MappingPlan plan = mappingPlans.getPlan(classMap, srcClass, destClass);
+
+    boolean parentTracking = tracking;
+    if (plan.isTree()) {
+      tracking = false;
+    } else if (tracking) {
+      // 1596766 - Recursive object mapping issue. Prevent recursive mapping
+      // infinite loop. Keep a record of mapped fields
+      // by storing the id of the sourceObj and the destObj to be mapped. This can
+      // be referred to later to avoid recursive mapping loops
+      mappedFields.put(srcObj, destObj, mapId);
+    }
+    boolean profiled = profiler.isEnabled();
+    long startNanos = profiled ? System.nanoTime() : 0;
+    long startBytes = profiled ? profiler.getAllocatedBytes() : 0;
+    try {
+      mapUsingPlan(plan, srcObj, destObj);
+    } finally {
+      tracking = parentTracking;
+      if (profiled) {
+        profiler.recordClassMapping(classMap, System.nanoTime() - startNanos, profiler.getAllocatedBytes() - startBytes);
+      }
     }
+  }
 
-    // Now check for super class mappings.  Process super class mappings first.
-    if (!bypassSuperMappings) {
-      Collection<ClassMap> superMappings = new ArrayList<ClassMap>();
-
-      Collection<ClassMap> superClasses = checkForSuperTypeMapping(srcClass, destClass);
-      //List<ClassMap> interfaceMappings = classMappings.findInterfaceMappings(srcClass, destClass);
+  private void mapUsingPlan(MappingPlan plan, Object srcObj, Object destObj) {
+    Class<?> srcClass = plan.getSrcClass();
+    Class<?> destClass = plan.getDestClass();
+    if (plan.getConverterClass() != null) {
+      mapUsingCustomConverter(plan.getConverterClass(), srcClass, srcObj, destClass, destObj, null, true);
+      return;
+    }
 
-      superMappings.addAll(superClasses);
-      //superMappings.addAll(interfaceMappings);
-      if (!superMappings.isEmpty()) {
-        processSuperTypeMapping(superMappings, srcObj, destObj, mappedParentFields, mapId);
+    int firstStep = 0;
+    GeneratedMapper generatedMapper = plan.getGeneratedMapper();
+    // Profiles are recorded per field, which generated mappers do not report
+    if (generatedMapper != null && generatedMappersAllowed && !log.isDebugEnabled() && !profiler.isEnabled()) {
+      try {
+        generatedMapper.map(srcObj, destObj);
+        statsMgr.increment(StatisticType.FIELD_MAPPING_SUCCESS_COUNT, plan.getStepCount());
+        return;
+      } catch (GeneratedMapperException e) {
+        // Steps before the failed one are mapped. The failure is handled as if the field was mapped by reflection,
+        // which wraps exceptions of accessors, and the remaining steps are mapped field by field.
+        int failedStep = e.getStep();
+        if (failedStep > 0) {
+          statsMgr.increment(StatisticType.FIELD_MAPPING_SUCCESS_COUNT, failedStep);
+        }
+        handleFieldMappingError(plan.getStep(failedStep).getFieldMap(), srcObj, null, destObj,
+            new MappingException(new InvocationTargetException(e.getCause())));
+        firstStep = failedStep + 1;
       }
     }
 
-    // Perform mappings for each field. Iterate through Fields Maps for this class mapping
-    for (FieldMap fieldMapping : classMap.getFieldMaps()) {
-      //Bypass field if it has already been mapped as part of super class mappings.
-      String key = MappingUtils.getMappedParentFieldKey(destObj, fieldMapping);
-      if (mappedParentFields != null && mappedParentFields.contains(key)) {
-        continue;
+    // Perform mappings for each step. Steps of super class mappings come first.
+    for (int i = firstStep; i < plan.getStepCount(); i++) {
+      MappingStep step = plan.getStep(i);
+      if (step.isConverter()) {
+        mapUsingCustomConverter(step.getConverterClass(), srcClass, srcObj, destClass, destObj, null, true);
+      } else {
+        mapField(step, srcObj, destObj);
       }
-      mapField(fieldMapping, srcObj, destObj);
     }
   }
 
@@ -303,18 +441,29 @@ public class MappingProcessor implements Mapper {
    * Perform mapping of a field.
    * Uses {@link #mapFromFieldMap(Object, Object, Object, FieldMap)} to do the real work, unless
    * if iterate, where {@link #mapFromIterateMethodFieldMap(Object, Object, Object, FieldMap)} is used. 
+   * The mapping is timed if profiling is enabled.
    * 
-   * @param fieldMapping Field mapping.
+   * @param step Precompiled field mapping step.
    * @param srcObj Source object.
    * @param destObj Destination object.
    */
-  private void mapField(FieldMap fieldMapping, Object srcObj, Object destObj) {
-
-    // The field has been explicitly excluded from mapping. So just return, as
-    // no further processing is needed for this field
-    if (fieldMapping instanceof ExcludeFieldMap) {
+  private void mapField(MappingStep step, Object srcObj, Object destObj) {
+    if (!profiler.isEnabled()) {
+      mapFieldUnprofiled(step, srcObj, destObj);
       return;
     }
+    long startNanos = System.nanoTime();
+    long startBytes = profiler.getAllocatedBytes();
+    try {
+      mapFieldUnprofiled(step, srcObj, destObj);
+    } finally {
+      profiler.recordFieldMapping(step.getFieldMap(), System.nanoTime() - startNanos,
+          profiler.getAllocatedBytes() - startBytes);
+    }
+  }
+
+  private void mapFieldUnprofiled(MappingStep step, Object srcObj, Object destObj) {
+    FieldMap fieldMapping = step.getFieldMap();
 
     Object srcFieldValue = null;
     try {
@@ -329,7 +478,7 @@ public class MappingProcessor implements Mapper {
       }
 
       if (!fieldMapped) {
-        if (fieldMapping.getDestFieldType() != null && ITERATE.equals(fieldMapping.getDestFieldType())) {
+        if (step.isIterate()) {
           // special logic for iterate feature
           mapFromIterateMethodFieldMap(srcObj, destObj, srcFieldValue, fieldMapping);
         } else {
@@ -342,23 +491,28 @@ public class MappingProcessor implements Mapper {
       statsMgr.increment(StatisticType.FIELD_MAPPING_SUCCESS_COUNT);
 
     } catch (Throwable e) {
-      log.error(logMsgFactory.createFieldMappingErrorMsg(srcObj, fieldMapping, srcFieldValue, destObj), e);
-      statsMgr.increment(StatisticType.FIELD_MAPPING_FAILURE_COUNT);
+      handleFieldMappingError(fieldMapping, srcObj, srcFieldValue, destObj, e);
+    }
+  }
 
-      // check error handling policy.
-      if (fieldMapping.isStopOnErrors()) {
-        MappingUtils.throwMappingException(e);
-      } else {
-        // check if any Exceptions should be allowed to be thrown
-        if (!fieldMapping.getClassMap().getAllowedExceptions().isEmpty() && e.getCause() instanceof InvocationTargetException) {
-          Throwable thrownType = ((InvocationTargetException) e.getCause()).getTargetException();
-          Class<? extends Throwable> exceptionClass = thrownType.getClass();
-          if (fieldMapping.getClassMap().getAllowedExceptions().contains(exceptionClass)) {
-            throw (RuntimeException) thrownType;
-          }
+  private void handleFieldMappingError(FieldMap fieldMapping, Object srcObj, Object srcFieldValue, Object destObj,
+                                       Throwable e) {
+    log.error(logMsgFactory.createFieldMappingErrorMsg(srcObj, fieldMapping, srcFieldValue, destObj), e);
+    statsMgr.increment(StatisticType.FIELD_MAPPING_FAILURE_COUNT);
+
+    // check error handling policy.
+    if (fieldMapping.isStopOnErrors()) {
+      MappingUtils.throwMappingException(e);
+    } else {
+      // check if any Exceptions should be allowed to be thrown
+      if (!fieldMapping.getClassMap().getAllowedExceptions().isEmpty() && e.getCause() instanceof InvocationTargetException) {
+        Throwable thrownType = ((InvocationTargetException) e.getCause()).getTargetException();
+        Class<? extends Throwable> exceptionClass = thrownType.getClass();
+        if (fieldMapping.getClassMap().getAllowedExceptions().contains(exceptionClass)) {
+          throw (RuntimeException) thrownType;
         }
-        statsMgr.increment(StatisticType.FIELD_MAPPING_FAILURE_IGNORED_COUNT);
       }
+      statsMgr.increment(StatisticType.FIELD_MAPPING_FAILURE_IGNORED_COUNT);
     }
   }
 
@@ -384,7 +538,7 @@ public class MappingProcessor implements Mapper {
       if (customConverterObjectsWithId != null && customConverterObjectsWithId.containsKey(fieldMapping.getCustomConverterId())) {
         Class<?> srcFieldClass = srcFieldValue != null ? srcFieldValue.getClass() : fieldMapping.getSrcFieldType(srcObj.getClass());
         destFieldValue = mapUsingCustomConverterInstance(customConverterObjectsWithId.get(fieldMapping.getCustomConverterId()),
-            srcFieldClass, srcFieldValue, destFieldType, destObj, fieldMapping, false);
+            srcFieldClass, srcFieldValue, destFieldType, destObj, fieldMapping, false, true);
       } else {
         throw new MappingException("CustomConverter instance not found with id:" + fieldMapping.getCustomConverterId());
       }
@@ -392,7 +546,7 @@ public class MappingProcessor implements Mapper {
       destFieldValue = mapOrRecurseObject(srcObj, srcFieldValue, destFieldType, fieldMapping, destObj);
     } else {
       Class<?> srcFieldClass = srcFieldValue != null ? srcFieldValue.getClass() : fieldMapping.getSrcFieldType(srcObj.getClass());
-      destFieldValue = mapUsingCustomConverter(MappingUtils.loadClass(fieldMapping.getCustomConverter()), srcFieldClass,
+      destFieldValue = mapUsingCustomConverter(fieldMapping.getCustomConverterClass(), srcFieldClass,
           srcFieldValue, destFieldType, destObj, fieldMapping, false);
     }
 
@@ -427,7 +581,8 @@ public class MappingProcessor implements Mapper {
     // infinite loop
     // In case of "this->this" mapping this rule should be omitted as processing is done on objects, which has been
     // just marked as mapped.
-    if (!(DozerConstants.SELF_KEYWORD.equals(srcFieldName) && DozerConstants.SELF_KEYWORD.equals(destFieldName))) {
+    if (tracking
+        && !(DozerConstants.SELF_KEYWORD.equals(srcFieldName) && DozerConstants.SELF_KEYWORD.equals(destFieldName))) {
       Object alreadyMappedValue = mappedFields.getMappedValue(srcFieldValue, destFieldType, fieldMap.getMapId());
       if (alreadyMappedValue != null) {
         return alreadyMappedValue;
@@ -461,7 +616,7 @@ public class MappingProcessor implements Mapper {
         convertSrcFieldValue = ((String) srcFieldValue).trim();
       }
 
-      DateFormatContainer dfContainer = new DateFormatContainer(fieldMap.getDateFormat());
+      DateFormatContainer dfContainer = DateFormatContainer.forPattern(fieldMap.getDateFormat());
 
       if (fieldMap instanceof MapFieldMap && !primitiveConverter.accepts(destFieldType)) {
         // This handles a very special/rare use case(see indexMapping.xml + unit
@@ -497,8 +652,7 @@ public class MappingProcessor implements Mapper {
   }
 
   private <T extends Enum<T>> T mapEnum(Enum<T> srcFieldValue, Class<T> destFieldType) {
-    String name = srcFieldValue.name();
-    return Enum.valueOf(destFieldType, name);
+    return EnumTranslator.translate(srcFieldValue, destFieldType, unmatchedEnumPolicy);
   }
 
   private Object mapCustomObject(FieldMap fieldMap, Object destObj, Class<?> destFieldType, String destFieldName, Object srcFieldValue) {
@@ -534,15 +688,19 @@ public class MappingProcessor implements Mapper {
       } else {
         targetClass = destFieldType;
       }
+      Object recorded = FlightRecording.beginMapping();
       ClassMap classMap = getClassMap(srcFieldValue.getClass(), targetClass, mapId);
 
       BeanCreationDirective creationDirective = new BeanCreationDirective(srcFieldValue, classMap.getSrcClassToMap(), classMap.getDestClassToMap(),
               destFieldType, classMap.getDestClassBeanFactory(), classMap.getDestClassBeanFactoryId(),
               fieldMap.getDestFieldCreateMethod() != null ? fieldMap.getDestFieldCreateMethod() : classMap.getDestClassCreateMethod(), destObj, destFieldName);
 
-      result = createByCreationDirectiveAndMap(creationDirective, classMap, srcFieldValue, null, false, fieldMap.getMapId());
+      result = createByCreationDirectiveAndMap(creationDirective, classMap, srcFieldValue, null, fieldMap.getMapId());
+      FlightRecording.endMapping(recorded, srcFieldValue.getClass(), targetClass, mapId, false);
     } else {
-      mapToDestObject(null, srcFieldValue, result, false, fieldMap.getMapId());
+      Object recorded = FlightRecording.beginMapping();
+      mapToDestObject(null, srcFieldValue, result, fieldMap.getMapId());
+      FlightRecording.endMapping(recorded, srcFieldValue.getClass(), result.getClass(), fieldMap.getMapId(), false);
     }
 
     return result;
@@ -636,7 +794,7 @@ public class MappingProcessor implements Mapper {
       Object destEntryValue = mapOrRecurseObject(srcObj, srcEntryValue, srcEntryValue.getClass(), fieldMap, destObj);
       Object obj = result.get(srcEntry.getKey());
       if (obj != null && obj.equals(destEntryValue) && fieldMap.isNonCumulativeRelationship()) {
-        mapToDestObject(null, srcEntryValue, obj, false, null);
+        mapToDestObject(null, srcEntryValue, obj, null);
       } else {
         result.put(srcEntry.getKey(), destEntryValue);
       }
@@ -797,7 +955,7 @@ public class MappingProcessor implements Mapper {
         Object obj = resultAsList.get(index);
         // make sure it is not a String
         if (!obj.getClass().isAssignableFrom(String.class)) {
-          mapToDestObject(null, srcValue, obj, false, fieldMap.getMapId());
+          mapToDestObject(null, srcValue, obj, fieldMap.getMapId());
           mappedElements.add(obj);
         }
       } else {
@@ -859,7 +1017,7 @@ public class MappingProcessor implements Mapper {
         Object obj = result.get(index);
         // make sure it is not a String
         if (obj != null && !obj.getClass().isAssignableFrom(String.class)) {
-          mapToDestObject(null, srcValue, obj, false, fieldMap.getMapId());
+          mapToDestObject(null, srcValue, obj, fieldMap.getMapId());
           mappedElements.add(obj);
         }
       } else {
@@ -964,61 +1122,77 @@ public class MappingProcessor implements Mapper {
     }
 
     if (!bypass) {
-      eventMgr.fireEvent(new DozerEvent(DozerEventType.MAPPING_PRE_WRITING_DEST_VALUE, fieldMap.getClassMap(), fieldMap, srcObj,
-          destObj, destFieldValue));
+      if (eventMgr.isInterested(DozerEventType.MAPPING_PRE_WRITING_DEST_VALUE, fieldMap.getClassMap(), fieldMap)) {
+        eventMgr.fireEvent(new DozerEvent(DozerEventType.MAPPING_PRE_WRITING_DEST_VALUE, fieldMap.getClassMap(), fieldMap,
+            srcObj, destObj, destFieldValue));
+      }
 
       fieldMap.writeDestValue(destObj, destFieldValue);
 
-      eventMgr.fireEvent(new DozerEvent(DozerEventType.MAPPING_POST_WRITING_DEST_VALUE, fieldMap.getClassMap(), fieldMap, srcObj,
-          destObj, destFieldValue));
+      if (eventMgr.isInterested(DozerEventType.MAPPING_POST_WRITING_DEST_VALUE, fieldMap.getClassMap(), fieldMap)) {
+        eventMgr.fireEvent(new DozerEvent(DozerEventType.MAPPING_POST_WRITING_DEST_VALUE, fieldMap.getClassMap(), fieldMap,
+            srcObj, destObj, destFieldValue));
+      }
     }
   }
 
   private Object mapUsingCustomConverterInstance(CustomConverter converterInstance, Class<?> srcFieldClass, Object srcFieldValue,
-                                                 Class<?> destFieldClass, Object existingDestFieldValue, FieldMap fieldMap, boolean topLevel) {
+                                                 Class<?> destFieldClass, Object existingDestFieldValue, FieldMap fieldMap, boolean topLevel,
+                                                 boolean shared) {
 
     //1792048 - If map-null = "false" and src value is null, then don't even invoke custom converter
     if (srcFieldValue == null && !fieldMap.isDestMapNull()) {
       return null;
     }
 
-    long start = System.currentTimeMillis();
+    long start = System.nanoTime();
+    Object recorded = FlightRecording.beginCustomConverter();
 
-    if (converterInstance instanceof MapperAware) {
-      ((MapperAware) converterInstance).setMapper(this);
+    // Nested mappings of the converter belong to this processor
+    MappingProcessor previous = null;
+    boolean mapperAware = converterInstance instanceof MapperAware;
+    if (mapperAware) {
+      previous = CustomConverterRegistry.enter(this);
     }
 
     // TODO Remove code duplication
     Object result;
-    if (converterInstance instanceof ConfigurableCustomConverter) {
-      ConfigurableCustomConverter theConverter = (ConfigurableCustomConverter) converterInstance;
+    try {
+      if (converterInstance instanceof ConfigurableCustomConverter) {
+        ConfigurableCustomConverter theConverter = (ConfigurableCustomConverter) converterInstance;
 
-      // Converter could be not configured for this particular case
-      if (fieldMap != null) {
-        String param = fieldMap.getCustomConverterParam();
-        theConverter.setParameter(param);
-      }
+        // Injected converters are shared by fields, so they get the parameter of the field for each conversion
+        if (shared && fieldMap != null) {
+          String param = fieldMap.getCustomConverterParam();
+          theConverter.setParameter(param);
+        }
 
-      // if this is a top level mapping the destObj is the highest level
-      // mapping...not a recursive mapping
-      if (topLevel) {
-        result = theConverter.convert(existingDestFieldValue, srcFieldValue, destFieldClass, srcFieldClass);
+        // if this is a top level mapping the destObj is the highest level
+        // mapping...not a recursive mapping
+        if (topLevel) {
+          result = theConverter.convert(existingDestFieldValue, srcFieldValue, destFieldClass, srcFieldClass);
+        } else {
+          Object existingValue = getExistingValue(fieldMap, existingDestFieldValue, destFieldClass);
+          result = theConverter.convert(existingValue, srcFieldValue, destFieldClass, srcFieldClass);
+        }
       } else {
-        Object existingValue = getExistingValue(fieldMap, existingDestFieldValue, destFieldClass);
-        result = theConverter.convert(existingValue, srcFieldValue, destFieldClass, srcFieldClass);
+        // if this is a top level mapping the destObj is the highest level
+        // mapping...not a recursive mapping
+        if (topLevel) {
+          result = converterInstance.convert(existingDestFieldValue, srcFieldValue, destFieldClass, srcFieldClass);
+        } else {
+          Object existingValue = getExistingValue(fieldMap, existingDestFieldValue, destFieldClass);
+          result = converterInstance.convert(existingValue, srcFieldValue, destFieldClass, srcFieldClass);
+        }
       }
-    } else {
-      // if this is a top level mapping the destObj is the highest level
-      // mapping...not a recursive mapping
-      if (topLevel) {
-        result = converterInstance.convert(existingDestFieldValue, srcFieldValue, destFieldClass, srcFieldClass);
-      } else {
-        Object existingValue = getExistingValue(fieldMap, existingDestFieldValue, destFieldClass);
-        result = converterInstance.convert(existingValue, srcFieldValue, destFieldClass, srcFieldClass);
+    } finally {
+      if (mapperAware) {
+        CustomConverterRegistry.exit(previous);
       }
     }
 
-    long stop = System.currentTimeMillis();
+    long stop = System.nanoTime();
+    FlightRecording.endCustomConverter(recorded, converterInstance.getClass(), srcFieldClass, destFieldClass);
     statsMgr.increment(StatisticType.CUSTOM_CONVERTER_SUCCESS_COUNT);
     statsMgr.increment(StatisticType.CUSTOM_CONVERTER_TIME, stop - start);
 
@@ -1029,78 +1203,10 @@ public class MappingProcessor implements Mapper {
 
   private Object mapUsingCustomConverter(Class<?> customConverterClass, Class<?> srcFieldClass, Object srcFieldValue,
                                          Class<?> destFieldClass, Object existingDestFieldValue, FieldMap fieldMap, boolean topLevel) {
-    CustomConverter converterInstance = null;
-    // search our injected customconverters for a match
-    if (customConverterObjects != null) {
-      for (CustomConverter customConverterObject : customConverterObjects) {
-        if (customConverterClass.isInstance(customConverterObject)) {
-          // we have a match
-          converterInstance = customConverterObject;
-        }
-      }
-    }
-    // if converter object instances were not injected, then create new instance
-    // of the converter for each conversion
-    // TODO : Should we really create it each time?
-    if (converterInstance == null) {
-      converterInstance = (CustomConverter) ReflectionUtils.newInstance(customConverterClass);
-    }
-    return mapUsingCustomConverterInstance(converterInstance, srcFieldClass, srcFieldValue, destFieldClass, existingDestFieldValue,
-        fieldMap, topLevel);
-  }
-
-  private Collection<ClassMap> checkForSuperTypeMapping(Class<?> srcClass, Class<?> destClass) {
-    // Check cache first
-    Object cacheKey = CacheKeyFactory.createKey(destClass, srcClass);
-    Collection<ClassMap> cachedResult = (Collection<ClassMap>) superTypeCache.get(cacheKey);
-    if (cachedResult != null) {
-      return cachedResult;
-    }
-
-    // If no existing cache entry is found, determine super type mappings.
-    // Recursively walk the inheritance hierarchy.
-    List<ClassMap> superClasses = new ArrayList<ClassMap>();
-    // Need to call getRealSuperclass because proxied data objects will not return correct
-    // superclass when using basic reflection
-
-    List<Class<?>> superSrcClasses = MappingUtils.getSuperClassesAndInterfaces(srcClass);
-    List<Class<?>> superDestClasses = MappingUtils.getSuperClassesAndInterfaces(destClass);
-
-    // add the actual classes to check for mappings between the original and the opposite 
-    // super classes
-    superSrcClasses.add(0, srcClass);
-    superDestClasses.add(0, destClass);
-
-    for (Class<?> superSrcClass : superSrcClasses) {
-      for (Class<?> superDestClass : superDestClasses) {
-        if (!(superSrcClass.equals(srcClass) && superDestClass.equals(destClass))) {
-          checkForClassMapping(superSrcClass, superClasses, superDestClass);
-        }
-      }
-    }
-
-    Collections.reverse(superClasses); // Done so base classes are processed first
-
-    superTypeCache.put(cacheKey, superClasses);
-
-    return superClasses;
-  }
-
-  private void checkForClassMapping(Class<?> srcClass, List<ClassMap> superClasses, Class<?> superDestClass) {
-    ClassMap srcClassMap = classMappings.find(srcClass, superDestClass);
-    if (srcClassMap != null) {
-      superClasses.add(srcClassMap);
-    }
-  }
-
-  private void processSuperTypeMapping(Collection<ClassMap> superClasses, Object srcObj, Object destObj, List<String> mappedParentFields, String mapId) {
-    for (ClassMap map : superClasses) {
-      map(map, srcObj, destObj, true, mappedParentFields ,mapId);
-      for (FieldMap fieldMapping : map.getFieldMaps()) {
-        String key = MappingUtils.getMappedParentFieldKey(destObj, fieldMapping);
-        mappedParentFields.add(key);
-      }
-    }
+    // injected converter of the class if there is one, otherwise the one bound to the class or the field on load
+    CustomConverter converterInstance = converters.getConverter(customConverterClass, fieldMap);
+    return mapUsingCustomConverterInstance(converterInstance, srcFieldClass, srcFieldValue, destFieldClass,
+        existingDestFieldValue, fieldMap, topLevel, converters.isInjected(converterInstance));
   }
 
   private static Object getExistingValue(FieldMap fieldMap, Object destObj, Class<?> destFieldType) {
@@ -1128,6 +1234,40 @@ public class MappingProcessor implements Mapper {
     return result;
   }
 
+  /**
+   * Maps a sequence of sources one by one. Sequences are usually homogeneous, so the class map is resolved again only
+   * when the source class changes.
+   */
+  private final class SequenceMapping<T> implements Function<Object, T> {
+
+    private final Class<T> destClass;
+    private final String mapId;
+    private Class<?> srcClass;
+    private ClassMap classMap;
+
+    SequenceMapping(Class<T> destClass, String mapId) {
+      this.destClass = destClass;
+      this.mapId = mapId;
+    }
+
+    public T apply(Object source) {
+      T result = null;
+      if (source != null) {
+        Object srcObj = MappingUtils.deProxy(source);
+        if (srcObj.getClass() != srcClass) {
+          srcClass = srcObj.getClass();
+          classMap = getClassMap(srcClass, destClass, mapId);
+        }
+        result = mapGeneral(srcObj, destClass, null, mapId, classMap);
+      }
+      // Each source is a top level mapping of its own, unless the sequence is mapped from within another mapping
+      if (depth == 0) {
+        mappedFields.clear();
+      }
+      return result;
+    }
+  }
+
   private ClassMap getClassMap(Class<?> srcClass, Class<?> destClass, String mapId) {
     ClassMap mapping = classMappings.find(srcClass, destClass, mapId);
 
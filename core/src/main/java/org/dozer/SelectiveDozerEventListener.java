@@ -0,0 +1,43 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer;
+
+import org.dozer.classmap.ClassMap;
+import org.dozer.event.DozerEventType;
+import org.dozer.fieldmap.FieldMap;
+
+/**
+ * Event listener which receives only the events it declares interest in. Dozer asks the listener before it creates
+ * an event, so mappings and fields nobody is interested in are mapped without creating any event objects. Listeners
+ * which do not implement this interface receive all events.
+ *
+ * <p>
+ * Interest is queried for every event, so implementations should answer quickly, e.g. by comparing the event type
+ * and the mapped classes or field names.
+ */
+public interface SelectiveDozerEventListener extends DozerEventListener {
+
+  /**
+   * Tells whether the listener wants to receive an event.
+   *
+   * @param eventType type of the event
+   * @param classMap class mapping which is mapped
+   * @param fieldMap field mapping which is written, null for mappingStarted and mappingFinished events
+   * @return true if the listener should receive the event
+   */
+  boolean isInterested(DozerEventType eventType, ClassMap classMap, FieldMap fieldMap);
+
+}
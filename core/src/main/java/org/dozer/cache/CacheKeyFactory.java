@@ -37,6 +37,14 @@ public final class CacheKeyFactory {
     return new CacheKey(srcClass, destClass, mapId);
   }
 
+  static Class<?> getSrcClass(Object key) {
+    return key instanceof CacheKey ? ((CacheKey) key).srcClass : null;
+  }
+
+  static Class<?> getDestClass(Object key) {
+    return key instanceof CacheKey ? ((CacheKey) key).destClass : null;
+  }
+
   private static class CacheKey {
 
     private Class<?> srcClass;
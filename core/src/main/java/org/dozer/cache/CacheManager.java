@@ -47,6 +47,17 @@ public interface CacheManager {
 
   void addCache(String cacheName, int maximumSize);
 
+  /**
+   * Registers a size bounded cache using the given eviction policy. Implementations which do not support the policy
+   * register their default cache.
+   * @param cacheName unique cache name
+   * @param maximumSize maximum number of entries
+   * @param policy eviction policy
+   */
+  default void addCache(String cacheName, int maximumSize, DozerCachePolicy policy) {
+    addCache(cacheName, maximumSize);
+  }
+
   boolean cacheExists(String cacheName);
 
 }
@@ -0,0 +1,178 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.cache;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.dozer.jfr.FlightRecording;
+import org.dozer.stats.Counter;
+import org.dozer.stats.GlobalStatistics;
+import org.dozer.stats.StatisticType;
+import org.dozer.stats.StatisticsManager;
+
+/**
+ * Internal size bounded cache which can be read concurrently without locking. Entries are evicted in insertion order,
+ * but an entry read since it was last passed over gets another chance, up to {@link #MAX_FREQUENCY} times. Frequently
+ * read entries thereby stay in the cache, while entries read once are evicted like in an LRU cache. Only writes which
+ * exceed the maximum size take a lock. Only intended for internal use.
+ */
+public class ConcurrentDozerCache<KeyType, ValueType> implements Cache<KeyType, ValueType> {
+
+  static final int MAX_FREQUENCY = 3;
+
+  private final String name;
+  private final int maximumSize;
+  private final ConcurrentMap<KeyType, Node<KeyType, ValueType>> cacheMap;
+  private final Queue<Node<KeyType, ValueType>> evictionQueue = new ConcurrentLinkedQueue<Node<KeyType, ValueType>>();
+  private final ReentrantLock evictionLock = new ReentrantLock();
+
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  public ConcurrentDozerCache(final String name, final int maximumSize) {
+    this(name, maximumSize, GlobalStatistics.getInstance().getStatsMgr());
+  }
+
+  /**
+   * @param statMgr statistics counting the hits and misses of the cache
+   */
+  public ConcurrentDozerCache(final String name, final int maximumSize, final StatisticsManager statMgr) {
+    if (maximumSize < 1) {
+      throw new IllegalArgumentException("Dozer cache max size must be greater than 0");
+    }
+    this.name = name;
+    this.hitCounter = statMgr.getCounter(StatisticType.CACHE_HIT_COUNT, name);
+    this.missCounter = statMgr.getCounter(StatisticType.CACHE_MISS_COUNT, name);
+    this.maximumSize = maximumSize;
+    this.cacheMap = new ConcurrentHashMap<KeyType, Node<KeyType, ValueType>>(Math.min(maximumSize, 1024));
+  }
+
+  public void clear() {
+    evictionLock.lock();
+    try {
+      cacheMap.clear();
+      evictionQueue.clear();
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  public void put(KeyType key, ValueType value) {
+    if (key == null) {
+      throw new IllegalArgumentException("Cache entry key cannot be null");
+    }
+    Node<KeyType, ValueType> node = cacheMap.get(key);
+    if (node == null) {
+      node = new Node<KeyType, ValueType>(key, value);
+      Node<KeyType, ValueType> existing = cacheMap.putIfAbsent(key, node);
+      if (existing == null) {
+        evictionQueue.offer(node);
+        if (cacheMap.size() > maximumSize) {
+          evict();
+        }
+        return;
+      }
+      node = existing;
+    }
+    node.value = value;
+  }
+
+  public ValueType get(KeyType key) {
+    if (key == null) {
+      throw new IllegalArgumentException("Key cannot be null");
+    }
+    Node<KeyType, ValueType> node = cacheMap.get(key);
+    if (node != null) {
+      // Racy increment is fine, the count is only a hint. It stops changing once saturated, so that hot entries
+      // are not written to by every reader.
+      if (node.frequency < MAX_FREQUENCY) {
+        node.frequency++;
+      }
+      hitCounter.increment();
+      return node.value;
+    } else {
+      missCounter.increment();
+      FlightRecording.cacheMiss(name, key);
+      return null;
+    }
+  }
+
+  private void evict() {
+    evictionLock.lock();
+    try {
+      while (cacheMap.size() > maximumSize) {
+        Node<KeyType, ValueType> node = evictionQueue.poll();
+        if (node == null) {
+          // Cleared concurrently
+          return;
+        }
+        if (node.frequency > 0) {
+          node.frequency--;
+          evictionQueue.offer(node);
+        } else {
+          cacheMap.remove(node.key, node);
+        }
+      }
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public long getSize() {
+    return cacheMap.size();
+  }
+
+  public long getMaxSize() {
+    return maximumSize;
+  }
+
+  public boolean containsKey(KeyType key) {
+    return cacheMap.containsKey(key);
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this, ToStringStyle.MULTI_LINE_STYLE)
+        .append("name", name)
+        .append("maximumSize", maximumSize)
+        .append("size", cacheMap.size())
+        .toString();
+  }
+
+  private static final class Node<KeyType, ValueType> {
+
+    private final KeyType key;
+    private volatile ValueType value;
+    private int frequency;
+
+    Node(KeyType key, ValueType value) {
+      this.key = key;
+      this.value = value;
+    }
+
+  }
+
+}
@@ -17,6 +17,8 @@ package org.dozer.cache;
 
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
+import org.dozer.jfr.FlightRecording;
+import org.dozer.stats.Counter;
 import org.dozer.stats.GlobalStatistics;
 import org.dozer.stats.StatisticType;
 import org.dozer.stats.StatisticsManager;
@@ -38,13 +40,23 @@ public class DozerCache<KeyType, ValueType> implements Cache<KeyType, ValueType>
 
   private final LRUMap cacheMap;
 
-  StatisticsManager statMgr = GlobalStatistics.getInstance().getStatsMgr();
+  private final Counter hitCounter;
+  private final Counter missCounter;
 
   public DozerCache(final String name, final int maximumSize) {
+    this(name, maximumSize, GlobalStatistics.getInstance().getStatsMgr());
+  }
+
+  /**
+   * @param statMgr statistics counting the hits and misses of the cache
+   */
+  public DozerCache(final String name, final int maximumSize, final StatisticsManager statMgr) {
     if (maximumSize < 1) {
       throw new IllegalArgumentException("Dozer cache max size must be greater than 0");
     }
     this.name = name;
+    this.hitCounter = statMgr.getCounter(StatisticType.CACHE_HIT_COUNT, name);
+    this.missCounter = statMgr.getCounter(StatisticType.CACHE_MISS_COUNT, name);
     this.cacheMap = new LRUMap(maximumSize); // TODO This should be in Collections.synchronizedMap()
   }
 
@@ -66,10 +78,11 @@ public class DozerCache<KeyType, ValueType> implements Cache<KeyType, ValueType>
     }
     CacheEntry<KeyType, ValueType> result = cacheMap.get(key);
     if (result != null) {
-      statMgr.increment(StatisticType.CACHE_HIT_COUNT, name);
+      hitCounter.increment();
       return result.getValue();
     } else {
-      statMgr.increment(StatisticType.CACHE_MISS_COUNT, name);
+      missCounter.increment();
+      FlightRecording.cacheMiss(name, key);
       return null;
     }
   }
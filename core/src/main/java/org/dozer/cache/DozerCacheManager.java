@@ -15,16 +15,18 @@
  */
 package org.dozer.cache;
 
+import org.dozer.stats.GlobalStatistics;
+import org.dozer.stats.StatisticsManager;
 import org.dozer.util.MappingUtils;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Internal class that manages the Dozer caches. Only intended for internal use.
@@ -35,7 +37,19 @@ public final class DozerCacheManager implements CacheManager {
 
   private final Logger log = LoggerFactory.getLogger(DozerCacheManager.class);
 
-  private final Map<String, Cache> cachesMap = new HashMap<String, Cache>();
+  private final Map<String, Cache> cachesMap = new ConcurrentHashMap<String, Cache>();
+  private final StatisticsManager statsMgr;
+
+  public DozerCacheManager() {
+    this(GlobalStatistics.getInstance().getStatsMgr());
+  }
+
+  /**
+   * @param statsMgr statistics counting the hits and misses of the caches added by name
+   */
+  public DozerCacheManager(StatisticsManager statsMgr) {
+    this.statsMgr = statsMgr;
+  }
 
   public Collection<Cache> getCaches() {
     return new HashSet<Cache>(cachesMap.values());
@@ -50,7 +64,24 @@ public final class DozerCacheManager implements CacheManager {
   }
 
   public void addCache(String name, int maxElementsInMemory) {
-    addCache(new DozerCache(name, maxElementsInMemory));
+    addCache(new DozerCache(name, maxElementsInMemory, statsMgr));
+  }
+
+  @Override
+  public void addCache(String name, int maxElementsInMemory, DozerCachePolicy policy) {
+    switch (policy) {
+      case CONCURRENT:
+        addCache(new ConcurrentDozerCache(name, maxElementsInMemory, statsMgr));
+        break;
+      case WEAK_KEYS:
+        addCache(new WeakClassDozerCache(name, statsMgr));
+        break;
+      case UNBOUNDED:
+        addCache(new UnboundedDozerCache(name, statsMgr));
+        break;
+      default:
+        addCache(name, maxElementsInMemory);
+    }
   }
 
   public void addCache(Cache cache) {
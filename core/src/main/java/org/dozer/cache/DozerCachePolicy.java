@@ -0,0 +1,46 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.cache;
+
+/**
+ * Policy of a mapper cache: how entries are held and when they are evicted. LRU and CONCURRENT caches are bounded by
+ * the configured size, WEAK_KEYS and UNBOUNDED caches ignore it. Only intended for internal use.
+ */
+public enum DozerCachePolicy {
+
+  /**
+   * Least recently inserted entries are evicted first. Writes are serialized.
+   */
+  LRU,
+
+  /**
+   * Lock free reads, entries read more often survive eviction longer.
+   */
+  CONCURRENT,
+
+  /**
+   * Entries are held as long as the classes of their key are loaded, without size bound. Suits applications which
+   * redeploy modules, as cached entries do not keep module classes from being unloaded.
+   */
+  WEAK_KEYS,
+
+  /**
+   * Entries are never evicted. Reads do not lock and cost nothing once all entries are added, but every write copies
+   * the cache. Suits a fixed set of mapped types.
+   */
+  UNBOUNDED
+
+}
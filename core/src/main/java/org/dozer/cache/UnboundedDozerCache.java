@@ -0,0 +1,111 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.dozer.jfr.FlightRecording;
+import org.dozer.stats.Counter;
+import org.dozer.stats.GlobalStatistics;
+import org.dozer.stats.StatisticType;
+import org.dozer.stats.StatisticsManager;
+
+/**
+ * Internal cache without size bound, meant for a fixed set of keys. Readers see an immutable map, which is copied
+ * and replaced on each write, so reads never lock and are as cheap as a plain map lookup once the cache is warmed up.
+ * Only intended for internal use.
+ */
+public class UnboundedDozerCache<KeyType, ValueType> implements Cache<KeyType, ValueType> {
+
+  // Stands for null values, so that a cached null is told apart from a missing entry on a single lookup
+  private static final Object NULL = new Object();
+
+  private final String name;
+  private volatile Map<KeyType, Object> cacheMap = new HashMap<KeyType, Object>();
+
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  public UnboundedDozerCache(final String name) {
+    this(name, GlobalStatistics.getInstance().getStatsMgr());
+  }
+
+  /**
+   * @param statMgr statistics counting the hits and misses of the cache
+   */
+  public UnboundedDozerCache(final String name, final StatisticsManager statMgr) {
+    this.name = name;
+    this.hitCounter = statMgr.getCounter(StatisticType.CACHE_HIT_COUNT, name);
+    this.missCounter = statMgr.getCounter(StatisticType.CACHE_MISS_COUNT, name);
+  }
+
+  public synchronized void clear() {
+    cacheMap = new HashMap<KeyType, Object>();
+  }
+
+  public synchronized void put(KeyType key, ValueType value) {
+    if (key == null) {
+      throw new IllegalArgumentException("Cache entry key cannot be null");
+    }
+    Map<KeyType, Object> copy = new HashMap<KeyType, Object>(cacheMap);
+    copy.put(key, value != null ? value : NULL);
+    cacheMap = copy;
+  }
+
+  @SuppressWarnings("unchecked")
+  public ValueType get(KeyType key) {
+    if (key == null) {
+      throw new IllegalArgumentException("Key cannot be null");
+    }
+    Object result = cacheMap.get(key);
+    if (result != null) {
+      hitCounter.increment();
+      return result != NULL ? (ValueType) result : null;
+    } else {
+      missCounter.increment();
+      FlightRecording.cacheMiss(name, key);
+      return null;
+    }
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public long getSize() {
+    return cacheMap.size();
+  }
+
+  public long getMaxSize() {
+    return Long.MAX_VALUE;
+  }
+
+  public boolean containsKey(KeyType key) {
+    return cacheMap.containsKey(key);
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this, ToStringStyle.MULTI_LINE_STYLE)
+        .append("name", name)
+        .append("size", cacheMap.size())
+        .toString();
+  }
+
+}
@@ -0,0 +1,156 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.dozer.jfr.FlightRecording;
+import org.dozer.stats.Counter;
+import org.dozer.stats.GlobalStatistics;
+import org.dozer.stats.StatisticType;
+import org.dozer.stats.StatisticsManager;
+
+/**
+ * Internal cache which does not keep the classes of its keys from being unloaded. Entries of a key created by
+ * {@link CacheKeyFactory} are attached to the one of its two classes which is loaded by the innermost class loader,
+ * so they go away together with that class and its class loader. The other class is loaded by the same class loader
+ * or by one of its parents, which outlive it anyway. If the two class loaders are not related, the entry is attached
+ * to the destination class and keeps the source class loaded as long as the destination class is. A cached value
+ * should not reference other classes than those of its key, otherwise it keeps them loaded. Other keys are held
+ * strongly. There is no size bound, and the size does not drop when classes are unloaded. Only intended for internal
+ * use.
+ */
+public class WeakClassDozerCache<KeyType, ValueType> implements Cache<KeyType, ValueType> {
+
+  // Stands for null values, which the maps do not hold
+  private static final Object NULL = new Object();
+
+  private final String name;
+  private volatile ClassValue<ConcurrentMap<Object, Object>> entries = newEntries();
+  private final ConcurrentMap<Object, Object> otherEntries = new ConcurrentHashMap<Object, Object>();
+  private final AtomicInteger size = new AtomicInteger();
+
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  public WeakClassDozerCache(final String name) {
+    this(name, GlobalStatistics.getInstance().getStatsMgr());
+  }
+
+  /**
+   * @param statMgr statistics counting the hits and misses of the cache
+   */
+  public WeakClassDozerCache(final String name, final StatisticsManager statMgr) {
+    this.name = name;
+    this.hitCounter = statMgr.getCounter(StatisticType.CACHE_HIT_COUNT, name);
+    this.missCounter = statMgr.getCounter(StatisticType.CACHE_MISS_COUNT, name);
+  }
+
+  public void clear() {
+    entries = newEntries();
+    otherEntries.clear();
+    size.set(0);
+  }
+
+  public void put(KeyType key, ValueType value) {
+    if (key == null) {
+      throw new IllegalArgumentException("Cache entry key cannot be null");
+    }
+    if (entriesOf(key).put(key, value != null ? value : NULL) == null) {
+      size.incrementAndGet();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  public ValueType get(KeyType key) {
+    if (key == null) {
+      throw new IllegalArgumentException("Key cannot be null");
+    }
+    Object result = entriesOf(key).get(key);
+    if (result != null) {
+      hitCounter.increment();
+      return result != NULL ? (ValueType) result : null;
+    } else {
+      missCounter.increment();
+      FlightRecording.cacheMiss(name, key);
+      return null;
+    }
+  }
+
+  private ConcurrentMap<Object, Object> entriesOf(KeyType key) {
+    Class<?> srcClass = CacheKeyFactory.getSrcClass(key);
+    Class<?> destClass = CacheKeyFactory.getDestClass(key);
+    if (srcClass == null || destClass == null) {
+      return otherEntries;
+    }
+    return entries.get(isLoadedByAncestor(destClass, srcClass) ? srcClass : destClass);
+  }
+
+  /**
+   * @return true if the class loader of the first class is the one of the second class, or one of its parents
+   */
+  public static boolean isLoadedByAncestor(Class<?> type, Class<?> otherType) {
+    ClassLoader classLoader = type.getClassLoader();
+    if (classLoader == null) {
+      return true;
+    }
+    for (ClassLoader current = otherType.getClassLoader(); current != null; current = current.getParent()) {
+      if (current == classLoader) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static ClassValue<ConcurrentMap<Object, Object>> newEntries() {
+    // The table of a class holds keys and values referencing it, which does not keep it from being unloaded
+    return new ClassValue<ConcurrentMap<Object, Object>>() {
+      @Override
+      protected ConcurrentMap<Object, Object> computeValue(Class<?> type) {
+        return new ConcurrentHashMap<Object, Object>(4);
+      }
+    };
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public long getSize() {
+    return size.get();
+  }
+
+  public long getMaxSize() {
+    return Long.MAX_VALUE;
+  }
+
+  public boolean containsKey(KeyType key) {
+    return entriesOf(key).containsKey(key);
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this, ToStringStyle.MULTI_LINE_STYLE)
+        .append("name", name)
+        .append("size", size.get())
+        .toString();
+  }
+
+}
@@ -49,6 +49,7 @@ public class ClassMap {
   private Boolean wildcard;
   private Boolean stopOnErrors;
   private Boolean trimStrings;
+  private boolean tree;
   private CustomConverterContainer customConverters;
   private String mapId;
   private RelationshipType relationshipType;
@@ -77,6 +78,17 @@ public class ClassMap {
     this.trimStrings = trimStrings;
   }
 
+  /**
+   * @return whether objects mapped by this class map and below it are not tracked for cycles and shared references
+   */
+  public boolean isTree() {
+    return tree;
+  }
+
+  public void setTree(boolean tree) {
+    this.tree = tree;
+  }
+
   public List<Class<RuntimeException>> getAllowedExceptions() {
     if (!allowedExceptions.isEmpty()) {
       return allowedExceptions;
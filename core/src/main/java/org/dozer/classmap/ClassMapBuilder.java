@@ -25,6 +25,7 @@ import org.dozer.fieldmap.DozerField;
 import org.dozer.fieldmap.FieldMap;
 import org.dozer.fieldmap.GenericFieldMap;
 import org.dozer.fieldmap.MapFieldMap;
+import org.dozer.jfr.FlightRecording;
 import org.dozer.util.DozerConstants;
 import org.dozer.util.MappingUtils;
 import org.dozer.util.ReflectionUtils;
@@ -84,6 +85,7 @@ public final class ClassMapBuilder {
    * @return
    */
   public static ClassMap createDefaultClassMap(Configuration globalConfiguration, Class<?> srcClass, Class<?> destClass) {
+    Object recorded = FlightRecording.beginClassMapCreation();
     ClassMap classMap = new ClassMap(globalConfiguration);
     classMap.setSrcClass(new DozerClass(srcClass.getName(), srcClass, globalConfiguration.getBeanFactory(), null, null, null, null,
         globalConfiguration.getMapNull(), globalConfiguration.getMapEmptyString(), false));
@@ -91,6 +93,7 @@ public final class ClassMapBuilder {
         null, globalConfiguration.getMapNull(), globalConfiguration.getMapEmptyString(), false));
 
     generateMapping(classMap, globalConfiguration, buildTimeGenerators);
+    FlightRecording.endClassMapCreation(recorded, srcClass, destClass);
     return classMap;
   }
 
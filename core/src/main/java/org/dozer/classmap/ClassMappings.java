@@ -19,10 +19,16 @@ import org.apache.commons.lang3.StringUtils;
 import org.dozer.util.MappingUtils;
 
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Internal class that determines the appropriate class mapping to be used for
@@ -34,8 +40,18 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class ClassMappings {
 
+  // Marks resolution which found no mapping
+  private static final ClassMap NOT_FOUND = new ClassMap(null);
+
   // Cache key --> Mapping Structure
   private Map<String, ClassMap> classMappings = new ConcurrentHashMap<String, ClassMap>();
+  // Same mappings indexed by source class, destination class and map id, so that a lookup does not build the key
+  private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, MapIdIndex>> index =
+      new ConcurrentHashMap<Class<?>, ConcurrentMap<Class<?>, MapIdIndex>>();
+  // Built on first resolution without exact match and rebuilt once a mapping is added. Default mappings are added to
+  // the existing candidates instead.
+  private volatile Candidates candidates;
+  private final AtomicInteger version = new AtomicInteger();
   private ClassMapKeyFactory keyFactory;
 
   public ClassMappings() {
@@ -45,16 +61,25 @@ public class ClassMappings {
   // Default mappings. May be ovewritten due to multiple threads generating same mapping
   public void addDefault(Class<?> srcClass, Class<?> destClass, ClassMap classMap) {
     classMappings.put(keyFactory.createKey(srcClass, destClass), classMap);
+    index(index, MappingUtils.getRealClass(srcClass), MappingUtils.getRealClass(destClass), null, classMap);
+    Candidates candidates = this.candidates;
+    if (candidates != null && candidates.version == version.get()) {
+      candidates.addDefault(classMap);
+    }
   }
 
   public void add(Class<?> srcClass, Class<?> destClass, ClassMap classMap) {
     ClassMap result = classMappings.put(keyFactory.createKey(srcClass, destClass), classMap);
     failOnDuplicate(result, classMap);
+    index(index, MappingUtils.getRealClass(srcClass), MappingUtils.getRealClass(destClass), null, classMap);
+    version.incrementAndGet();
   }
 
   public void add(Class<?> srcClass, Class<?> destClass, String mapId, ClassMap classMap) {
     ClassMap result = classMappings.put(keyFactory.createKey(srcClass, destClass, mapId), classMap);
     failOnDuplicate(result, classMap);
+    index(index, MappingUtils.getRealClass(srcClass), MappingUtils.getRealClass(destClass), mapId, classMap);
+    version.incrementAndGet();
   }
 
   public void addAll(ClassMappings additionalClassMappings) {
@@ -63,6 +88,18 @@ public class ClassMappings {
       ClassMap result = classMappings.put(entry.getKey(), entry.getValue());
       failOnDuplicate(result, entry.getValue());
     }
+    version.incrementAndGet();
+    for (Entry<Class<?>, ConcurrentMap<Class<?>, MapIdIndex>> bySrc : additionalClassMappings.index.entrySet()) {
+      for (Entry<Class<?>, MapIdIndex> byDest : bySrc.getValue().entrySet()) {
+        MapIdIndex mapIdIndex = byDest.getValue();
+        if (mapIdIndex.withoutMapId != null) {
+          index(index, bySrc.getKey(), byDest.getKey(), null, mapIdIndex.withoutMapId);
+        }
+        for (Entry<String, ClassMap> byMapId : mapIdIndex.byMapId.entrySet()) {
+          index(index, bySrc.getKey(), byDest.getKey(), byMapId.getKey(), byMapId.getValue());
+        }
+      }
+    }
   }
 
   public void failOnDuplicate(Object result, ClassMap classMap) {
@@ -81,79 +118,158 @@ public class ClassMappings {
   }
 
   public ClassMap find(Class<?> srcClass, Class<?> destClass) {
-    return classMappings.get(keyFactory.createKey(srcClass, destClass));
+    return get(srcClass, destClass, null);
   }
 
   public boolean contains(Class<?> srcClass, Class<?> destClass, String mapId) {
-    String key = keyFactory.createKey(srcClass, destClass, mapId);
-    return classMappings.containsKey(key);
+    return get(srcClass, destClass, mapId) != null;
   }
 
   public ClassMap find(Class<?> srcClass, Class<?> destClass, String mapId) {
-    final String key = keyFactory.createKey(srcClass, destClass, mapId);
-    ClassMap mapping = classMappings.get(key);
+    ClassMap mapping = lookup(index, srcClass, destClass, mapId);
+    if (mapping != null) {
+      return mapping;
+    }
 
+    Candidates candidates = this.candidates;
+    int currentVersion = version.get();
+    if (candidates == null || candidates.version != currentVersion) {
+      candidates = new Candidates(currentVersion, classMappings.values());
+      this.candidates = candidates;
+    }
+    // Blank map id is a different key for resolution, so it is not remembered. A remembered resolution implies that
+    // the classes did not match by name either, so the key is not built again.
+    boolean remember = mapId == null || mapId.length() > 0;
+    mapping = remember ? lookup(candidates.resolved, srcClass, destClass, mapId) : null;
     if (mapping == null) {
-      mapping = findInterfaceMapping(destClass, srcClass, mapId);
+      mapping = getByName(srcClass, destClass, mapId);
+      if (mapping != null) {
+        return mapping;
+      }
+      int defaults = candidates.defaults.get();
+      mapping = findInterfaceMapping(candidates, destClass, srcClass, mapId);
+
+      // one more try...
+      // if the mapId is not null looking up a map is easy
+      if (!MappingUtils.isBlankOrNull(mapId) && mapping == null) {
+        mapping = findByMapId(candidates, srcClass, destClass, mapId);
+      }
+      if (remember) {
+        index(candidates.resolved, srcClass, destClass, mapId, mapping != null ? mapping : NOT_FOUND);
+        // A default mapping added meanwhile may have been missed, see Candidates.addDefault
+        if (candidates.defaults.get() != defaults) {
+          candidates.resolved.remove(srcClass);
+        }
+      }
+    }
+    if (mapping == NOT_FOUND) {
+      mapping = null;
     }
 
-    // one more try...
-    // if the mapId is not null looking up a map is easy
     if (!MappingUtils.isBlankOrNull(mapId) && mapping == null) {
-      // probably a more efficient way to do this...
-      for (Entry<String, ClassMap> entry : classMappings.entrySet()) {
-        ClassMap classMap = entry.getValue();
-        if (StringUtils.equals(classMap.getMapId(), mapId)
-                && classMap.getSrcClassToMap().isAssignableFrom(srcClass)
+      // If map-id was specified and mapping was not found, then fail
+      MappingUtils.throwMappingException("Class mapping not found by map-id: "
+          + keyFactory.createKey(srcClass, destClass, mapId));
+    }
+
+    return mapping;
+  }
+
+  private static ClassMap findByMapId(Candidates candidates, Class<?> srcClass, Class<?> destClass, String mapId) {
+    List<ClassMap> byMapId = candidates.byMapId.get(mapId);
+    if (byMapId != null) {
+      for (ClassMap classMap : byMapId) {
+        if (classMap.getSrcClassToMap().isAssignableFrom(srcClass)
                 && classMap.getDestClassToMap().isAssignableFrom(destClass)) {
           return classMap;
-        } else if (StringUtils.equals(classMap.getMapId(), mapId) && srcClass.equals(destClass)) {
+        } else if (srcClass.equals(destClass)) {
           return classMap;
         }
       }
-
-      // If map-id was specified and mapping was not found, then fail
-      MappingUtils.throwMappingException("Class mapping not found by map-id: " + key);
     }
+    return null;
+  }
 
-    return mapping;
+  private ClassMap get(Class<?> srcClass, Class<?> destClass, String mapId) {
+    ClassMap result = lookup(index, srcClass, destClass, mapId);
+    return result != null ? result : getByName(srcClass, destClass, mapId);
   }
 
-  // Look for an interface mapping
-  private ClassMap findInterfaceMapping(Class<?> destClass, Class<?> srcClass, String mapId) {
-    // Use object array for keys to avoid any rare thread synchronization issues
-    // while iterating over the custom mappings.
-    // See bug #1550275.
-    Object[] keys = classMappings.keySet().toArray();
-    for (Object key : keys) {
-      ClassMap map = classMappings.get(key);
-      Class<?> mappingDestClass = map.getDestClassToMap();
-      Class<?> mappingSrcClass = map.getSrcClassToMap();
+  private ClassMap getByName(Class<?> srcClass, Class<?> destClass, String mapId) {
+    // Proxies and classes of other class loaders are matched by name of the real class. A match is indexed under
+    // the given classes too, so that the key is built only once.
+    ClassMap result = classMappings.get(keyFactory.createKey(srcClass, destClass, mapId));
+    if (result != null) {
+      index(index, srcClass, destClass, mapId, result);
+    }
+    return result;
+  }
 
-      if ((mapId == null && map.getMapId() != null) || (mapId != null && !mapId.equals(map.getMapId()))) {
-        continue;
+  private static ClassMap lookup(ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, MapIdIndex>> index,
+                                 Class<?> srcClass, Class<?> destClass, String mapId) {
+    ConcurrentMap<Class<?>, MapIdIndex> byDest = index.get(srcClass);
+    if (byDest != null) {
+      MapIdIndex mapIdIndex = byDest.get(destClass);
+      if (mapIdIndex != null) {
+        return mapIdIndex.get(mapId);
       }
+    }
+    return null;
+  }
 
-      if (isInterfaceImplementation(srcClass, mappingSrcClass)) {
-        if (isInterfaceImplementation(destClass, mappingDestClass)) {
-          return map;
-        } else if (destClass.equals(mappingDestClass)) {
-          return map;
-        }
+  private static void index(ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, MapIdIndex>> index,
+                            Class<?> srcClass, Class<?> destClass, String mapId, ClassMap classMap) {
+    ConcurrentMap<Class<?>, MapIdIndex> byDest = index.get(srcClass);
+    if (byDest == null) {
+      byDest = new ConcurrentHashMap<Class<?>, MapIdIndex>();
+      ConcurrentMap<Class<?>, MapIdIndex> existing = index.putIfAbsent(srcClass, byDest);
+      if (existing != null) {
+        byDest = existing;
       }
+    }
+    MapIdIndex mapIdIndex = byDest.get(destClass);
+    if (mapIdIndex == null) {
+      mapIdIndex = new MapIdIndex();
+      MapIdIndex existing = byDest.putIfAbsent(destClass, mapIdIndex);
+      if (existing != null) {
+        mapIdIndex = existing;
+      }
+    }
+    mapIdIndex.put(mapId, classMap);
+  }
 
-      // Destination could be an abstract type. Picking up the best concrete type to use.
-      if ((destClass.isAssignableFrom(mappingDestClass) && isAbstract(destClass)) ||
-              (isInterfaceImplementation(destClass, mappingDestClass))) {
-        if (MappingUtils.getRealClass(srcClass).equals(mappingSrcClass)) {
+  // Look for an interface mapping
+  private ClassMap findInterfaceMapping(Candidates candidates, Class<?> destClass, Class<?> srcClass, String mapId) {
+    // Candidates are a snapshot, so iterating them is safe while mappings are added. See bug #1550275.
+    // Source of an interface mapping is an interface implemented by the source class
+    for (ClassMap map : candidates.interfaceMappings) {
+      Class<?> mappingDestClass = map.getDestClassToMap();
+      if (matchesMapId(map, mapId) && isInterfaceImplementation(srcClass, map.getSrcClassToMap())
+          && (isInterfaceImplementation(destClass, mappingDestClass) || destClass.equals(mappingDestClass))) {
+        return map;
+      }
+    }
+
+    // Destination could be an abstract type. Picking up the best concrete type to use.
+    // Source of such mapping is the source class itself
+    List<ClassMap> bySrcClass = candidates.bySrcClass.get(MappingUtils.getRealClass(srcClass));
+    if (bySrcClass != null) {
+      for (ClassMap map : bySrcClass) {
+        Class<?> mappingDestClass = map.getDestClassToMap();
+        if (matchesMapId(map, mapId)
+            && ((destClass.isAssignableFrom(mappingDestClass) && isAbstract(destClass))
+            || isInterfaceImplementation(destClass, mappingDestClass))) {
           return map;
         }
       }
-
     }
     return null;
   }
 
+  private static boolean matchesMapId(ClassMap map, String mapId) {
+    return mapId == null ? map.getMapId() == null : mapId.equals(map.getMapId());
+  }
+
   private boolean isInterfaceImplementation(Class<?> type, Class<?> mappingType) {
     return mappingType.isInterface() && mappingType.isAssignableFrom(type);
   }
@@ -162,4 +278,104 @@ public class ClassMappings {
     return Modifier.isAbstract(destClass.getModifiers());
   }
 
+  /**
+   * Mappings which may be resolved without exact match, indexed by the class or map id they must match, and results
+   * of such resolution, including not found ones. Lists are copied on write, so they can be iterated while default
+   * mappings are added.
+   */
+  private static final class Candidates {
+
+    private final int version;
+    private final List<ClassMap> interfaceMappings;
+    private final ConcurrentMap<Class<?>, List<ClassMap>> bySrcClass = new ConcurrentHashMap<Class<?>, List<ClassMap>>();
+    private final ConcurrentMap<String, List<ClassMap>> byMapId = new ConcurrentHashMap<String, List<ClassMap>>();
+    private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, MapIdIndex>> resolved =
+        new ConcurrentHashMap<Class<?>, ConcurrentMap<Class<?>, MapIdIndex>>();
+    // Number of default mappings added after the candidates were built
+    private final AtomicInteger defaults = new AtomicInteger();
+
+    Candidates(int version, Collection<ClassMap> classMaps) {
+      this.version = version;
+      List<ClassMap> interfaceMappings = new ArrayList<ClassMap>();
+      Map<Class<?>, List<ClassMap>> bySrcClass = new HashMap<Class<?>, List<ClassMap>>();
+      Map<String, List<ClassMap>> byMapId = new HashMap<String, List<ClassMap>>();
+      for (ClassMap classMap : classMaps) {
+        Class<?> srcClass = classMap.getSrcClassToMap();
+        if (srcClass.isInterface()) {
+          interfaceMappings.add(classMap);
+        }
+        add(bySrcClass, srcClass, classMap);
+        if (!MappingUtils.isBlankOrNull(classMap.getMapId())) {
+          add(byMapId, classMap.getMapId(), classMap);
+        }
+      }
+      this.interfaceMappings = new CopyOnWriteArrayList<ClassMap>(interfaceMappings);
+      copy(bySrcClass, this.bySrcClass);
+      copy(byMapId, this.byMapId);
+    }
+
+    /**
+     * Adds a default mapping and forgets resolutions it may change. A default mapping has no map id, so only
+     * resolutions from its source class or a subclass of it are affected.
+     */
+    void addDefault(ClassMap classMap) {
+      Class<?> srcClass = classMap.getSrcClassToMap();
+      if (srcClass.isInterface()) {
+        interfaceMappings.add(classMap);
+      }
+      List<ClassMap> list = bySrcClass.get(srcClass);
+      if (list == null) {
+        list = new CopyOnWriteArrayList<ClassMap>();
+        List<ClassMap> existing = bySrcClass.putIfAbsent(srcClass, list);
+        if (existing != null) {
+          list = existing;
+        }
+      }
+      list.add(classMap);
+      defaults.incrementAndGet();
+      for (Class<?> resolvedSrcClass : resolved.keySet()) {
+        if (srcClass.isAssignableFrom(resolvedSrcClass)) {
+          resolved.remove(resolvedSrcClass);
+        }
+      }
+    }
+
+    private static <K> void add(Map<K, List<ClassMap>> candidates, K key, ClassMap classMap) {
+      List<ClassMap> list = candidates.get(key);
+      if (list == null) {
+        list = new ArrayList<ClassMap>();
+        candidates.put(key, list);
+      }
+      list.add(classMap);
+    }
+
+    private static <K> void copy(Map<K, List<ClassMap>> candidates, Map<K, List<ClassMap>> target) {
+      for (Entry<K, List<ClassMap>> entry : candidates.entrySet()) {
+        target.put(entry.getKey(), new CopyOnWriteArrayList<ClassMap>(entry.getValue()));
+      }
+    }
+
+  }
+
+  /**
+   * Mappings between one pair of classes. Blank map id is the same as no map id, as in the mapping key.
+   */
+  private static final class MapIdIndex {
+
+    private volatile ClassMap withoutMapId;
+    private final ConcurrentMap<String, ClassMap> byMapId = new ConcurrentHashMap<String, ClassMap>();
+
+    ClassMap get(String mapId) {
+      return StringUtils.isEmpty(mapId) ? withoutMapId : byMapId.get(mapId);
+    }
+
+    void put(String mapId, ClassMap classMap) {
+      if (StringUtils.isEmpty(mapId)) {
+        withoutMapId = classMap;
+      } else {
+        byMapId.put(mapId, classMap);
+      }
+    }
+  }
+
 }
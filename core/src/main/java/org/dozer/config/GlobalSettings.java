@@ -15,9 +15,11 @@
  */
 package org.dozer.config;
 
+import org.dozer.cache.DozerCachePolicy;
 import org.dozer.util.DozerClassLoader;
 import org.dozer.util.DozerConstants;
 import org.dozer.util.MappingUtils;
+import org.dozer.util.UnmatchedEnumPolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,10 +49,20 @@ public class GlobalSettings {
 
   private String loadedByFileName;
   private boolean statisticsEnabled = DozerConstants.DEFAULT_STATISTICS_ENABLED;
+  private boolean profilingEnabled = DozerConstants.DEFAULT_PROFILING_ENABLED;
+  private String metricsExporterName = DozerConstants.DEFAULT_METRICS_EXPORTER;
+  private long metricsExportInterval = DozerConstants.DEFAULT_METRICS_EXPORT_INTERVAL;
   private int converterByDestTypeCacheMaxSize = DozerConstants.DEFAULT_CONVERTER_BY_DEST_TYPE_CACHE_MAX_SIZE;
   private int superTypesCacheMaxSize = DozerConstants.DEFAULT_SUPER_TYPE_CHECK_CACHE_MAX_SIZE;
+  private DozerCachePolicy converterByDestTypeCachePolicy = DozerConstants.DEFAULT_CACHE_POLICY;
+  private DozerCachePolicy superTypesCachePolicy = DozerConstants.DEFAULT_CACHE_POLICY;
   private boolean autoregisterJMXBeans = DozerConstants.DEFAULT_AUTOREGISTER_JMX_BEANS;
   private boolean elEnabled = DozerConstants.DEFAULT_EL_ENABLED;
+  private String propertyAccessor = DozerConstants.DEFAULT_PROPERTY_ACCESSOR;
+  private boolean mapperGenerationEnabled = DozerConstants.DEFAULT_MAPPER_GENERATION_ENABLED;
+  private boolean processorReuseEnabled = DozerConstants.DEFAULT_PROCESSOR_REUSE_ENABLED;
+  private boolean treeDetectionEnabled = DozerConstants.DEFAULT_TREE_DETECTION_ENABLED;
+  private UnmatchedEnumPolicy unmatchedEnumPolicy = DozerConstants.DEFAULT_UNMATCHED_ENUM_POLICY;
 
   private String classLoaderBeanName = DozerConstants.DEFAULT_CLASS_LOADER_BEAN;
   private String proxyResolverBeanName = DozerConstants.DEFAULT_PROXY_RESOLVER_BEAN;
@@ -87,10 +99,33 @@ public class GlobalSettings {
     this.statisticsEnabled = statisticsEnabled;
   }
 
+  public boolean isProfilingEnabled() {
+    return profilingEnabled;
+  }
+
+  /**
+   * @return class name of the metrics exporter, or null if metrics are not exported
+   */
+  public String getMetricsExporterName() {
+    return metricsExporterName;
+  }
+
+  public long getMetricsExportInterval() {
+    return metricsExportInterval;
+  }
+
   public int getSuperTypesCacheMaxSize() {
     return superTypesCacheMaxSize;
   }
 
+  public DozerCachePolicy getConverterByDestTypeCachePolicy() {
+    return converterByDestTypeCachePolicy;
+  }
+
+  public DozerCachePolicy getSuperTypesCachePolicy() {
+    return superTypesCachePolicy;
+  }
+
   public String getClassLoaderName() {
     return classLoaderBeanName;
   }
@@ -101,7 +136,27 @@ public class GlobalSettings {
 
   public boolean isElEnabled() {
     return elEnabled;
-  }  
+  }
+
+  public String getPropertyAccessor() {
+    return propertyAccessor;
+  }
+
+  public boolean isMapperGenerationEnabled() {
+    return mapperGenerationEnabled;
+  }
+
+  public boolean isProcessorReuseEnabled() {
+    return processorReuseEnabled;
+  }
+
+  public boolean isTreeDetectionEnabled() {
+    return treeDetectionEnabled;
+  }
+
+  public UnmatchedEnumPolicy getUnmatchedEnumPolicy() {
+    return unmatchedEnumPolicy;
+  }
 
   private synchronized void loadGlobalSettings() {
     // Determine prop file name
@@ -149,6 +204,18 @@ public class GlobalSettings {
     if (propValue != null) {
       statisticsEnabled = Boolean.valueOf(propValue); // TODO Parsing errors?
     }
+    propValue = props.getProperty(PropertyConstants.PROFILING_ENABLED);
+    if (propValue != null) {
+      profilingEnabled = Boolean.valueOf(propValue);
+    }
+    propValue = props.getProperty(PropertyConstants.METRICS_EXPORTER);
+    if (propValue != null) {
+      metricsExporterName = propValue.trim();
+    }
+    propValue = props.getProperty(PropertyConstants.METRICS_EXPORT_INTERVAL);
+    if (propValue != null) {
+      metricsExportInterval = Long.parseLong(propValue.trim());
+    }
     propValue = props.getProperty(PropertyConstants.CONVERTER_CACHE_MAX_SIZE);
     if (propValue != null) {
       converterByDestTypeCacheMaxSize = Integer.parseInt(propValue);
@@ -157,6 +224,14 @@ public class GlobalSettings {
     if (propValue != null) {
       superTypesCacheMaxSize = Integer.parseInt(propValue);
     }
+    propValue = props.getProperty(PropertyConstants.CONVERTER_CACHE_POLICY);
+    if (propValue != null) {
+      converterByDestTypeCachePolicy = parseCachePolicy(PropertyConstants.CONVERTER_CACHE_POLICY, propValue);
+    }
+    propValue = props.getProperty(PropertyConstants.SUPERTYPE_CACHE_POLICY);
+    if (propValue != null) {
+      superTypesCachePolicy = parseCachePolicy(PropertyConstants.SUPERTYPE_CACHE_POLICY, propValue);
+    }
     propValue = props.getProperty(PropertyConstants.AUTOREGISTER_JMX_BEANS);
     if (propValue != null) {
       autoregisterJMXBeans = Boolean.valueOf(propValue);
@@ -173,6 +248,40 @@ public class GlobalSettings {
     if (propValue != null) {
       elEnabled = Boolean.valueOf(propValue);
     }
+    propValue = props.getProperty(PropertyConstants.PROPERTY_ACCESSOR);
+    if (propValue != null) {
+      propertyAccessor = propValue.trim();
+    }
+    propValue = props.getProperty(PropertyConstants.MAPPER_GENERATION_ENABLED);
+    if (propValue != null) {
+      mapperGenerationEnabled = Boolean.valueOf(propValue);
+    }
+    propValue = props.getProperty(PropertyConstants.PROCESSOR_REUSE_ENABLED);
+    if (propValue != null) {
+      processorReuseEnabled = Boolean.valueOf(propValue);
+    }
+    propValue = props.getProperty(PropertyConstants.TREE_DETECTION_ENABLED);
+    if (propValue != null) {
+      treeDetectionEnabled = Boolean.valueOf(propValue);
+    }
+    propValue = props.getProperty(PropertyConstants.UNMATCHED_ENUM_POLICY);
+    if (propValue != null) {
+      try {
+        unmatchedEnumPolicy = UnmatchedEnumPolicy.valueOf(propValue.trim().toUpperCase());
+      } catch (IllegalArgumentException e) {
+        MappingUtils.throwMappingException("Invalid value [" + propValue + "] of Dozer property "
+            + PropertyConstants.UNMATCHED_ENUM_POLICY, e);
+      }
+    }
+  }
+
+  private static DozerCachePolicy parseCachePolicy(String propName, String propValue) {
+    try {
+      return DozerCachePolicy.valueOf(propValue.trim().toUpperCase());
+    } catch (IllegalArgumentException e) {
+      MappingUtils.throwMappingException("Invalid value [" + propValue + "] of Dozer property " + propName, e);
+      return null;
+    }
   }
 
 }
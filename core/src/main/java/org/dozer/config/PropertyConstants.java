@@ -27,8 +27,18 @@ public final class PropertyConstants {
   public static final String STATISTICS_ENABLED = "dozer.statistics.enabled";
   public static final String CONVERTER_CACHE_MAX_SIZE = "dozer.cache.converter.by.dest.type.maxsize";
   public static final String SUPERTYPE_CACHE_MAX_SIZE = "dozer.cache.super.type.maxsize";
+  public static final String CONVERTER_CACHE_POLICY = "dozer.cache.converter.by.dest.type.policy";
+  public static final String SUPERTYPE_CACHE_POLICY = "dozer.cache.super.type.policy";
   public static final String AUTOREGISTER_JMX_BEANS = "dozer.autoregister.jmx.beans";
   public static final String EL_ENABLED = "dozer.el.enabled";
+  public static final String PROPERTY_ACCESSOR = "dozer.property.accessor";
+  public static final String MAPPER_GENERATION_ENABLED = "dozer.mapper.generation.enabled";
+  public static final String PROCESSOR_REUSE_ENABLED = "dozer.processor.reuse.enabled";
+  public static final String TREE_DETECTION_ENABLED = "dozer.tree.detection.enabled";
+  public static final String UNMATCHED_ENUM_POLICY = "dozer.enum.unmatched.policy";
+  public static final String PROFILING_ENABLED = "dozer.profiling.enabled";
+  public static final String METRICS_EXPORTER = "dozer.metrics.exporter";
+  public static final String METRICS_EXPORT_INTERVAL = "dozer.metrics.export.interval";
 
   // Bean Implementations
   public static final String CLASS_LOADER_BEAN = "org.dozer.util.DozerClassLoader";
@@ -20,9 +20,12 @@ import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 import org.dozer.cache.Cache;
 import org.dozer.cache.CacheKeyFactory;
+import org.dozer.cache.WeakClassDozerCache;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Internal class for holding custom converter definitions. Only intended for internal use.
@@ -32,7 +35,15 @@ import java.util.List;
  */
 public class CustomConverterContainer {
 
+  // Stands for a class pair without converter in the dispatch table
+  private static final Object NO_CONVERTER = new Object();
+
   private List<CustomConverterDescription> converters = new ArrayList<CustomConverterDescription>();
+  // Converters by class pair, filled on lookup and replaced when converters change. As in WeakClassDozerCache, an
+  // entry is attached to the class of the pair loaded by the innermost class loader, keyed by the other class, so
+  // that it does not keep a class loaded longer than the class it is attached to.
+  private volatile ClassValue<ConcurrentMap<Class<?>, Object>> bySourceClass = newDispatchTable();
+  private volatile ClassValue<ConcurrentMap<Class<?>, Object>> byDestClass = newDispatchTable();
 
   public List<CustomConverterDescription> getConverters() {
     return converters;
@@ -43,17 +54,46 @@ public class CustomConverterContainer {
       throw new NullPointerException("Converters can not be null!");
     }
     this.converters = converters;
+    clearDispatchTable();
   }
 
   public void addConverter(CustomConverterDescription converter) {
     getConverters().add(converter);
+    clearDispatchTable();
+  }
+
+  private void clearDispatchTable() {
+    bySourceClass = newDispatchTable();
+    byDestClass = newDispatchTable();
   }
 
   public Class getCustomConverter(Class<?> srcClass, Class<?> destClass, Cache converterTypeCache) {
     if (converters.isEmpty()) {
       return null;
     }
+    if (srcClass == null || destClass == null) {
+      return lookupConverter(srcClass, destClass, converterTypeCache);
+    }
 
+    // Dispatch table lookup does not allocate
+    ConcurrentMap<Class<?>, Object> converterByOtherClass;
+    Class<?> otherClass;
+    if (WeakClassDozerCache.isLoadedByAncestor(destClass, srcClass)) {
+      converterByOtherClass = bySourceClass.get(srcClass);
+      otherClass = destClass;
+    } else {
+      converterByOtherClass = byDestClass.get(destClass);
+      otherClass = srcClass;
+    }
+    Object converter = converterByOtherClass.get(otherClass);
+    if (converter == null) {
+      converter = lookupConverter(srcClass, destClass, converterTypeCache);
+      converterByOtherClass.put(otherClass, converter != null ? converter : NO_CONVERTER);
+    }
+    return converter != NO_CONVERTER ? (Class) converter : null;
+  }
+
+  private Class lookupConverter(Class<?> srcClass, Class<?> destClass, Cache converterTypeCache) {
     // Check cache first
     final Object cacheKey = CacheKeyFactory.createKey(destClass, srcClass);
     if (converterTypeCache.containsKey(cacheKey)) { // even null
@@ -87,6 +127,15 @@ public class CustomConverterContainer {
     return null;
   }
 
+  private static ClassValue<ConcurrentMap<Class<?>, Object>> newDispatchTable() {
+    return new ClassValue<ConcurrentMap<Class<?>, Object>>() {
+      @Override
+      protected ConcurrentMap<Class<?>, Object> computeValue(Class<?> srcClass) {
+        return new ConcurrentHashMap<Class<?>, Object>(4);
+      }
+    };
+  }
+
   @Override
   public String toString() {
     return ReflectionToStringBuilder.toString(this, ToStringStyle.MULTI_LINE_STYLE);
@@ -44,6 +44,19 @@ import org.apache.commons.beanutils.Converter;
  */
 public class DateConverter implements Converter {
 
+	// Constructors of destination classes, looked up once. Calendars are created with the default constructor,
+	// dates with the one taking time in millis. Holds the exception thrown, if there is no such constructor.
+	private static final ClassValue<Object> CONSTRUCTORS = new ClassValue<Object>() {
+		@Override
+		protected Object computeValue(Class<?> type) {
+			try {
+				return Calendar.class.isAssignableFrom(type) ? type.getConstructor() : type.getConstructor(Long.TYPE);
+			} catch (NoSuchMethodException e) {
+				return e;
+			}
+		}
+	};
+
 	private DateFormat dateFormat;
 
 	public DateConverter(DateFormat dateFormat) {
@@ -86,8 +99,7 @@ public class DateConverter implements Converter {
 
 		try {
 			if (Calendar.class.isAssignableFrom(destClass)) {
-				Constructor constructor = destClass.getConstructor();
-				Calendar result = (Calendar) constructor.newInstance();
+				Calendar result = (Calendar) getConstructor(destClass).newInstance();
 				result.setTimeInMillis(time);
 				return result;
 			}
@@ -96,8 +108,7 @@ public class DateConverter implements Converter {
 				return dateFormat.format(new java.util.Date(time));
 			}
 
-			Constructor constructor = destClass.getConstructor(Long.TYPE);
-			Object result = constructor.newInstance(time);
+			Object result = getConstructor(destClass).newInstance(time);
 			if (nanos != 0 && (Timestamp.class.isAssignableFrom(destClass))) {
 				((Timestamp) result).setNanos(nanos);
 			}
@@ -107,4 +118,12 @@ public class DateConverter implements Converter {
 		}
 	}
 
+	private static Constructor getConstructor(Class destClass) throws NoSuchMethodException {
+		Object constructor = CONSTRUCTORS.get(destClass);
+		if (constructor instanceof NoSuchMethodException) {
+			throw (NoSuchMethodException) constructor;
+		}
+		return (Constructor) constructor;
+	}
+
 }
@@ -17,7 +17,9 @@ package org.dozer.converters;
 
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 
 /**
  * Internal class used as a container to determine the date format to use for a particular field mapping. Only intended
@@ -26,13 +28,61 @@ import java.util.Locale;
  * @author tierney.matt
  */
 public class DateFormatContainer {
+
+  // Without a pattern no date format is used, so the converters keep no state and are shared by all threads
+  private static final DateFormatContainer NO_FORMAT = new DateFormatContainer(null).initConverters();
+
+  // Containers of this thread by pattern. Date formats are not thread safe, so each thread formats with its own.
+  private static final ThreadLocal<Map<String, DateFormatContainer>> CONTAINERS =
+      new ThreadLocal<Map<String, DateFormatContainer>>() {
+        @Override
+        protected Map<String, DateFormatContainer> initialValue() {
+          return new HashMap<String, DateFormatContainer>();
+        }
+      };
+
   private String dfStr;
   private DateFormat dateFormat;
+  // Converters using the date format, created on first use. Like the date format, they are not thread safe.
+  private StringConverter stringConverter;
+  private StringConstructorConverter stringConstructorConverter;
+  private DateConverter dateConverter;
+  private CalendarConverter calendarConverter;
+  private XMLGregorianCalendarConverter xmlGregorianCalendarConverter;
 
   public DateFormatContainer(String dfStr) {
     this.dfStr = dfStr;
   }
 
+  /**
+   * Returns the container of the pattern for the calling thread, which is created once per thread. The returned
+   * container must not be modified.
+   *
+   * @param dfStr date format pattern, or null for no date format
+   * @return container to be used only by the calling thread
+   */
+  public static DateFormatContainer forPattern(String dfStr) {
+    if (dfStr == null) {
+      return NO_FORMAT;
+    }
+    Map<String, DateFormatContainer> containers = CONTAINERS.get();
+    DateFormatContainer container = containers.get(dfStr);
+    if (container == null) {
+      container = new DateFormatContainer(dfStr);
+      containers.put(dfStr, container);
+    }
+    return container;
+  }
+
+  private DateFormatContainer initConverters() {
+    getStringConverter();
+    getStringConstructorConverter();
+    getDateConverter();
+    getCalendarConverter();
+    getXMLGregorianCalendarConverter();
+    return this;
+  }
+
   public DateFormat getDateFormat() {
     if (dateFormat == null) {
       dateFormat = determineDateFormat();
@@ -42,6 +92,44 @@ public class DateFormatContainer {
 
   public void setDateFormat(DateFormat dateFormat) {
     this.dateFormat = dateFormat;
+    this.dateConverter = null;
+    this.calendarConverter = null;
+    this.xmlGregorianCalendarConverter = null;
+  }
+
+  StringConverter getStringConverter() {
+    if (stringConverter == null) {
+      stringConverter = new StringConverter(this);
+    }
+    return stringConverter;
+  }
+
+  StringConstructorConverter getStringConstructorConverter() {
+    if (stringConstructorConverter == null) {
+      stringConstructorConverter = new StringConstructorConverter(this);
+    }
+    return stringConstructorConverter;
+  }
+
+  DateConverter getDateConverter() {
+    if (dateConverter == null) {
+      dateConverter = new DateConverter(getDateFormat());
+    }
+    return dateConverter;
+  }
+
+  CalendarConverter getCalendarConverter() {
+    if (calendarConverter == null) {
+      calendarConverter = new CalendarConverter(getDateFormat());
+    }
+    return calendarConverter;
+  }
+
+  XMLGregorianCalendarConverter getXMLGregorianCalendarConverter() {
+    if (xmlGregorianCalendarConverter == null) {
+      xmlGregorianCalendarConverter = new XMLGregorianCalendarConverter(getDateFormat());
+    }
+    return xmlGregorianCalendarConverter;
   }
 
   private DateFormat determineDateFormat() {
@@ -70,9 +70,13 @@ public class PrimitiveOrWrapperConverter {
 		if (srcFieldValue == null || destFieldClass == null || (srcFieldValue.equals("") && !destFieldClass.equals(String.class))) {
 			return null;
 		}
-		Converter converter = getPrimitiveOrWrapperConverter(destFieldClass, dateFormatContainer, destFieldName,  destObj);
+		Object value = unwrapSrcFieldValue(srcFieldValue);
+		Converter converter = value == null ? null : ScalarConverters.find(value.getClass(), destFieldClass);
+		if (converter == null) {
+			converter = getPrimitiveOrWrapperConverter(destFieldClass, dateFormatContainer, destFieldName, destObj);
+		}
 		try {
-			return converter.convert(destFieldClass, unwrapSrcFieldValue(srcFieldValue));
+			return converter.convert(destFieldClass, value);
 		} catch (org.apache.commons.beanutils.ConversionException e) {
 			throw new org.dozer.converters.ConversionException(e);
 		}
@@ -86,26 +90,29 @@ public class PrimitiveOrWrapperConverter {
 	}
 
 	private Converter getPrimitiveOrWrapperConverter(Class destClass, DateFormatContainer dateFormatContainer, String destFieldName, Object destObj) {
+		if (dateFormatContainer == null) {
+			dateFormatContainer = DateFormatContainer.forPattern(null);
+		}
 		if (String.class.equals(destClass)) {
-			return new StringConverter(dateFormatContainer);
+			return dateFormatContainer.getStringConverter();
 		}
 
 		Converter result = CONVERTER_MAP.get(ClassUtils.primitiveToWrapper(destClass));
 
 		if (result == null) {
 			if (java.util.Date.class.isAssignableFrom(destClass)) {
-				result = new DateConverter(dateFormatContainer.getDateFormat());
+				result = dateFormatContainer.getDateConverter();
 			} else if (Calendar.class.isAssignableFrom(destClass)) {
-				result = new CalendarConverter(dateFormatContainer.getDateFormat());
+				result = dateFormatContainer.getCalendarConverter();
 			} else if (XMLGregorianCalendar.class.isAssignableFrom(destClass)) {
-				result = new XMLGregorianCalendarConverter(dateFormatContainer.getDateFormat());
+				result = dateFormatContainer.getXMLGregorianCalendarConverter();
 			} else if (MappingUtils.isEnumType(destClass)) {
 				result = new EnumConverter();
 			} else if (JAXBElement.class.isAssignableFrom(destClass) && destFieldName != null) {
 				result = new JAXBElementConverter(destObj.getClass().getCanonicalName(), destFieldName, dateFormatContainer.getDateFormat());
 			}
 		}
-		return result == null ? new StringConstructorConverter(dateFormatContainer) : result;
+		return result == null ? dateFormatContainer.getStringConstructorConverter() : result;
 	}
 
 	public boolean accepts(Class<?> aClass) {
@@ -0,0 +1,159 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.converters;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.apache.commons.beanutils.Converter;
+
+/**
+ * Internal table of specialized conversions between scalar types, indexed by source and destination type. It holds
+ * the conversions which need neither parsing nor range checks: immutable values of the destination type are passed
+ * through, numbers are widened and scalars are converted to strings. Results are equal to the ones of the general
+ * converters. Only intended for internal use.
+ */
+final class ScalarConverters {
+
+  private enum Kind {
+    BOOLEAN, CHARACTER, BYTE, SHORT, INTEGER, LONG, FLOAT, DOUBLE, BIG_INTEGER, BIG_DECIMAL, STRING
+  }
+
+  private enum Conversion implements Converter {
+    IDENTITY {
+      Object apply(Object value) {
+        return value;
+      }
+    },
+    TO_SHORT {
+      Object apply(Object value) {
+        return ((Number) value).shortValue();
+      }
+    },
+    TO_INTEGER {
+      Object apply(Object value) {
+        return ((Number) value).intValue();
+      }
+    },
+    TO_LONG {
+      Object apply(Object value) {
+        return ((Number) value).longValue();
+      }
+    },
+    TO_FLOAT {
+      Object apply(Object value) {
+        return ((Number) value).floatValue();
+      }
+    },
+    TO_DOUBLE {
+      Object apply(Object value) {
+        return ((Number) value).doubleValue();
+      }
+    },
+    TO_BIG_INTEGER {
+      Object apply(Object value) {
+        return BigInteger.valueOf(((Number) value).longValue());
+      }
+    },
+    TO_BIG_DECIMAL {
+      Object apply(Object value) {
+        if (value instanceof BigInteger) {
+          return new BigDecimal((BigInteger) value);
+        }
+        return BigDecimal.valueOf(((Number) value).longValue());
+      }
+    },
+    TO_STRING {
+      Object apply(Object value) {
+        return value.toString();
+      }
+    };
+
+    abstract Object apply(Object value);
+
+    @SuppressWarnings("unchecked")
+    public <T> T convert(Class<T> type, Object value) {
+      // Destination types may be primitive, whose values are boxed, so Class.cast cannot check them
+      return (T) apply(value);
+    }
+  }
+
+  private static final Map<Class<?>, Kind> KINDS = new IdentityHashMap<Class<?>, Kind>();
+  private static final Converter[][] TABLE = new Converter[Kind.values().length][Kind.values().length];
+
+  static {
+    KINDS.put(Boolean.class, Kind.BOOLEAN);
+    KINDS.put(Boolean.TYPE, Kind.BOOLEAN);
+    KINDS.put(Character.class, Kind.CHARACTER);
+    KINDS.put(Character.TYPE, Kind.CHARACTER);
+    KINDS.put(Byte.class, Kind.BYTE);
+    KINDS.put(Byte.TYPE, Kind.BYTE);
+    KINDS.put(Short.class, Kind.SHORT);
+    KINDS.put(Short.TYPE, Kind.SHORT);
+    KINDS.put(Integer.class, Kind.INTEGER);
+    KINDS.put(Integer.TYPE, Kind.INTEGER);
+    KINDS.put(Long.class, Kind.LONG);
+    KINDS.put(Long.TYPE, Kind.LONG);
+    KINDS.put(Float.class, Kind.FLOAT);
+    KINDS.put(Float.TYPE, Kind.FLOAT);
+    KINDS.put(Double.class, Kind.DOUBLE);
+    KINDS.put(Double.TYPE, Kind.DOUBLE);
+    KINDS.put(BigInteger.class, Kind.BIG_INTEGER);
+    KINDS.put(BigDecimal.class, Kind.BIG_DECIMAL);
+    KINDS.put(String.class, Kind.STRING);
+
+    for (Kind kind : Kind.values()) {
+      put(kind, kind, Conversion.IDENTITY);
+      if (kind != Kind.STRING) {
+        put(kind, Kind.STRING, Conversion.TO_STRING);
+      }
+    }
+    Kind[] integrals = {Kind.BYTE, Kind.SHORT, Kind.INTEGER, Kind.LONG};
+    for (int i = 0; i < integrals.length; i++) {
+      for (int j = i + 1; j < integrals.length; j++) {
+        put(integrals[i], integrals[j], j == 1 ? Conversion.TO_SHORT : j == 2 ? Conversion.TO_INTEGER : Conversion.TO_LONG);
+      }
+      put(integrals[i], Kind.FLOAT, Conversion.TO_FLOAT);
+      put(integrals[i], Kind.DOUBLE, Conversion.TO_DOUBLE);
+      put(integrals[i], Kind.BIG_INTEGER, Conversion.TO_BIG_INTEGER);
+      put(integrals[i], Kind.BIG_DECIMAL, Conversion.TO_BIG_DECIMAL);
+    }
+    put(Kind.FLOAT, Kind.DOUBLE, Conversion.TO_DOUBLE);
+    put(Kind.BIG_INTEGER, Kind.BIG_DECIMAL, Conversion.TO_BIG_DECIMAL);
+  }
+
+  private ScalarConverters() {
+  }
+
+  private static void put(Kind srcKind, Kind destKind, Converter converter) {
+    TABLE[srcKind.ordinal()][destKind.ordinal()] = converter;
+  }
+
+  /**
+   * Returns the specialized conversion, or null if values of the source type need the general converter.
+   */
+  static Converter find(Class<?> srcClass, Class<?> destClass) {
+    Kind srcKind = KINDS.get(srcClass);
+    Kind destKind = KINDS.get(destClass);
+    if (srcKind == null || destKind == null) {
+      return null;
+    }
+    return TABLE[srcKind.ordinal()][destKind.ordinal()];
+  }
+
+}
@@ -27,6 +27,18 @@ import java.lang.reflect.Constructor;
  */
 public class StringConstructorConverter implements Converter {
 
+  // String constructor by class, or the exception thrown when looking it up
+  private static final ClassValue<Object> STRING_CONSTRUCTORS = new ClassValue<Object>() {
+    @Override
+    protected Object computeValue(Class<?> type) {
+      try {
+        return type.getConstructor(String.class);
+      } catch (NoSuchMethodException e) {
+        return e;
+      }
+    }
+  };
+
   private StringConverter stringConverter;
 
   public StringConstructorConverter(DateFormatContainer dateFormatContainer) {
@@ -35,12 +47,13 @@ public class StringConstructorConverter implements Converter {
 
   public Object convert(Class destClass, Object srcObj) {
     String result = (String) stringConverter.convert(destClass, srcObj);
-    try {
-      Constructor constructor = destClass.getConstructor(String.class); // TODO Check, but not catch
-      return constructor.newInstance(result);
-    } catch (NoSuchMethodException e) {
+    Object constructor = STRING_CONSTRUCTORS.get(destClass);
+    if (!(constructor instanceof Constructor)) {
       // just return the string
       return result;
+    }
+    try {
+      return ((Constructor) constructor).newInstance(result);
     } catch (Exception e) {
       throw new ConversionException(e);
     }
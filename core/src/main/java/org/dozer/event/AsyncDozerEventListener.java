@@ -0,0 +1,263 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.dozer.DozerEventListener;
+import org.dozer.SelectiveDozerEventListener;
+import org.dozer.classmap.ClassMap;
+import org.dozer.fieldmap.FieldMap;
+import org.dozer.util.MappingUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Event listener which delivers events to another listener on a background thread, so that a slow listener does not
+ * add to the mapping time. Suits listeners which only observe mappings, e.g. for auditing or metrics. Listeners which
+ * modify the mapped objects must not be wrapped, as they would run concurrently with the mapping.
+ *
+ * <p>
+ * Events are queued in a bounded buffer and delivered in batches, in the order they were fired. Each event keeps the
+ * source object, destination object and destination value it was created with. Objects are not copied, so the
+ * listener sees their state at the time of delivery. If the buffer is full, the event is either dropped or the mapping
+ * waits for free space, depending on the overflow policy.
+ *
+ * <p>
+ * Events fired after {@link #close()} are delivered synchronously.
+ */
+public class AsyncDozerEventListener implements SelectiveDozerEventListener {
+
+  /**
+   * Handling of events fired while the buffer is full.
+   */
+  public enum OverflowPolicy {
+
+    /**
+     * Event is discarded and counted in {@link AsyncDozerEventListener#getDroppedEvents()}.
+     */
+    DROP,
+
+    /**
+     * Mapping waits until the listener has taken events out of the buffer.
+     */
+    BLOCK
+
+  }
+
+  public static final int DEFAULT_CAPACITY = 1024;
+  public static final int DEFAULT_BATCH_SIZE = 64;
+
+  private static final long POLL_MILLIS = 100;
+  private static final long POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(POLL_MILLIS);
+
+  private final Logger log = LoggerFactory.getLogger(AsyncDozerEventListener.class);
+
+  private final DozerEventListener listener;
+  private final OverflowPolicy overflowPolicy;
+  private final int capacity;
+  private final int batchSize;
+  // Queueing takes no lock. The buffer is bounded by the number of queued events, counted separately.
+  private final Queue<DozerEvent> buffer = new ConcurrentLinkedQueue<DozerEvent>();
+  private final AtomicInteger bufferSize = new AtomicInteger();
+  // Mappings blocked by a full buffer wait on it
+  private final Object space = new Object();
+  private final AtomicLong droppedEvents = new AtomicLong();
+  private final Thread dispatcher;
+  private volatile boolean dispatcherIdle;
+  private volatile boolean closed;
+
+  public AsyncDozerEventListener(DozerEventListener listener) {
+    this(listener, DEFAULT_CAPACITY, OverflowPolicy.DROP);
+  }
+
+  public AsyncDozerEventListener(DozerEventListener listener, int capacity, OverflowPolicy overflowPolicy) {
+    this(listener, capacity, overflowPolicy, DEFAULT_BATCH_SIZE);
+  }
+
+  public AsyncDozerEventListener(DozerEventListener listener, int capacity, OverflowPolicy overflowPolicy, int batchSize) {
+    if (listener == null || overflowPolicy == null || capacity < 1 || batchSize < 1) {
+      MappingUtils.throwMappingException("Asynchronous event listener requires a listener, an overflow policy, "
+          + "and positive capacity and batch size");
+    }
+    this.listener = listener;
+    this.overflowPolicy = overflowPolicy;
+    this.capacity = capacity;
+    this.batchSize = batchSize;
+    this.dispatcher = new Thread(new Runnable() {
+      public void run() {
+        dispatchEvents();
+      }
+    }, "dozer-event-dispatcher");
+    dispatcher.setDaemon(true);
+    dispatcher.start();
+  }
+
+  public boolean isInterested(DozerEventType eventType, ClassMap classMap, FieldMap fieldMap) {
+    return DozerEventManager.isInterested(listener, eventType, classMap, fieldMap);
+  }
+
+  public void mappingStarted(DozerEvent event) {
+    enqueue(event);
+  }
+
+  public void preWritingDestinationValue(DozerEvent event) {
+    enqueue(event);
+  }
+
+  public void postWritingDestinationValue(DozerEvent event) {
+    enqueue(event);
+  }
+
+  public void mappingFinished(DozerEvent event) {
+    enqueue(event);
+  }
+
+  /**
+   * Returns the number of events discarded because the buffer was full.
+   */
+  public long getDroppedEvents() {
+    return droppedEvents.get();
+  }
+
+  /**
+   * Stops the background thread after all queued events are delivered.
+   *
+   * @throws InterruptedException if interrupted while waiting for queued events to be delivered
+   */
+  public void close() throws InterruptedException {
+    closed = true;
+    LockSupport.unpark(dispatcher);
+    synchronized (space) {
+      space.notifyAll();
+    }
+    dispatcher.join();
+    // Events queued by mappings which were running while closing
+    deliverQueued();
+  }
+
+  private void enqueue(DozerEvent event) {
+    if (closed) {
+      deliver(event);
+      return;
+    }
+    if (!reserveSpace()) {
+      if (overflowPolicy == OverflowPolicy.DROP) {
+        droppedEvents.incrementAndGet();
+        return;
+      }
+      if (!awaitSpace(event)) {
+        // Closed while waiting
+        deliver(event);
+        return;
+      }
+    }
+    buffer.offer(event);
+    if (dispatcherIdle) {
+      LockSupport.unpark(dispatcher);
+    }
+    // The dispatcher may have stopped and close() may have emptied the buffer before the event was queued. Whoever
+    // takes an event out of the buffer delivers it, so no event is lost or delivered twice.
+    if (closed) {
+      deliverQueued();
+    }
+  }
+
+  private boolean reserveSpace() {
+    for (;;) {
+      int size = bufferSize.get();
+      if (size >= capacity) {
+        return false;
+      }
+      if (bufferSize.compareAndSet(size, size + 1)) {
+        return true;
+      }
+    }
+  }
+
+  private boolean awaitSpace(DozerEvent event) {
+    synchronized (space) {
+      while (!reserveSpace()) {
+        if (closed) {
+          return false;
+        }
+        try {
+          space.wait(POLL_MILLIS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          MappingUtils.throwMappingException("Interrupted while waiting to queue " + event.getType() + " event", e);
+        }
+      }
+    }
+    return true;
+  }
+
+  private void releaseSpace(int events) {
+    bufferSize.addAndGet(-events);
+    if (overflowPolicy == OverflowPolicy.BLOCK) {
+      synchronized (space) {
+        space.notifyAll();
+      }
+    }
+  }
+
+  private void dispatchEvents() {
+    List<DozerEvent> batch = new ArrayList<DozerEvent>(batchSize);
+    while (!closed || !buffer.isEmpty()) {
+      for (DozerEvent event = buffer.poll(); event != null; event = batch.size() < batchSize ? buffer.poll() : null) {
+        batch.add(event);
+      }
+      if (batch.isEmpty()) {
+        dispatcherIdle = true;
+        if (buffer.isEmpty() && !closed) {
+          LockSupport.parkNanos(this, POLL_NANOS);
+          // Delivery continues until closed, queued events would be lost otherwise
+          Thread.interrupted();
+        }
+        dispatcherIdle = false;
+        continue;
+      }
+      releaseSpace(batch.size());
+      for (DozerEvent event : batch) {
+        deliver(event);
+      }
+      batch.clear();
+    }
+  }
+
+  private void deliverQueued() {
+    for (DozerEvent event = buffer.poll(); event != null; event = buffer.poll()) {
+      releaseSpace(1);
+      deliver(event);
+    }
+  }
+
+  private void deliver(DozerEvent event) {
+    try {
+      DozerEventManager.dispatch(listener, event);
+    } catch (RuntimeException e) {
+      log.error("Event listener failed on " + event.getType() + " event", e);
+    }
+  }
+
+}
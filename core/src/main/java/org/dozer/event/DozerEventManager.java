@@ -16,6 +16,9 @@
 package org.dozer.event;
 
 import org.dozer.DozerEventListener;
+import org.dozer.SelectiveDozerEventListener;
+import org.dozer.classmap.ClassMap;
+import org.dozer.fieldmap.FieldMap;
 import org.dozer.util.MappingUtils;
 
 import java.util.List;
@@ -34,6 +37,23 @@ public final class DozerEventManager implements EventManager {
     this.eventListeners = eventListeners;
   }
 
+  public boolean hasListeners() {
+    return eventListeners != null && !eventListeners.isEmpty();
+  }
+
+  public boolean isInterested(DozerEventType eventType, ClassMap classMap, FieldMap fieldMap) {
+    if (eventListeners == null) {
+      return false;
+    }
+    // Indexed loop, as this is called for every mapped field
+    for (int i = 0; i < eventListeners.size(); i++) {
+      if (isInterested(eventListeners.get(i), eventType, classMap, fieldMap)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   public void fireEvent(DozerEvent event) {
     // If no listeners were specified, then just return.
     if (eventListeners == null) {
@@ -41,24 +61,37 @@ public final class DozerEventManager implements EventManager {
     }
     DozerEventType eventType = event.getType();
     for (DozerEventListener listener : eventListeners) {
-      switch (eventType) {
-       case MAPPING_STARTED:
-         listener.mappingStarted(event);
-         break;
-       case MAPPING_PRE_WRITING_DEST_VALUE:
-         listener.preWritingDestinationValue(event);
-         break;
-       case MAPPING_POST_WRITING_DEST_VALUE:
-         listener.postWritingDestinationValue(event);
-         break;
-       case MAPPING_FINISHED:
-         listener.mappingFinished(event);
-         break;
-       default:
-         MappingUtils.throwMappingException("Unsupported event type: " + eventType);
-       break;
+      if (isInterested(listener, eventType, event.getClassMap(), event.getFieldMap())) {
+        dispatch(listener, event);
       }
     }
   }
 
+  static void dispatch(DozerEventListener listener, DozerEvent event) {
+    DozerEventType eventType = event.getType();
+    switch (eventType) {
+     case MAPPING_STARTED:
+       listener.mappingStarted(event);
+       break;
+     case MAPPING_PRE_WRITING_DEST_VALUE:
+       listener.preWritingDestinationValue(event);
+       break;
+     case MAPPING_POST_WRITING_DEST_VALUE:
+       listener.postWritingDestinationValue(event);
+       break;
+     case MAPPING_FINISHED:
+       listener.mappingFinished(event);
+       break;
+     default:
+       MappingUtils.throwMappingException("Unsupported event type: " + eventType);
+     break;
+    }
+  }
+
+  static boolean isInterested(DozerEventListener listener, DozerEventType eventType, ClassMap classMap,
+                                      FieldMap fieldMap) {
+    return !(listener instanceof SelectiveDozerEventListener)
+        || ((SelectiveDozerEventListener) listener).isInterested(eventType, classMap, fieldMap);
+  }
+
 }
@@ -15,6 +15,9 @@
  */
 package org.dozer.event;
 
+import org.dozer.classmap.ClassMap;
+import org.dozer.fieldmap.FieldMap;
+
 /**
  * Internal event manager interface. Only intended for internal use.
  * 
@@ -22,6 +25,11 @@ package org.dozer.event;
  */
 public interface EventManager {
 
+  /**
+   * Tells whether any listener would receive the event described, so that events are only created when needed.
+   */
+  boolean isInterested(DozerEventType eventType, ClassMap classMap, FieldMap fieldMap);
+
   void fireEvent(DozerEvent event);
 
 }
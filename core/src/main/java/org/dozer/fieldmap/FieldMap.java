@@ -61,6 +61,8 @@ public abstract class FieldMap implements Cloneable {
   private boolean copyByReferenceOveridden;
   private String mapId;
   private String customConverter;
+  // Loaded on first use
+  private Class<?> customConverterClass;
   private String customConverterId;
   private String customConverterParam;
   private RelationshipType relationshipType;
@@ -353,6 +355,19 @@ public abstract class FieldMap implements Cloneable {
 
   public void setCustomConverter(String customConverter) {
     this.customConverter = customConverter;
+    this.customConverterClass = null;
+  }
+
+  /**
+   * Returns the class of the custom converter of this field, which is loaded only once.
+   *
+   * @return custom converter class or null, if the field has no custom converter
+   */
+  public Class<?> getCustomConverterClass() {
+    if (customConverterClass == null && !MappingUtils.isBlankOrNull(customConverter)) {
+      customConverterClass = MappingUtils.loadClass(customConverter);
+    }
+    return customConverterClass;
   }
 
   public RelationshipType getRelationshipType() {
@@ -372,7 +387,7 @@ public abstract class FieldMap implements Cloneable {
     }
   }
 
-  protected DozerPropertyDescriptor getSrcPropertyDescriptor(Class<?> runtimeSrcClass) {
+  public DozerPropertyDescriptor getSrcPropertyDescriptor(Class<?> runtimeSrcClass) {
     DozerPropertyDescriptor result = this.srcPropertyDescriptorMap.get(runtimeSrcClass);
     if (result == null) {
       String srcFieldMapGetMethod = getSrcFieldMapGetMethod();
@@ -388,7 +403,7 @@ public abstract class FieldMap implements Cloneable {
     return result;
   }
 
-  protected DozerPropertyDescriptor getDestPropertyDescriptor(Class<?> runtimeDestClass) {
+  public DozerPropertyDescriptor getDestPropertyDescriptor(Class<?> runtimeDestClass) {
     if (BeanBuilder.class.isAssignableFrom(runtimeDestClass)) {
       MappingUtils.throwMappingException(
               "getDestPropertyDescriptor received builder instead of concrete class - it's a bug, please post stack trace at https://github.com/DozerMapper/dozer or directly to dmitry@spikhalskiy.com ");
@@ -0,0 +1,42 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for a lookup which missed one of Dozer's internal caches. Only intended for internal use.
+ */
+@Name("org.dozer.CacheMiss")
+@Label("Cache Miss")
+@Description("Lookup which missed an internal cache")
+@Category("Dozer")
+@Enabled(false)
+@StackTrace(false)
+final class CacheMissEvent extends jdk.jfr.Event {
+
+  @Label("Cache")
+  String cacheName;
+
+  @Label("Key")
+  String key;
+
+}
@@ -0,0 +1,43 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for creating the default class mapping of two classes which have no configured mapping. Only
+ * intended for internal use.
+ */
+@Name("org.dozer.ClassMapCreation")
+@Label("Class Map Creation")
+@Description("Creation of a default class mapping")
+@Category("Dozer")
+@Enabled(false)
+@StackTrace(false)
+final class ClassMapCreationEvent extends jdk.jfr.Event {
+
+  @Label("Source Class")
+  Class<?> sourceClass;
+
+  @Label("Destination Class")
+  Class<?> destinationClass;
+
+}
@@ -0,0 +1,34 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.jfr;
+
+import jdk.jfr.EventType;
+
+/**
+ * Flight recorder event types, so that the enabled state can be checked before an event is allocated. Only loaded if
+ * the jdk.jfr module is available. Only intended for internal use.
+ */
+final class EventTypes {
+
+  static final EventType MAPPING = EventType.getEventType(MappingEvent.class);
+  static final EventType CUSTOM_CONVERTER = EventType.getEventType(CustomConverterEvent.class);
+  static final EventType CLASS_MAP_CREATION = EventType.getEventType(ClassMapCreationEvent.class);
+  static final EventType CACHE_MISS = EventType.getEventType(CacheMissEvent.class);
+
+  private EventTypes() {
+  }
+
+}
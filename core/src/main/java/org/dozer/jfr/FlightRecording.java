@@ -0,0 +1,134 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.jfr;
+
+/**
+ * Internal entry point for emitting Java Flight Recorder events. All events are disabled by default and have to be
+ * enabled in the recording settings, e.g. with {@code jfr configure +org.dozer.Mapping#enabled=true}. Without
+ * recording, or on a JVM without the jdk.jfr module, the methods return without allocating an event. Events are
+ * passed around as Object so that callers do not depend on jdk.jfr classes. Only intended for internal use.
+ */
+public final class FlightRecording {
+
+  private static final boolean AVAILABLE = isAvailable();
+
+  private FlightRecording() {
+  }
+
+  /**
+   * @return started mapping event, or null if it is not recorded
+   */
+  public static Object beginMapping() {
+    if (!AVAILABLE || !EventTypes.MAPPING.isEnabled()) {
+      return null;
+    }
+    MappingEvent event = new MappingEvent();
+    event.begin();
+    return event;
+  }
+
+  public static void endMapping(Object event, Class<?> srcClass, Class<?> destClass, String mapId, boolean topLevel) {
+    if (event == null) {
+      return;
+    }
+    MappingEvent mappingEvent = (MappingEvent) event;
+    mappingEvent.end();
+    if (mappingEvent.shouldCommit()) {
+      mappingEvent.sourceClass = srcClass;
+      mappingEvent.destinationClass = destClass;
+      mappingEvent.mapId = mapId;
+      mappingEvent.topLevel = topLevel;
+      mappingEvent.commit();
+    }
+  }
+
+  /**
+   * @return started custom converter event, or null if it is not recorded
+   */
+  public static Object beginCustomConverter() {
+    if (!AVAILABLE || !EventTypes.CUSTOM_CONVERTER.isEnabled()) {
+      return null;
+    }
+    CustomConverterEvent event = new CustomConverterEvent();
+    event.begin();
+    return event;
+  }
+
+  public static void endCustomConverter(Object event, Class<?> converterClass, Class<?> srcClass, Class<?> destClass) {
+    if (event == null) {
+      return;
+    }
+    CustomConverterEvent converterEvent = (CustomConverterEvent) event;
+    converterEvent.end();
+    if (converterEvent.shouldCommit()) {
+      converterEvent.converterClass = converterClass;
+      converterEvent.sourceClass = srcClass;
+      converterEvent.destinationClass = destClass;
+      converterEvent.commit();
+    }
+  }
+
+  /**
+   * @return started class map creation event, or null if it is not recorded
+   */
+  public static Object beginClassMapCreation() {
+    if (!AVAILABLE || !EventTypes.CLASS_MAP_CREATION.isEnabled()) {
+      return null;
+    }
+    ClassMapCreationEvent event = new ClassMapCreationEvent();
+    event.begin();
+    return event;
+  }
+
+  public static void endClassMapCreation(Object event, Class<?> srcClass, Class<?> destClass) {
+    if (event == null) {
+      return;
+    }
+    ClassMapCreationEvent creationEvent = (ClassMapCreationEvent) event;
+    creationEvent.end();
+    if (creationEvent.shouldCommit()) {
+      creationEvent.sourceClass = srcClass;
+      creationEvent.destinationClass = destClass;
+      creationEvent.commit();
+    }
+  }
+
+  public static void cacheMiss(String cacheName, Object key) {
+    if (!AVAILABLE || !EventTypes.CACHE_MISS.isEnabled()) {
+      return;
+    }
+    CacheMissEvent event = new CacheMissEvent();
+    if (event.shouldCommit()) {
+      event.cacheName = cacheName;
+      event.key = String.valueOf(key);
+      event.commit();
+    }
+  }
+
+  private static boolean isAvailable() {
+    try {
+      Class.forName("jdk.jfr.Event", false, FlightRecording.class.getClassLoader());
+      return EventTypes.MAPPING != null;
+    } catch (ClassNotFoundException e) {
+      return false;
+    } catch (LinkageError e) {
+      return false;
+    } catch (SecurityException e) {
+      return false;
+    }
+  }
+
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.jmx;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.dozer.stats.MappingProfiler;
+
+/**
+ * Public Dozer JMX Bean for profiling class and field mappings
+ */
+public class DozerProfilerController implements DozerProfilerControllerMBean {
+
+  private static final int DEFAULT_TOP_COUNT = 20;
+
+  private final MappingProfiler profiler = MappingProfiler.getInstance();
+  private volatile int topCount = DEFAULT_TOP_COUNT;
+
+  public boolean isProfilingEnabled() {
+    return profiler.isEnabled();
+  }
+
+  public void setProfilingEnabled(boolean profilingEnabled) {
+    profiler.setEnabled(profilingEnabled);
+  }
+
+  public boolean isAllocationProfilingSupported() {
+    return profiler.isAllocationSupported();
+  }
+
+  public int getTopCount() {
+    return topCount;
+  }
+
+  public void setTopCount(int topCount) {
+    this.topCount = Math.max(1, topCount);
+  }
+
+  public List<String> getMostExpensiveClassMappings() {
+    return toStrings(profiler.getTopClassMappings(topCount, false));
+  }
+
+  public List<String> getMostExpensiveFieldMappings() {
+    return toStrings(profiler.getTopFieldMappings(topCount, false));
+  }
+
+  public List<String> getMostAllocatingClassMappings() {
+    return toStrings(profiler.getTopClassMappings(topCount, true));
+  }
+
+  public List<String> getMostAllocatingFieldMappings() {
+    return toStrings(profiler.getTopFieldMappings(topCount, true));
+  }
+
+  public String dumpProfile() {
+    StringBuilder result = new StringBuilder();
+    appendSection(result, "Most expensive class mappings", getMostExpensiveClassMappings());
+    appendSection(result, "Most expensive field mappings", getMostExpensiveFieldMappings());
+    if (profiler.isAllocationSupported()) {
+      appendSection(result, "Most allocating class mappings", getMostAllocatingClassMappings());
+      appendSection(result, "Most allocating field mappings", getMostAllocatingFieldMappings());
+    }
+    return result.toString();
+  }
+
+  public void clearAll() {
+    profiler.clearAll();
+  }
+
+  private static List<String> toStrings(List<MappingProfiler.Profile> profiles) {
+    List<String> result = new ArrayList<String>(profiles.size());
+    for (MappingProfiler.Profile profile : profiles) {
+      result.add(profile.toString());
+    }
+    return result;
+  }
+
+  private static void appendSection(StringBuilder result, String title, List<String> lines) {
+    result.append(title).append(":\n");
+    for (String line : lines) {
+      result.append("  ").append(line).append('\n');
+    }
+  }
+
+}
@@ -0,0 +1,36 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.jmx;
+
+import java.util.List;
+
+/**
+ * Public Dozer JMX Bean interface for profiling class and field mappings. Times and allocated memory include nested
+ * mappings.
+ */
+public interface DozerProfilerControllerMBean {
+  public boolean isProfilingEnabled();
+  public void setProfilingEnabled(boolean profilingEnabled);
+  public boolean isAllocationProfilingSupported();
+  public int getTopCount();
+  public void setTopCount(int topCount);
+  public List<String> getMostExpensiveClassMappings();
+  public List<String> getMostExpensiveFieldMappings();
+  public List<String> getMostAllocatingClassMappings();
+  public List<String> getMostAllocatingFieldMappings();
+  public String dumpProfile();
+  public void clearAll();
+}
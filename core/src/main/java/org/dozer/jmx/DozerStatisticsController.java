@@ -17,10 +17,13 @@ package org.dozer.jmx;
 
 import org.dozer.config.GlobalSettings;
 import org.dozer.stats.GlobalStatistics;
+import org.dozer.stats.LatencyHistogram;
 import org.dozer.stats.StatisticEntry;
 import org.dozer.stats.StatisticType;
 import org.dozer.stats.StatisticsManager;
 
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 
@@ -32,6 +35,9 @@ import java.util.TreeSet;
  */
 public class DozerStatisticsController implements DozerStatisticsControllerMBean {
 
+  private static final long NANOS_PER_MILLI = 1000000;
+  private static final double NANOS_PER_MICRO = 1000;
+
   private final StatisticsManager statsMgr = GlobalStatistics.getInstance().getStatsMgr();
 
   public void clearAll() {
@@ -59,7 +65,7 @@ public class DozerStatisticsController implements DozerStatisticsControllerMBean
   }
 
   public long getMappingOverallTimeInMillis() {
-    return getStatisticValue(StatisticType.MAPPING_TIME);
+    return getStatisticValue(StatisticType.MAPPING_TIME) / NANOS_PER_MILLI;
   }
 
   public Set<String> getMappingFailureExceptionTypes() {
@@ -95,19 +101,37 @@ public class DozerStatisticsController implements DozerStatisticsControllerMBean
   }
 
   public long getCustomConverterOverallTimeInMillis() {
-    return getStatisticValue(StatisticType.CUSTOM_CONVERTER_TIME);
+    return getStatisticValue(StatisticType.CUSTOM_CONVERTER_TIME) / NANOS_PER_MILLI;
   }
 
   public double getMappingAverageTimeInMillis() {
     double totalTime = getStatisticValue(StatisticType.MAPPING_TIME);
     double totalCount = getStatisticValue(StatisticType.MAPPING_SUCCESS_COUNT);
-    return totalTime / totalCount;
+    return totalTime / totalCount / NANOS_PER_MILLI;
   }
 
   public double getCustomConverterAverageTimeInMillis() {
     double totalTime = getStatisticValue(StatisticType.CUSTOM_CONVERTER_TIME);
     double totalCount = getStatisticValue(StatisticType.CUSTOM_CONVERTER_SUCCESS_COUNT);
-    return totalTime / totalCount;
+    return totalTime / totalCount / NANOS_PER_MILLI;
+  }
+
+  public Set<String> getMappingTimePercentiles() {
+    Set<String> result = new TreeSet<String>();
+    for (Map.Entry<String, LatencyHistogram> entry : statsMgr.getMappingTimeHistograms().entrySet()) {
+      LatencyHistogram histogram = entry.getValue();
+      result.add(String.format(Locale.ROOT,
+          "%s: Count %d, Mean %.1fus, p50 %.1fus, p90 %.1fus, p99 %.1fus, p99.9 %.1fus, Max %.1fus",
+          entry.getKey(), histogram.getCount(), histogram.getMean() / NANOS_PER_MICRO,
+          micros(histogram.getValueAtPercentile(50)), micros(histogram.getValueAtPercentile(90)),
+          micros(histogram.getValueAtPercentile(99)), micros(histogram.getValueAtPercentile(99.9)),
+          micros(histogram.getMax())));
+    }
+    return result;
+  }
+
+  private static double micros(long nanos) {
+    return (double) nanos / NANOS_PER_MICRO;
   }
 
   public double getCustomConverterPercentageOfMappingTime() {
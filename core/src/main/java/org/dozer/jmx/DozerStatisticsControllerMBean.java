@@ -28,6 +28,10 @@ public interface DozerStatisticsControllerMBean {
   public long getMappingFailureCount();
   public Set<String> getMappingFailureExceptionTypes();
   public Set<String> getMappingFailureTypes();
+  /**
+   * Mapping time percentiles in microseconds, one entry per source and destination class pair
+   */
+  public Set<String> getMappingTimePercentiles();
   public long getMappingOverallTimeInMillis();
   public Set<String> getCacheHitCount();
   public Set<String> getCacheMissCount();
@@ -110,6 +110,11 @@ public class DozerBuilder {
       return this;
     }
 
+    public MappingBuilder tree(boolean value) {
+      classMap.setTree(value);
+      return this;
+    }
+
     public MappingBuilder stopOnErrors(Boolean value) {
       classMap.setStopOnErrors(value);
       return this;
@@ -106,6 +106,18 @@ public final class TypeMappingOptions {
     };
   }
 
+  public static TypeMappingOption tree() {
+    return tree(true);
+  }
+
+  public static TypeMappingOption tree(final boolean value) {
+    return new TypeMappingOption() {
+      public void apply(DozerBuilder.MappingBuilder fieldMappingBuilder) {
+        fieldMappingBuilder.tree(value);
+      }
+    };
+  }
+
   public static TypeMappingOption oneWay() {
     return new TypeMappingOption() {
       public void apply(DozerBuilder.MappingBuilder fieldMappingBuilder) {
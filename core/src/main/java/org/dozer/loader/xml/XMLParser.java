@@ -47,6 +47,7 @@ public class XMLParser implements MappingsSource<Document> {
   // Common Elements/Attributes
   private static final String WILDCARD = "wildcard";
   private static final String TRIM_STRINGS = "trim-strings";
+  private static final String TREE = "tree";
   private static final String BEAN_FACTORY = "bean-factory";
   private static final String DATE_FORMAT = "date-format";
   private static final String RELATIONSHIP_TYPE = "relationship-type";
@@ -168,6 +169,9 @@ public class XMLParser implements MappingsSource<Document> {
     if (StringUtils.isNotEmpty(getAttribute(ele, TRIM_STRINGS))) {
       definitionBuilder.trimStrings(Boolean.valueOf(getAttribute(ele, TRIM_STRINGS)));
     }
+    if (StringUtils.isNotEmpty(getAttribute(ele, TREE))) {
+      definitionBuilder.tree(Boolean.valueOf(getAttribute(ele, TREE)));
+    }
     if (StringUtils.isNotEmpty(getAttribute(ele, STOP_ON_ERRORS_ATTRIBUTE))) {
       definitionBuilder.stopOnErrors(Boolean.valueOf(getAttribute(ele, STOP_ON_ERRORS_ATTRIBUTE)));
     }
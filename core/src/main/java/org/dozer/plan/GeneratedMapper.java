@@ -0,0 +1,29 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.plan;
+
+/**
+ * Internal interface implemented by mapper classes generated at runtime for a {@link MappingPlan}. A generated mapper
+ * copies all fields of the plan in straight-line code. Only intended for internal use.
+ */
+public interface GeneratedMapper {
+
+  /**
+   * @throws GeneratedMapperException with the index of the failed step if reading or writing a property fails
+   */
+  void map(Object srcObj, Object destObj);
+
+}
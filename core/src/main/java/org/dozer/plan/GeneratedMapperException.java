@@ -0,0 +1,40 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.plan;
+
+/**
+ * Internal exception thrown by a {@link GeneratedMapper} when one of its steps fails. Steps before the failed one
+ * have been mapped, so the mapping can continue after it. Only intended for internal use.
+ */
+public final class GeneratedMapperException extends RuntimeException {
+
+  private static final long serialVersionUID = 1L;
+
+  private final int step;
+
+  public GeneratedMapperException(Throwable cause, int step) {
+    super(cause);
+    this.step = step;
+  }
+
+  /**
+   * @return index of the failed step in the mapping plan
+   */
+  public int getStep() {
+    return step;
+  }
+
+}
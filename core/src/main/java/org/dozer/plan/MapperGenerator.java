@@ -0,0 +1,273 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.plan;
+
+import static org.dozer.util.BytecodeUtils.addInvoke;
+import static org.dozer.util.BytecodeUtils.addMethod;
+import static org.dozer.util.BytecodeUtils.addPop;
+import static org.dozer.util.BytecodeUtils.isAccessible;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javassist.bytecode.Bytecode;
+import javassist.bytecode.ClassFile;
+import javassist.bytecode.Opcode;
+import org.apache.commons.lang3.ClassUtils;
+import org.dozer.BeanBuilder;
+import org.dozer.cache.Cache;
+import org.dozer.classmap.ClassMap;
+import org.dozer.converters.CustomConverterContainer;
+import org.dozer.fieldmap.FieldMap;
+import org.dozer.fieldmap.GenericFieldMap;
+import org.dozer.propertydescriptor.DozerPropertyDescriptor;
+import org.dozer.propertydescriptor.JavaBeanPropertyDescriptor;
+import org.dozer.util.BytecodeUtils;
+import org.dozer.util.GeneratedClassLoader;
+import org.dozer.util.MappingUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Internal class that generates {@link GeneratedMapper} implementations with Javassist. Only plans consisting
+ * entirely of same type copies of primitives, wrappers and strings between plain java bean properties are supported,
+ * as the result of such mapping does not depend on anything but the two property values. The generated code performs
+ * the same steps as the mapping engine: read the source value, skip the write if the destination already holds the
+ * same reference, write the destination value. Only intended for internal use.
+ */
+final class MapperGenerator {
+
+  private static final Logger log = LoggerFactory.getLogger(MapperGenerator.class);
+
+  private static final String MAP_DESCRIPTOR = "(Ljava/lang/Object;Ljava/lang/Object;)V";
+  // Local variables of the generated map method
+  private static final int VALUE_VARIABLE = 3;
+  private static final int STEP_VARIABLE = 4;
+  private static final Set<Class<?>> SCALAR_TYPES = new HashSet<Class<?>>();
+
+  static {
+    for (Class<?> primitive : new Class<?>[] {Boolean.TYPE, Byte.TYPE, Character.TYPE, Short.TYPE, Integer.TYPE,
+        Long.TYPE, Float.TYPE, Double.TYPE}) {
+      SCALAR_TYPES.add(primitive);
+      SCALAR_TYPES.add(ClassUtils.primitiveToWrapper(primitive));
+    }
+    SCALAR_TYPES.add(String.class);
+  }
+
+  private final Cache<Object, Class<?>> converterByDestTypeCache;
+
+  MapperGenerator(Cache<Object, Class<?>> converterByDestTypeCache) {
+    this.converterByDestTypeCache = converterByDestTypeCache;
+  }
+
+  /**
+   * @return generated mapper, or null if any of the steps needs the mapping engine
+   */
+  GeneratedMapper generate(ClassMap classMap, Class<?> srcClass, Class<?> destClass, MappingStep[] steps) {
+    if (steps.length == 0 || BeanBuilder.class.isAssignableFrom(destClass)) {
+      return null;
+    }
+    List<Property> properties = new ArrayList<Property>(steps.length);
+    for (MappingStep step : steps) {
+      Property property = step.isConverter() || step.isIterate() ? null : resolve(step.getFieldMap(), srcClass, destClass);
+      if (property == null) {
+        return null;
+      }
+      properties.add(property);
+    }
+    ClassLoader classLoader = findClassLoader(properties, destClass.getClassLoader(), srcClass.getClassLoader());
+    if (classLoader == null) {
+      return null;
+    }
+
+    ClassFile classFile = BytecodeUtils.createClassFile(GeneratedClassLoader.nextClassName("ClassMapper"),
+        GeneratedMapper.class);
+    Bytecode code = new Bytecode(classFile.getConstPool(), 4, 5);
+    // The step is stored before the handled range, so the handler always finds it initialized
+    code.addIconst(0);
+    code.addIstore(STEP_VARIABLE);
+    int start = code.currentPc();
+    for (int i = 0; i < properties.size(); i++) {
+      if (i > 0) {
+        code.addIconst(i);
+        code.addIstore(STEP_VARIABLE);
+      }
+      addCopy(code, properties.get(i));
+    }
+    int end = code.currentPc();
+    code.addOpcode(Opcode.RETURN);
+    addFailure(code, start, end);
+    addMethod(classFile, "map", MAP_DESCRIPTOR, code);
+
+    try {
+      return (GeneratedMapper) BytecodeUtils.newInstance(classFile, classLoader);
+    } catch (IOException e) {
+      log.debug("Failed to generate mapper for " + classMap, e);
+    } catch (InstantiationException e) {
+      log.debug("Failed to generate mapper for " + classMap, e);
+    } catch (IllegalAccessException e) {
+      log.debug("Failed to generate mapper for " + classMap, e);
+    } catch (LinkageError e) {
+      log.debug("Failed to generate mapper for " + classMap, e);
+    }
+    return null;
+  }
+
+  private Property resolve(FieldMap fieldMap, Class<?> srcClass, Class<?> destClass) {
+    if (!GenericFieldMap.class.equals(fieldMap.getClass()) || !isPlain(fieldMap)) {
+      return null;
+    }
+    try {
+      DozerPropertyDescriptor srcDescriptor = fieldMap.getSrcPropertyDescriptor(srcClass);
+      DozerPropertyDescriptor destDescriptor = fieldMap.getDestPropertyDescriptor(destClass);
+      if (!JavaBeanPropertyDescriptor.class.equals(srcDescriptor.getClass())
+          || !JavaBeanPropertyDescriptor.class.equals(destDescriptor.getClass())) {
+        return null;
+      }
+      Method readMethod = ((JavaBeanPropertyDescriptor) srcDescriptor).getReadMethod();
+      Method writeMethod = ((JavaBeanPropertyDescriptor) destDescriptor).getWriteMethod();
+      Class<?> type = readMethod.getReturnType();
+      if (!SCALAR_TYPES.contains(type) || !isAccessible(readMethod) || !isAccessible(writeMethod)
+          || readMethod.getParameterTypes().length != 0 || writeMethod.getParameterTypes().length != 1
+          || !type.equals(writeMethod.getParameterTypes()[0]) || !type.equals(fieldMap.getSrcFieldType(srcClass))
+          || !type.equals(fieldMap.getDestFieldType(destClass)) || hasConverter(fieldMap, type)) {
+        return null;
+      }
+      // Reference values are not written when the destination already holds the same instance
+      Method destReadMethod = null;
+      if (!type.isPrimitive()) {
+        destReadMethod = findReadMethod((JavaBeanPropertyDescriptor) destDescriptor);
+        if (destReadMethod != null && (!isAccessible(destReadMethod) || destReadMethod.getParameterTypes().length != 0
+            || !type.equals(destReadMethod.getReturnType()))) {
+          return null;
+        }
+      }
+      return new Property(readMethod, writeMethod, destReadMethod);
+    } catch (Exception e) {
+      // let the mapping engine report the problem
+      return null;
+    }
+  }
+
+  private static boolean isPlain(FieldMap fieldMap) {
+    return !fieldMap.isSrcFieldIndexed() && !fieldMap.isDestFieldIndexed()
+        && !MappingUtils.isDeepMapping(fieldMap.getSrcFieldName()) && !MappingUtils.isDeepMapping(fieldMap.getDestFieldName())
+        && fieldMap.getSrcHintContainer() == null && fieldMap.getDestHintContainer() == null
+        && fieldMap.getSrcDeepIndexHintContainer() == null && fieldMap.getDestDeepIndexHintContainer() == null
+        && MappingUtils.isBlankOrNull(fieldMap.getCustomConverter())
+        && MappingUtils.isBlankOrNull(fieldMap.getCustomConverterId())
+        && fieldMap.isDestMapNull() && fieldMap.isDestMapEmptyString() && !fieldMap.isTrimStrings();
+  }
+
+  private boolean hasConverter(FieldMap fieldMap, Class<?> type) {
+    // Class level converters are looked up by runtime class of the value, which is the wrapper for primitives
+    CustomConverterContainer converters = fieldMap.getClassMap().getCustomConverters();
+    return MappingUtils.determineCustomConverter(fieldMap, converterByDestTypeCache, converters, type, type) != null
+        || MappingUtils.determineCustomConverter(fieldMap, converterByDestTypeCache, converters,
+        ClassUtils.primitiveToWrapper(type), type) != null;
+  }
+
+  private static Method findReadMethod(JavaBeanPropertyDescriptor descriptor) {
+    try {
+      return descriptor.getReadMethod();
+    } catch (Exception e) {
+      // write only property, the mapping engine writes unconditionally as well
+      return null;
+    }
+  }
+
+  private static ClassLoader findClassLoader(List<Property> properties, ClassLoader... candidates) {
+    for (ClassLoader candidate : candidates) {
+      boolean visible = true;
+      for (Property property : properties) {
+        visible &= GeneratedClassLoader.isVisible(property.readMethod.getDeclaringClass(), candidate)
+            && GeneratedClassLoader.isVisible(property.writeMethod.getDeclaringClass(), candidate)
+            && (property.destReadMethod == null
+            || GeneratedClassLoader.isVisible(property.destReadMethod.getDeclaringClass(), candidate));
+      }
+      if (visible) {
+        return candidate;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Adds handler rethrowing any failure of the copies as {@link GeneratedMapperException} with the current step.
+   */
+  private static void addFailure(Bytecode code, int start, int end) {
+    code.addExceptionHandler(start, end, code.currentPc(), Throwable.class.getName());
+    // The handler starts with the thrown exception on the stack
+    code.growStack(1);
+    String exceptionType = GeneratedMapperException.class.getName();
+    code.addNew(exceptionType);
+    code.addOpcode(Opcode.DUP_X1);
+    code.addOpcode(Opcode.SWAP);
+    code.addIload(STEP_VARIABLE);
+    code.addInvokespecial(exceptionType, "<init>", "(Ljava/lang/Throwable;I)V");
+    code.addOpcode(Opcode.ATHROW);
+  }
+
+  private static void addCopy(Bytecode code, Property property) {
+    Method readMethod = property.readMethod;
+    Method writeMethod = property.writeMethod;
+    if (property.destReadMethod == null) {
+      code.addAload(2);
+      code.addCheckcast(writeMethod.getDeclaringClass().getName());
+      code.addAload(1);
+      code.addCheckcast(readMethod.getDeclaringClass().getName());
+      addInvoke(code, readMethod);
+      addInvoke(code, writeMethod);
+      addPop(code, writeMethod.getReturnType());
+      return;
+    }
+    code.addAload(1);
+    code.addCheckcast(readMethod.getDeclaringClass().getName());
+    addInvoke(code, readMethod);
+    code.addAstore(VALUE_VARIABLE);
+    code.addAload(2);
+    code.addCheckcast(property.destReadMethod.getDeclaringClass().getName());
+    addInvoke(code, property.destReadMethod);
+    code.addAload(VALUE_VARIABLE);
+    int branch = code.currentPc();
+    code.addOpcode(Opcode.IF_ACMPEQ);
+    code.addIndex(0);
+    code.addAload(2);
+    code.addCheckcast(writeMethod.getDeclaringClass().getName());
+    code.addAload(VALUE_VARIABLE);
+    addInvoke(code, writeMethod);
+    addPop(code, writeMethod.getReturnType());
+    code.write16bit(branch + 1, code.currentPc() - branch);
+  }
+
+  private static final class Property {
+
+    private final Method readMethod;
+    private final Method writeMethod;
+    private final Method destReadMethod;
+
+    Property(Method readMethod, Method writeMethod, Method destReadMethod) {
+      this.readMethod = readMethod;
+      this.writeMethod = writeMethod;
+      this.destReadMethod = destReadMethod;
+    }
+  }
+
+}
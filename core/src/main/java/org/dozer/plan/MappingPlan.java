@@ -0,0 +1,93 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.plan;
+
+import org.dozer.classmap.ClassMap;
+
+/**
+ * Internal class that holds the precompiled execution plan of a class mapping for one pair of runtime classes.
+ * The plan is immutable and is built only once: class level custom converter, super type mappings and excluded
+ * fields are resolved upfront, so the mapping engine only walks the prepared array of steps. Only intended for
+ * internal use.
+ */
+public final class MappingPlan {
+
+  private final ClassMap classMap;
+  private final Class<?> srcClass;
+  private final Class<?> destClass;
+  private final Class<?> converterClass;
+  private final MappingStep[] steps;
+  private final GeneratedMapper generatedMapper;
+  private final boolean tree;
+
+  MappingPlan(ClassMap classMap, Class<?> srcClass, Class<?> destClass, Class<?> converterClass, MappingStep[] steps,
+              GeneratedMapper generatedMapper, boolean tree) {
+    this.classMap = classMap;
+    this.srcClass = srcClass;
+    this.destClass = destClass;
+    this.converterClass = converterClass;
+    this.steps = steps;
+    this.generatedMapper = generatedMapper;
+    this.tree = tree;
+  }
+
+  public boolean matches(Class<?> srcClass, Class<?> destClass) {
+    return this.srcClass == srcClass && this.destClass == destClass;
+  }
+
+  public ClassMap getClassMap() {
+    return classMap;
+  }
+
+  public Class<?> getSrcClass() {
+    return srcClass;
+  }
+
+  public Class<?> getDestClass() {
+    return destClass;
+  }
+
+  /**
+   * @return class level custom converter which should handle the whole object, or null if fields should be mapped
+   */
+  public Class<?> getConverterClass() {
+    return converterClass;
+  }
+
+  public int getStepCount() {
+    return steps.length;
+  }
+
+  public MappingStep getStep(int index) {
+    return steps[index];
+  }
+
+  /**
+   * @return mapper generated for all steps of the plan, or null if the steps need the mapping engine
+   */
+  public GeneratedMapper getGeneratedMapper() {
+    return generatedMapper;
+  }
+
+  /**
+   * @return whether objects mapped by the plan and below it should not be tracked for cycles and shared references,
+   * either declared by the class map or detected from the destination type graph
+   */
+  public boolean isTree() {
+    return tree;
+  }
+
+}
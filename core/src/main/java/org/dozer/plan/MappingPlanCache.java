@@ -0,0 +1,222 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.plan;
+
+import static org.dozer.util.DozerConstants.ITERATE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.dozer.cache.Cache;
+import org.dozer.cache.CacheKeyFactory;
+import org.dozer.cache.CacheManager;
+import org.dozer.cache.DozerCacheType;
+import org.dozer.classmap.ClassMap;
+import org.dozer.classmap.ClassMappings;
+import org.dozer.fieldmap.ExcludeFieldMap;
+import org.dozer.fieldmap.FieldMap;
+import org.dozer.util.MappingUtils;
+import org.dozer.util.ReflectionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Internal class that compiles and holds {@link MappingPlan} instances of a single bean mapper. Plans are grouped by
+ * class map and looked up by identity of runtime source and destination classes, so a lookup does not allocate.
+ * Only intended for internal use.
+ */
+public final class MappingPlanCache {
+
+  private static final Logger log = LoggerFactory.getLogger(MappingPlanCache.class);
+
+  private static final MappingStep[] NO_STEPS = new MappingStep[0];
+
+  private final ClassMappings classMappings;
+  private final Cache<Object, Class<?>> converterByDestTypeCache;
+  private final Cache<Object, Collection<ClassMap>> superTypeCache;
+  private final MapperGenerator mapperGenerator;
+  private final TreeMappingDetector treeDetector;
+
+  // Most class maps are used with exactly one pair of runtime classes, so the array is scanned linearly
+  private final ConcurrentMap<ClassMap, MappingPlan[]> plans = new ConcurrentHashMap<ClassMap, MappingPlan[]>();
+
+  public MappingPlanCache(ClassMappings classMappings, CacheManager cacheMgr) {
+    this(classMappings, cacheMgr, false, false);
+  }
+
+  /**
+   * @param generateMappers whether plans of simple mappings should get a generated mapper, requires Javassist
+   * @param detectTrees     whether mappings into provably acyclic destination type graphs should not be tracked
+   */
+  public MappingPlanCache(ClassMappings classMappings, CacheManager cacheMgr, boolean generateMappers,
+                          boolean detectTrees) {
+    this.classMappings = classMappings;
+    this.converterByDestTypeCache = getCache(cacheMgr, DozerCacheType.CONVERTER_BY_DEST_TYPE);
+    this.superTypeCache = getCache(cacheMgr, DozerCacheType.SUPER_TYPE_CHECK);
+    this.mapperGenerator = generateMappers ? createMapperGenerator(converterByDestTypeCache) : null;
+    this.treeDetector = detectTrees ? new TreeMappingDetector(classMappings) : null;
+  }
+
+  public MappingPlan getPlan(ClassMap classMap, Class<?> srcClass, Class<?> destClass) {
+    MappingPlan[] candidates = plans.get(classMap);
+    if (candidates != null) {
+      for (MappingPlan candidate : candidates) {
+        if (candidate.matches(srcClass, destClass)) {
+          return candidate;
+        }
+      }
+    }
+    return register(classMap, compile(classMap, srcClass, destClass));
+  }
+
+  public void clear() {
+    plans.clear();
+  }
+
+  MappingPlan compile(ClassMap classMap, Class<?> srcClass, Class<?> destClass) {
+    // Check to see if custom converter has been specified for this mapping
+    // combination. If so, nothing else needs to be resolved.
+    Class<?> converterClass = MappingUtils.findCustomConverter(converterByDestTypeCache, classMap.getCustomConverters(),
+        srcClass, destClass);
+    boolean tree = classMap.isTree() || treeDetector != null && treeDetector.isTree(classMap, destClass);
+    if (converterClass != null) {
+      return new MappingPlan(classMap, srcClass, destClass, converterClass, NO_STEPS, null, tree);
+    }
+
+    List<MappingStep> steps = new ArrayList<MappingStep>();
+    // Super class mappings are processed first. A field mapped as part of a super class mapping is bypassed by
+    // the mappings which follow it.
+    Set<String> mappedParentFields = new HashSet<String>();
+    for (ClassMap superClassMap : checkForSuperTypeMapping(srcClass, destClass)) {
+      Class<?> superConverterClass = MappingUtils.findCustomConverter(converterByDestTypeCache,
+          superClassMap.getCustomConverters(), srcClass, destClass);
+      if (superConverterClass != null) {
+        steps.add(MappingStep.forConverter(superConverterClass));
+      } else {
+        addFieldSteps(superClassMap, mappedParentFields, steps);
+      }
+      for (FieldMap fieldMap : superClassMap.getFieldMaps()) {
+        mappedParentFields.add(getDestFieldKey(fieldMap));
+      }
+    }
+    addFieldSteps(classMap, mappedParentFields, steps);
+
+    MappingStep[] compiledSteps = steps.toArray(new MappingStep[steps.size()]);
+    GeneratedMapper generatedMapper = mapperGenerator != null
+        ? mapperGenerator.generate(classMap, srcClass, destClass, compiledSteps) : null;
+    return new MappingPlan(classMap, srcClass, destClass, null, compiledSteps, generatedMapper, tree);
+  }
+
+  private void addFieldSteps(ClassMap classMap, Set<String> mappedParentFields, List<MappingStep> steps) {
+    for (FieldMap fieldMap : classMap.getFieldMaps()) {
+      // The field has been explicitly excluded from mapping, no step is needed
+      if (fieldMap instanceof ExcludeFieldMap || mappedParentFields.contains(getDestFieldKey(fieldMap))) {
+        continue;
+      }
+      boolean iterate = fieldMap.getDestFieldType() != null && ITERATE.equals(fieldMap.getDestFieldType());
+      steps.add(MappingStep.forField(fieldMap, iterate));
+    }
+  }
+
+  private Collection<ClassMap> checkForSuperTypeMapping(Class<?> srcClass, Class<?> destClass) {
+    // Check cache first
+    Object cacheKey = CacheKeyFactory.createKey(destClass, srcClass);
+    Collection<ClassMap> cachedResult = superTypeCache.get(cacheKey);
+    if (cachedResult != null) {
+      return cachedResult;
+    }
+
+    // If no existing cache entry is found, determine super type mappings.
+    // Recursively walk the inheritance hierarchy.
+    List<ClassMap> superClasses = new ArrayList<ClassMap>();
+    // Need to call getRealSuperclass because proxied data objects will not return correct
+    // superclass when using basic reflection
+
+    List<Class<?>> superSrcClasses = MappingUtils.getSuperClassesAndInterfaces(srcClass);
+    List<Class<?>> superDestClasses = MappingUtils.getSuperClassesAndInterfaces(destClass);
+
+    // add the actual classes to check for mappings between the original and the opposite
+    // super classes
+    superSrcClasses.add(0, srcClass);
+    superDestClasses.add(0, destClass);
+
+    for (Class<?> superSrcClass : superSrcClasses) {
+      for (Class<?> superDestClass : superDestClasses) {
+        if (!(superSrcClass.equals(srcClass) && superDestClass.equals(destClass))) {
+          ClassMap superClassMap = classMappings.find(superSrcClass, superDestClass);
+          if (superClassMap != null) {
+            superClasses.add(superClassMap);
+          }
+        }
+      }
+    }
+
+    Collections.reverse(superClasses); // Done so base classes are processed first
+
+    superTypeCache.put(cacheKey, superClasses);
+
+    return superClasses;
+  }
+
+  private MappingPlan register(ClassMap classMap, MappingPlan plan) {
+    while (true) {
+      MappingPlan[] current = plans.get(classMap);
+      if (current == null) {
+        if (plans.putIfAbsent(classMap, new MappingPlan[] {plan}) == null) {
+          return plan;
+        }
+        continue;
+      }
+      for (MappingPlan candidate : current) {
+        if (candidate.matches(plan.getSrcClass(), plan.getDestClass())) {
+          // concurrently compiled by another thread
+          return candidate;
+        }
+      }
+      MappingPlan[] updated = Arrays.copyOf(current, current.length + 1);
+      updated[current.length] = plan;
+      if (plans.replace(classMap, current, updated)) {
+        return plan;
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <V> Cache<Object, V> getCache(CacheManager cacheMgr, DozerCacheType cacheType) {
+    return cacheMgr.getCache(cacheType.name());
+  }
+
+  private static MapperGenerator createMapperGenerator(Cache<Object, Class<?>> converterByDestTypeCache) {
+    if (ReflectionUtils.isClassPresent("javassist.bytecode.ClassFile")) {
+      return new MapperGenerator(converterByDestTypeCache);
+    }
+    log.warn("Javassist is not found on the classpath. Mapper generation is disabled.");
+    return null;
+  }
+
+  private static String getDestFieldKey(FieldMap fieldMap) {
+    String destFieldKey = fieldMap.getDestFieldKey();
+    return destFieldKey != null ? fieldMap.getDestFieldName() + "[" + destFieldKey + "]" : fieldMap.getDestFieldName();
+  }
+
+}
@@ -0,0 +1,61 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.plan;
+
+import org.dozer.fieldmap.FieldMap;
+
+/**
+ * Internal class that represents one precompiled step of a {@link MappingPlan}. A step either maps a single field or
+ * hands the whole object over to a class level custom converter declared on a super type mapping. Only intended for
+ * internal use.
+ */
+public final class MappingStep {
+
+  private final FieldMap fieldMap;
+  private final Class<?> converterClass;
+  private final boolean iterate;
+
+  private MappingStep(FieldMap fieldMap, Class<?> converterClass, boolean iterate) {
+    this.fieldMap = fieldMap;
+    this.converterClass = converterClass;
+    this.iterate = iterate;
+  }
+
+  static MappingStep forField(FieldMap fieldMap, boolean iterate) {
+    return new MappingStep(fieldMap, null, iterate);
+  }
+
+  static MappingStep forConverter(Class<?> converterClass) {
+    return new MappingStep(null, converterClass, false);
+  }
+
+  public FieldMap getFieldMap() {
+    return fieldMap;
+  }
+
+  public Class<?> getConverterClass() {
+    return converterClass;
+  }
+
+  public boolean isConverter() {
+    return converterClass != null;
+  }
+
+  public boolean isIterate() {
+    return iterate;
+  }
+
+}
@@ -0,0 +1,181 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.plan;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.dozer.classmap.ClassMap;
+import org.dozer.classmap.ClassMappings;
+import org.dozer.converters.CustomConverterDescription;
+import org.dozer.converters.PrimitiveOrWrapperConverter;
+import org.dozer.fieldmap.FieldMap;
+import org.dozer.fieldmap.MapFieldMap;
+import org.dozer.util.ReflectionUtils;
+
+/**
+ * Internal class that detects mappings which can be performed with tree semantics, i.e. without tracking of already
+ * mapped objects. Every object is mapped into a destination field of the object mapped before it, so the mapping
+ * can not recurse endlessly if the graph of destination types is acyclic. The graph is walked through the types of
+ * all fields and bean properties, and every type reached must be a simple value, an enum, a concrete bean or a
+ * collection or array declaring such element type. Custom converters may produce any type, so beans handled by a
+ * custom converter are not supported. Bean factories, create methods, hints and field level converters are not
+ * bound to a type, so configurations using them are never detected. Only intended for internal use.
+ */
+final class TreeMappingDetector {
+
+  private static final PrimitiveOrWrapperConverter primitiveConverter = new PrimitiveOrWrapperConverter();
+
+  private final ClassMappings classMappings;
+  private final ConcurrentMap<Class<?>, Boolean> results = new ConcurrentHashMap<Class<?>, Boolean>();
+  // Class mappings are scanned on first use, once they are all loaded
+  private volatile Boolean supported;
+
+  TreeMappingDetector(ClassMappings classMappings) {
+    this.classMappings = classMappings;
+  }
+
+  boolean isTree(ClassMap classMap, Class<?> destClass) {
+    if (supported == null) {
+      supported = !usesDynamicTypes(classMappings);
+    }
+    if (!supported) {
+      return false;
+    }
+    Boolean result = results.get(destClass);
+    if (result == null) {
+      result = new Walk(classMap.getCustomConverters().getConverters()).isAcyclic(destClass);
+      results.put(destClass, result);
+    }
+    return result;
+  }
+
+  private static boolean usesDynamicTypes(ClassMappings classMappings) {
+    for (ClassMap classMap : classMappings.getAll().values()) {
+      if (classMap.getSrcClassBeanFactory() != null || classMap.getDestClassBeanFactory() != null
+          || classMap.getSrcClassCreateMethod() != null || classMap.getDestClassCreateMethod() != null) {
+        return true;
+      }
+      for (FieldMap fieldMap : classMap.getFieldMaps()) {
+        if (fieldMap instanceof MapFieldMap || fieldMap.getCustomConverter() != null
+            || fieldMap.getCustomConverterId() != null || fieldMap.getSrcHintContainer() != null
+            || fieldMap.getDestHintContainer() != null || fieldMap.getSrcDeepIndexHintContainer() != null
+            || fieldMap.getDestDeepIndexHintContainer() != null) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Depth first walk of the destination type graph. Types on the current path reveal a cycle, types already
+   * walked through are known to be acyclic.
+   */
+  private static final class Walk {
+
+    private final List<CustomConverterDescription> converters;
+    private final Set<Class<?>> path = new HashSet<Class<?>>();
+    private final Set<Class<?>> acyclic = new HashSet<Class<?>>();
+
+    Walk(List<CustomConverterDescription> converters) {
+      this.converters = converters;
+    }
+
+    boolean isAcyclic(Type type) {
+      if (type instanceof ParameterizedType) {
+        Class<?> rawType = (Class<?>) ((ParameterizedType) type).getRawType();
+        if (Collection.class.isAssignableFrom(rawType) || Map.class.isAssignableFrom(rawType)) {
+          for (Type elementType : ((ParameterizedType) type).getActualTypeArguments()) {
+            if (!isAcyclic(elementType)) {
+              return false;
+            }
+          }
+          return true;
+        }
+        return isAcyclic(rawType);
+      }
+      // Type variables, wildcards and generic arrays do not tell the runtime type
+      return type instanceof Class && isAcyclic((Class<?>) type);
+    }
+
+    private boolean isAcyclic(Class<?> type) {
+      if (type.isEnum() || primitiveConverter.accepts(type) || acyclic.contains(type)) {
+        return true;
+      }
+      if (type.isArray()) {
+        return isAcyclic(type.getComponentType());
+      }
+      if (!isConcreteBean(type) || hasConverter(type) || !path.add(type)) {
+        return false;
+      }
+      for (Class<?> current = type; current != Object.class; current = current.getSuperclass()) {
+        for (Field field : current.getDeclaredFields()) {
+          if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()
+              && !isAcyclic(field.getGenericType())) {
+            return false;
+          }
+        }
+      }
+      for (PropertyDescriptor propertyDescriptor : ReflectionUtils.getPropertyDescriptors(type)) {
+        Method readMethod = propertyDescriptor.getReadMethod();
+        Method writeMethod = propertyDescriptor.getWriteMethod();
+        if (readMethod != null && readMethod.getDeclaringClass() != Object.class
+            && !isAcyclic(readMethod.getGenericReturnType())) {
+          return false;
+        }
+        if (writeMethod != null && !isAcyclic(writeMethod.getGenericParameterTypes()[0])) {
+          return false;
+        }
+      }
+      path.remove(type);
+      acyclic.add(type);
+      return true;
+    }
+
+    private boolean hasConverter(Class<?> type) {
+      for (CustomConverterDescription converter : converters) {
+        if (isRelated(type, converter.getClassA()) || isRelated(type, converter.getClassB())) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private static boolean isRelated(Class<?> type, Class<?> converterType) {
+      return type.isAssignableFrom(converterType) || converterType.isAssignableFrom(type);
+    }
+
+  }
+
+  private static boolean isConcreteBean(Class<?> type) {
+    String name = type.getName();
+    return !type.isInterface() && !type.isPrimitive() && !Modifier.isAbstract(type.getModifiers())
+        && !name.startsWith("java.") && !name.startsWith("javax.");
+  }
+
+}
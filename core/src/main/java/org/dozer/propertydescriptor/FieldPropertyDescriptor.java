@@ -18,6 +18,8 @@ package org.dozer.propertydescriptor;
 import org.dozer.factory.DestBeanCreator;
 import org.dozer.fieldmap.FieldMap;
 import org.dozer.fieldmap.HintContainer;
+import org.dozer.propertydescriptor.accessor.PropertyAccessor;
+import org.dozer.propertydescriptor.accessor.PropertyAccessorFactory;
 import org.dozer.util.DozerConstants;
 import org.dozer.util.MappingUtils;
 import org.dozer.util.ReflectionUtils;
@@ -95,6 +97,7 @@ public class FieldPropertyDescriptor extends AbstractPropertyDescriptor implemen
   static class ChainedPropertyDescriptor implements DozerPropertyDescriptor {
 
     private Field field;
+    private PropertyAccessor accessor;
     private boolean indexed;
     private int index;
 
@@ -102,6 +105,7 @@ public class FieldPropertyDescriptor extends AbstractPropertyDescriptor implemen
       this.indexed = indexed;
       this.index = index;
       field = ReflectionUtils.getFieldFromBean(clazz, fieldName);
+      accessor = PropertyAccessorFactory.createFieldAccessor(field);
     }
 
     public Class<?> getPropertyType() {
@@ -109,14 +113,7 @@ public class FieldPropertyDescriptor extends AbstractPropertyDescriptor implemen
     }
 
     public Object getPropertyValue(Object bean) {
-      Object result = null;
-      try {
-        result = field.get(bean);
-      } catch (IllegalArgumentException e) {
-        MappingUtils.throwMappingException(e);
-      } catch (IllegalAccessException e) {
-        MappingUtils.throwMappingException(e);
-      }
+      Object result = accessor.getValue(bean);
       if (indexed) {
         result = MappingUtils.getIndexedValue(result, index);
       }
@@ -134,16 +131,12 @@ public class FieldPropertyDescriptor extends AbstractPropertyDescriptor implemen
         return;
       }
 
-      try {
-        if (indexed) {
-          Object existingValue = field.get(bean);
-          Object collection = MappingUtils.prepareIndexedCollection(getPropertyType(), existingValue, value, index);
-          field.set(bean, collection);
-        } else {
-          field.set(bean, value);
-        }
-      } catch (IllegalAccessException e) {
-        MappingUtils.throwMappingException(e);
+      if (indexed) {
+        Object existingValue = accessor.getValue(bean);
+        Object collection = MappingUtils.prepareIndexedCollection(getPropertyType(), existingValue, value, index);
+        accessor.setValue(bean, collection);
+      } else {
+        accessor.setValue(bean, value);
       }
     }
 
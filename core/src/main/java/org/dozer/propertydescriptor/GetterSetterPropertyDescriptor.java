@@ -20,6 +20,9 @@ import org.dozer.factory.BeanCreationDirective;
 import org.dozer.factory.DestBeanCreator;
 import org.dozer.fieldmap.FieldMap;
 import org.dozer.fieldmap.HintContainer;
+import org.dozer.propertydescriptor.accessor.PropertyAccessorFactory;
+import org.dozer.propertydescriptor.accessor.PropertyReader;
+import org.dozer.propertydescriptor.accessor.PropertyWriter;
 import org.dozer.util.BridgedMethodFinder;
 import org.dozer.util.CollectionUtils;
 import org.dozer.util.MappingUtils;
@@ -48,6 +51,8 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
   private final Logger log = LoggerFactory.getLogger(GetterSetterPropertyDescriptor.class);
 
   private Class<?> propertyType;
+  private PropertyReader readAccessor;
+  private PropertyWriter writeAccessor;
 
   public GetterSetterPropertyDescriptor(Class<?> clazz, String fieldName, boolean isIndexed, int index,
                                         HintContainer srcDeepIndexHintContainer, HintContainer destDeepIndexHintContainer) {
@@ -275,7 +280,7 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
   protected Object invokeReadMethod(Object target) {
     Object result = null;
     try {
-      result = ReflectionUtils.invoke(getReadMethod(), target, null);
+      result = getReadAccessor().getValue(target);
     } catch (NoSuchMethodException e) {
       MappingUtils.throwMappingException(e);
     }
@@ -284,12 +289,30 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
 
   protected void invokeWriteMethod(Object target, Object value) {
     try {
-      ReflectionUtils.invoke(getWriteMethod(), target, new Object[]{value});
+      getWriteAccessor().setValue(target, value);
     } catch (NoSuchMethodException e) {
       MappingUtils.throwMappingException(e);
     }
   }
 
+  private PropertyReader getReadAccessor() throws NoSuchMethodException {
+    PropertyReader accessor = readAccessor;
+    if (accessor == null) {
+      accessor = PropertyAccessorFactory.createReadAccessor(getReadMethod());
+      readAccessor = accessor;
+    }
+    return accessor;
+  }
+
+  private PropertyWriter getWriteAccessor() throws NoSuchMethodException {
+    PropertyWriter accessor = writeAccessor;
+    if (accessor == null) {
+      accessor = PropertyAccessorFactory.createWriteAccessor(getWriteMethod());
+      writeAccessor = accessor;
+    }
+    return accessor;
+  }
+
   private DeepHierarchyElement[] getDeepFieldHierarchy(Object obj, HintContainer deepIndexHintContainer) {
     return ReflectionUtils.getDeepFieldHierarchy(obj.getClass(), fieldName, deepIndexHintContainer);
   }
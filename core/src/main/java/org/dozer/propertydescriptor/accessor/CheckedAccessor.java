@@ -0,0 +1,39 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.propertydescriptor.accessor;
+
+/**
+ * Field accessor of an optimized backend, reading and writing through guarded direct accessors.
+ */
+final class CheckedAccessor implements PropertyAccessor {
+
+  private final CheckedReader reader;
+  private final CheckedWriter writer;
+
+  CheckedAccessor(CheckedReader reader, CheckedWriter writer) {
+    this.reader = reader;
+    this.writer = writer;
+  }
+
+  public Object getValue(Object bean) {
+    return reader.getValue(bean);
+  }
+
+  public void setValue(Object bean, Object value) {
+    writer.setValue(bean, value);
+  }
+
+}
@@ -0,0 +1,51 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.propertydescriptor.accessor;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.dozer.util.MappingUtils;
+
+/**
+ * Guards a direct reader produced by an optimized backend. Beans of another type are passed to the reflection reader.
+ * Exceptions thrown by the property are wrapped exactly as reflective invocation does.
+ */
+final class CheckedReader implements PropertyReader {
+
+  private final PropertyReader direct;
+  private final PropertyReader reflection;
+  private final Class<?> beanType;
+
+  CheckedReader(PropertyReader direct, PropertyReader reflection, Class<?> beanType) {
+    this.direct = direct;
+    this.reflection = reflection;
+    this.beanType = beanType;
+  }
+
+  public Object getValue(Object bean) {
+    if (!beanType.isInstance(bean)) {
+      return reflection.getValue(bean);
+    }
+    Object result = null;
+    try {
+      result = direct.getValue(bean);
+    } catch (Throwable e) {
+      MappingUtils.throwMappingException(new InvocationTargetException(e));
+    }
+    return result;
+  }
+
+}
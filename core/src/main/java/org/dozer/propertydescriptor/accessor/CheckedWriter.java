@@ -0,0 +1,56 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.propertydescriptor.accessor;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.dozer.util.MappingUtils;
+
+/**
+ * Guards a direct writer produced by an optimized backend. Arguments which direct invocation can not handle the same
+ * way reflection does, like wrong bean type or widening of primitive values, are passed to the reflection writer.
+ * Exceptions thrown by the property are wrapped exactly as reflective invocation does.
+ */
+final class CheckedWriter implements PropertyWriter {
+
+  private final PropertyWriter direct;
+  private final PropertyWriter reflection;
+  private final Class<?> beanType;
+  private final Class<?> valueType;
+  private final boolean primitive;
+
+  CheckedWriter(PropertyWriter direct, PropertyWriter reflection, Class<?> beanType, Class<?> valueType) {
+    this.direct = direct;
+    this.reflection = reflection;
+    this.beanType = beanType;
+    this.primitive = valueType.isPrimitive();
+    this.valueType = primitive ? ClassUtils.primitiveToWrapper(valueType) : valueType;
+  }
+
+  public void setValue(Object bean, Object value) {
+    if (!beanType.isInstance(bean) || (value == null ? primitive : !valueType.isInstance(value))) {
+      reflection.setValue(bean, value);
+      return;
+    }
+    try {
+      direct.setValue(bean, value);
+    } catch (Throwable e) {
+      MappingUtils.throwMappingException(new InvocationTargetException(e));
+    }
+  }
+
+}
@@ -0,0 +1,150 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.propertydescriptor.accessor;
+
+import static org.dozer.util.BytecodeUtils.addBoxing;
+import static org.dozer.util.BytecodeUtils.addInvoke;
+import static org.dozer.util.BytecodeUtils.addMethod;
+import static org.dozer.util.BytecodeUtils.addPop;
+import static org.dozer.util.BytecodeUtils.addUnboxing;
+import static org.dozer.util.BytecodeUtils.getDescriptor;
+import static org.dozer.util.BytecodeUtils.isAccessible;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import javassist.bytecode.Bytecode;
+import javassist.bytecode.ClassFile;
+import javassist.bytecode.Opcode;
+import org.dozer.util.BytecodeUtils;
+import org.dozer.util.GeneratedClassLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Internal accessor backend which generates a small accessor class per property with Javassist. Generated code
+ * invokes the getter, setter or field directly, without argument arrays and reflective dispatch. Only public members
+ * of public classes are supported, anything else is handled by reflection. Only intended for internal use.
+ */
+public class JavassistAccessorBackend implements PropertyAccessorBackend {
+
+  private static final Logger log = LoggerFactory.getLogger(JavassistAccessorBackend.class);
+
+  private static final String GET_VALUE_DESCRIPTOR = "(Ljava/lang/Object;)Ljava/lang/Object;";
+  private static final String SET_VALUE_DESCRIPTOR = "(Ljava/lang/Object;Ljava/lang/Object;)V";
+
+  private final ReflectionAccessorBackend reflection = new ReflectionAccessorBackend();
+
+  public PropertyReader createReadAccessor(Method readMethod) {
+    if (!isAccessible(readMethod) || readMethod.getParameterTypes().length != 0
+        || Void.TYPE.equals(readMethod.getReturnType())) {
+      return null;
+    }
+    Class<?> owner = readMethod.getDeclaringClass();
+    ClassFile classFile = createClassFile(PropertyReader.class);
+
+    Bytecode getter = new Bytecode(classFile.getConstPool(), 2, 2);
+    getter.addAload(1);
+    getter.addCheckcast(owner.getName());
+    addInvoke(getter, readMethod);
+    addBoxing(getter, readMethod.getReturnType());
+    getter.addOpcode(Opcode.ARETURN);
+    addMethod(classFile, "getValue", GET_VALUE_DESCRIPTOR, getter);
+
+    PropertyReader generated = (PropertyReader) defineAccessor(classFile, owner);
+    return generated != null ? new CheckedReader(generated, reflection.createReadAccessor(readMethod), owner) : null;
+  }
+
+  public PropertyWriter createWriteAccessor(Method writeMethod) {
+    if (!isAccessible(writeMethod) || writeMethod.getParameterTypes().length != 1) {
+      return null;
+    }
+    Class<?> owner = writeMethod.getDeclaringClass();
+    Class<?> valueType = writeMethod.getParameterTypes()[0];
+    ClassFile classFile = createClassFile(PropertyWriter.class);
+
+    Bytecode setter = new Bytecode(classFile.getConstPool(), 3, 3);
+    setter.addAload(1);
+    setter.addCheckcast(owner.getName());
+    setter.addAload(2);
+    addUnboxing(setter, valueType);
+    addInvoke(setter, writeMethod);
+    // some setters return a value, e.g. for chaining
+    addPop(setter, writeMethod.getReturnType());
+    setter.addOpcode(Opcode.RETURN);
+    addMethod(classFile, "setValue", SET_VALUE_DESCRIPTOR, setter);
+
+    PropertyWriter generated = (PropertyWriter) defineAccessor(classFile, owner);
+    return generated != null ? new CheckedWriter(generated, reflection.createWriteAccessor(writeMethod), owner, valueType) : null;
+  }
+
+  public PropertyAccessor createFieldAccessor(Field field) {
+    if (!isAccessible(field) || Modifier.isFinal(field.getModifiers())) {
+      return null;
+    }
+    Class<?> owner = field.getDeclaringClass();
+    String descriptor = getDescriptor(field.getType());
+    ClassFile classFile = createClassFile(PropertyAccessor.class);
+
+    Bytecode getter = new Bytecode(classFile.getConstPool(), 2, 2);
+    getter.addAload(1);
+    getter.addCheckcast(owner.getName());
+    getter.addGetfield(owner.getName(), field.getName(), descriptor);
+    addBoxing(getter, field.getType());
+    getter.addOpcode(Opcode.ARETURN);
+    addMethod(classFile, "getValue", GET_VALUE_DESCRIPTOR, getter);
+
+    Bytecode setter = new Bytecode(classFile.getConstPool(), 3, 3);
+    setter.addAload(1);
+    setter.addCheckcast(owner.getName());
+    setter.addAload(2);
+    addUnboxing(setter, field.getType());
+    setter.addPutfield(owner.getName(), field.getName(), descriptor);
+    setter.addOpcode(Opcode.RETURN);
+    addMethod(classFile, "setValue", SET_VALUE_DESCRIPTOR, setter);
+
+    PropertyAccessor generated = (PropertyAccessor) defineAccessor(classFile, owner);
+    if (generated == null) {
+      return null;
+    }
+    PropertyAccessor fallback = reflection.createFieldAccessor(field);
+    return new CheckedAccessor(new CheckedReader(generated, fallback, owner),
+        new CheckedWriter(generated, fallback, owner, field.getType()));
+  }
+
+  private static ClassFile createClassFile(Class<?> accessorType) {
+    return BytecodeUtils.createClassFile(GeneratedClassLoader.nextClassName(accessorType.getSimpleName()), accessorType);
+  }
+
+  // Generated classes are defined by a class loader which sees both the bean and Dozer classes
+  private Object defineAccessor(ClassFile classFile, Class<?> owner) {
+    try {
+      return BytecodeUtils.newInstance(classFile, owner.getClassLoader());
+    } catch (IOException e) {
+      log.debug("Failed to generate property accessor for " + owner.getName(), e);
+    } catch (InstantiationException e) {
+      log.debug("Failed to generate property accessor for " + owner.getName(), e);
+    } catch (IllegalAccessException e) {
+      log.debug("Failed to generate property accessor for " + owner.getName(), e);
+    } catch (LinkageError e) {
+      log.debug("Failed to generate property accessor for " + owner.getName(), e);
+    }
+    return null;
+  }
+
+}
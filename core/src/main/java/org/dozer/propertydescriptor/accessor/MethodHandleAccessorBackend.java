@@ -0,0 +1,251 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.propertydescriptor.accessor;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Internal accessor backend based on java.lang.invoke. Public getters and setters of classes visible to Dozer are
+ * bound to functional interfaces with LambdaMetafactory, so the JIT sees a direct call to the property. Any other
+ * member is invoked through an exact method handle. Unlike the Javassist backend, no class is defined by Dozer, which
+ * makes this backend usable where custom class loaders are not allowed. Only intended for internal use.
+ */
+public class MethodHandleAccessorBackend implements PropertyAccessorBackend {
+
+  private static final Logger log = LoggerFactory.getLogger(MethodHandleAccessorBackend.class);
+
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+  private final MethodHandles.Lookup lookup = MethodHandles.lookup();
+  private final ReflectionAccessorBackend reflection = new ReflectionAccessorBackend();
+
+  public PropertyReader createReadAccessor(Method readMethod) {
+    if (Modifier.isStatic(readMethod.getModifiers()) || readMethod.getParameterTypes().length != 0
+        || void.class.equals(readMethod.getReturnType())) {
+      return null;
+    }
+    PropertyReader direct = null;
+    try {
+      if (isLinkable(readMethod, readMethod.getReturnType())) {
+        direct = new FunctionReader(bindGetter(readMethod));
+      } else if (makeAccessible(readMethod)) {
+        direct = new HandleReader(lookup.unreflect(readMethod).asType(GETTER_TYPE));
+      }
+    } catch (Throwable e) {
+      log.debug("Unable to create method handle for {}, reflection is used instead", readMethod, e);
+    }
+    return direct != null
+        ? new CheckedReader(direct, reflection.createReadAccessor(readMethod), readMethod.getDeclaringClass())
+        : null;
+  }
+
+  public PropertyWriter createWriteAccessor(Method writeMethod) {
+    if (Modifier.isStatic(writeMethod.getModifiers()) || writeMethod.getParameterTypes().length != 1) {
+      return null;
+    }
+    Class<?> valueType = writeMethod.getParameterTypes()[0];
+    PropertyWriter direct = null;
+    try {
+      if (isLinkable(writeMethod, valueType, writeMethod.getReturnType())) {
+        direct = new ConsumerWriter(bindSetter(writeMethod, valueType));
+      } else if (makeAccessible(writeMethod)) {
+        direct = new HandleWriter(lookup.unreflect(writeMethod).asType(SETTER_TYPE));
+      }
+    } catch (Throwable e) {
+      log.debug("Unable to create method handle for {}, reflection is used instead", writeMethod, e);
+    }
+    return direct != null
+        ? new CheckedWriter(direct, reflection.createWriteAccessor(writeMethod), writeMethod.getDeclaringClass(), valueType)
+        : null;
+  }
+
+  public PropertyAccessor createFieldAccessor(Field field) {
+    // final fields keep reflection semantics
+    if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers()) || !makeAccessible(field)) {
+      return null;
+    }
+    PropertyReader getter;
+    PropertyWriter setter;
+    try {
+      getter = new HandleReader(lookup.unreflectGetter(field).asType(GETTER_TYPE));
+      setter = new HandleWriter(lookup.unreflectSetter(field).asType(SETTER_TYPE));
+    } catch (Throwable e) {
+      log.debug("Unable to create method handle for {}, reflection is used instead", field, e);
+      return null;
+    }
+    PropertyAccessor fallback = reflection.createFieldAccessor(field);
+    return new CheckedAccessor(new CheckedReader(getter, fallback, field.getDeclaringClass()),
+        new CheckedWriter(setter, fallback, field.getDeclaringClass(), field.getType()));
+  }
+
+  @SuppressWarnings("unchecked")
+  private Function<Object, Object> bindGetter(Method readMethod) throws Throwable {
+    MethodHandle target = lookup.unreflect(readMethod);
+    CallSite site = LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(Function.class),
+        GETTER_TYPE,
+        target,
+        MethodType.methodType(ClassUtils.primitiveToWrapper(readMethod.getReturnType()), readMethod.getDeclaringClass()));
+    return (Function<Object, Object>) site.getTarget().invoke();
+  }
+
+  @SuppressWarnings("unchecked")
+  private BiConsumer<Object, Object> bindSetter(Method writeMethod, Class<?> valueType) throws Throwable {
+    MethodHandle target = lookup.unreflect(writeMethod);
+    CallSite site = LambdaMetafactory.metafactory(lookup, "accept", MethodType.methodType(BiConsumer.class),
+        SETTER_TYPE,
+        target,
+        MethodType.methodType(void.class, writeMethod.getDeclaringClass(), ClassUtils.primitiveToWrapper(valueType)));
+    return (BiConsumer<Object, Object>) site.getTarget().invoke();
+  }
+
+  /**
+   * Lambda classes are linked by the class loader of Dozer, so every type in the signature must be resolvable from
+   * there to the very same class. Members of other class loaders, like web applications or OSGi bundles, are served
+   * by method handles.
+   */
+  private static boolean isLinkable(Method method, Class<?>... types) {
+    if (!Modifier.isPublic(method.getModifiers()) || !isPublic(method.getDeclaringClass())
+        || !isVisible(method.getDeclaringClass())) {
+      return false;
+    }
+    for (Class<?> type : types) {
+      if (!isVisible(type)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isPublic(Class<?> type) {
+    for (Class<?> current = type; current != null; current = current.getEnclosingClass()) {
+      if (!Modifier.isPublic(current.getModifiers())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isVisible(Class<?> type) {
+    while (type.isArray()) {
+      type = type.getComponentType();
+    }
+    if (type.isPrimitive()) {
+      return true;
+    }
+    try {
+      return Class.forName(type.getName(), false, MethodHandleAccessorBackend.class.getClassLoader()) == type;
+    } catch (ClassNotFoundException e) {
+      return false;
+    } catch (LinkageError e) {
+      return false;
+    }
+  }
+
+  private static boolean makeAccessible(AccessibleObject member) {
+    try {
+      member.setAccessible(true);
+      return true;
+    } catch (RuntimeException e) {
+      // denied by a security manager or module boundaries
+      return false;
+    }
+  }
+
+  /**
+   * Propagates the original exception of the property, checked or not, to be wrapped by {@link CheckedReader} or
+   * {@link CheckedWriter} the same way reflection does.
+   */
+  @SuppressWarnings("unchecked")
+  private static <T extends Throwable> T rethrow(Throwable e) throws T {
+    throw (T) e;
+  }
+
+  private static final class FunctionReader implements PropertyReader {
+
+    private final Function<Object, Object> getter;
+
+    FunctionReader(Function<Object, Object> getter) {
+      this.getter = getter;
+    }
+
+    public Object getValue(Object bean) {
+      return getter.apply(bean);
+    }
+  }
+
+  private static final class ConsumerWriter implements PropertyWriter {
+
+    private final BiConsumer<Object, Object> setter;
+
+    ConsumerWriter(BiConsumer<Object, Object> setter) {
+      this.setter = setter;
+    }
+
+    public void setValue(Object bean, Object value) {
+      setter.accept(bean, value);
+    }
+  }
+
+  private static final class HandleReader implements PropertyReader {
+
+    private final MethodHandle getter;
+
+    HandleReader(MethodHandle getter) {
+      this.getter = getter;
+    }
+
+    public Object getValue(Object bean) {
+      try {
+        return (Object) getter.invokeExact(bean);
+      } catch (Throwable e) {
+        throw MethodHandleAccessorBackend.<RuntimeException>rethrow(e);
+      }
+    }
+  }
+
+  private static final class HandleWriter implements PropertyWriter {
+
+    private final MethodHandle setter;
+
+    HandleWriter(MethodHandle setter) {
+      this.setter = setter;
+    }
+
+    public void setValue(Object bean, Object value) {
+      try {
+        setter.invokeExact(bean, value);
+      } catch (Throwable e) {
+        throw MethodHandleAccessorBackend.<RuntimeException>rethrow(e);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,25 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.propertydescriptor.accessor;
+
+/**
+ * Internal interface for reading and writing a single field of a bean. Getters and setters are accessed through
+ * {@link PropertyReader} and {@link PropertyWriter}. Accessors are resolved once per property descriptor and reused
+ * for every mapping. Only intended for internal use.
+ */
+public interface PropertyAccessor extends PropertyReader, PropertyWriter {
+
+}
@@ -0,0 +1,33 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.propertydescriptor.accessor;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Internal strategy for creating property accessors. A backend returns null for members it can not handle, in which
+ * case reflection based accessor is used instead. Only intended for internal use.
+ */
+public interface PropertyAccessorBackend {
+
+  PropertyReader createReadAccessor(Method readMethod);
+
+  PropertyWriter createWriteAccessor(Method writeMethod);
+
+  PropertyAccessor createFieldAccessor(Field field);
+
+}
@@ -0,0 +1,83 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.propertydescriptor.accessor;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import org.dozer.config.GlobalSettings;
+import org.dozer.util.ReflectionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Internal factory responsible for creating property accessors with the backend selected by the
+ * dozer.property.accessor global setting. Reflection is used for all members the selected backend does not
+ * support. Only intended for internal use.
+ */
+public final class PropertyAccessorFactory {
+
+  public static final String REFLECTION = "reflection";
+  public static final String JAVASSIST = "javassist";
+  public static final String METHOD_HANDLE = "methodhandle";
+
+  private static final Logger log = LoggerFactory.getLogger(PropertyAccessorFactory.class);
+
+  private static final PropertyAccessorBackend reflection = new ReflectionAccessorBackend();
+  private static volatile PropertyAccessorBackend backend;
+
+  private PropertyAccessorFactory() {
+  }
+
+  public static PropertyReader createReadAccessor(Method readMethod) {
+    PropertyReader accessor = getBackend().createReadAccessor(readMethod);
+    return accessor != null ? accessor : reflection.createReadAccessor(readMethod);
+  }
+
+  public static PropertyWriter createWriteAccessor(Method writeMethod) {
+    PropertyWriter accessor = getBackend().createWriteAccessor(writeMethod);
+    return accessor != null ? accessor : reflection.createWriteAccessor(writeMethod);
+  }
+
+  public static PropertyAccessor createFieldAccessor(Field field) {
+    PropertyAccessor accessor = getBackend().createFieldAccessor(field);
+    return accessor != null ? accessor : reflection.createFieldAccessor(field);
+  }
+
+  private static PropertyAccessorBackend getBackend() {
+    PropertyAccessorBackend result = backend;
+    if (result == null) {
+      result = createBackend(GlobalSettings.getInstance().getPropertyAccessor());
+      backend = result;
+    }
+    return result;
+  }
+
+  static PropertyAccessorBackend createBackend(String name) {
+    if (JAVASSIST.equalsIgnoreCase(name)) {
+      if (ReflectionUtils.isClassPresent("javassist.bytecode.ClassFile")) {
+        return new JavassistAccessorBackend();
+      }
+      log.warn("Javassist is not found on the classpath. Falling back to reflection based property accessors.");
+    } else if (METHOD_HANDLE.equalsIgnoreCase(name)) {
+      return new MethodHandleAccessorBackend();
+    } else if (!REFLECTION.equalsIgnoreCase(name)) {
+      log.warn("Unknown property accessor type [{}]. Falling back to reflection based property accessors.", name);
+    }
+    return reflection;
+  }
+
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.propertydescriptor.accessor;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import org.dozer.util.MappingUtils;
+import org.dozer.util.ReflectionUtils;
+
+/**
+ * Internal accessor backend which uses plain reflection. Supports any member and serves as the fallback for other
+ * backends. Only intended for internal use.
+ */
+public class ReflectionAccessorBackend implements PropertyAccessorBackend {
+
+  public PropertyReader createReadAccessor(Method readMethod) {
+    return new ReadMethodAccessor(readMethod);
+  }
+
+  public PropertyWriter createWriteAccessor(Method writeMethod) {
+    return new WriteMethodAccessor(writeMethod);
+  }
+
+  public PropertyAccessor createFieldAccessor(Field field) {
+    return new FieldAccessor(field);
+  }
+
+  private static final class ReadMethodAccessor implements PropertyReader {
+
+    private final Method readMethod;
+
+    ReadMethodAccessor(Method readMethod) {
+      this.readMethod = readMethod;
+    }
+
+    public Object getValue(Object bean) {
+      return ReflectionUtils.invoke(readMethod, bean, null);
+    }
+  }
+
+  private static final class WriteMethodAccessor implements PropertyWriter {
+
+    private final Method writeMethod;
+
+    WriteMethodAccessor(Method writeMethod) {
+      this.writeMethod = writeMethod;
+    }
+
+    public void setValue(Object bean, Object value) {
+      ReflectionUtils.invoke(writeMethod, bean, new Object[] {value});
+    }
+  }
+
+  private static final class FieldAccessor implements PropertyAccessor {
+
+    private final Field field;
+
+    FieldAccessor(Field field) {
+      this.field = field;
+    }
+
+    public Object getValue(Object bean) {
+      Object result = null;
+      try {
+        result = field.get(bean);
+      } catch (IllegalArgumentException e) {
+        MappingUtils.throwMappingException(e);
+      } catch (IllegalAccessException e) {
+        MappingUtils.throwMappingException(e);
+      }
+      return result;
+    }
+
+    public void setValue(Object bean, Object value) {
+      try {
+        field.set(bean, value);
+      } catch (IllegalAccessException e) {
+        MappingUtils.throwMappingException(e);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,88 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.stats;
+
+/**
+ * Internal handle for incrementing one statistic entry without looking it up by type and key. Obtained once from
+ * {@link StatisticsManager#getCounter} and kept by the code which increments it. Increments are ignored while
+ * statistics are disabled. A counter of a mapper's statistics increments the same counter of the global statistics
+ * too. Only intended for internal use.
+ */
+public final class Counter {
+
+  private final StatisticsManagerImpl statsMgr;
+  private final StatisticType type;
+  private final Object entryKey;
+  private final Counter parent;
+  private volatile StatisticEntry entry;
+  private volatile Statistic statistic;
+
+  Counter(StatisticsManagerImpl statsMgr, StatisticType type, Object entryKey, Counter parent) {
+    if (type == null) {
+      throw new IllegalArgumentException("statistic type must be specified");
+    }
+    if (entryKey == null) {
+      throw new IllegalArgumentException("statistic entry key must be specified");
+    }
+    this.statsMgr = statsMgr;
+    this.type = type;
+    this.entryKey = entryKey;
+    this.parent = parent;
+  }
+
+  public StatisticType getType() {
+    return type;
+  }
+
+  public Object getEntryKey() {
+    return entryKey;
+  }
+
+  public void increment() {
+    increment(1);
+  }
+
+  public void increment(long value) {
+    add(value);
+  }
+
+  /**
+   * @return statistic holding the entry, or null if statistics are disabled
+   */
+  Statistic add(long value) {
+    if (!statsMgr.isStatisticsEnabled()) {
+      return null;
+    }
+    StatisticEntry current = entry;
+    // Entries are dropped when statistics are cleared, the next increment starts a new one
+    if (current == null || current.isRemoved()) {
+      Statistic currentStatistic;
+      do {
+        currentStatistic = statsMgr.getOrCreateStatistic(type);
+        current = currentStatistic.getOrCreateEntry(entryKey);
+        // The statistic may have been cleared in between, before the entry was added to it
+      } while (currentStatistic.isRemoved());
+      statistic = currentStatistic;
+      entry = current;
+    }
+    current.increment(value);
+    if (parent != null) {
+      parent.add(value);
+    }
+    return statistic;
+  }
+
+}
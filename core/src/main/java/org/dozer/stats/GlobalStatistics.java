@@ -23,7 +23,7 @@ package org.dozer.stats;
 public final class GlobalStatistics {
   private static GlobalStatistics singleton = new GlobalStatistics();
 
-  private final StatisticsManager statsMgr;
+  private final StatisticsManagerImpl statsMgr;
 
   private GlobalStatistics() {
     statsMgr = new StatisticsManagerImpl();
@@ -36,4 +36,11 @@ public final class GlobalStatistics {
   public StatisticsManager getStatsMgr() {
     return statsMgr;
   }
+
+  /**
+   * @return new statistics of a single mapper, which are added to the global statistics as well
+   */
+  public StatisticsManager createMapperStatsMgr() {
+    return new StatisticsManagerImpl(statsMgr);
+  }
 }
@@ -0,0 +1,49 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.stats;
+
+import java.util.Locale;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Exporter writing each metric as one INFO line to the org.dozer.stats.LoggingMetricsExporter logger. The logger can
+ * be routed to its own file by the logging configuration.
+ */
+public class LoggingMetricsExporter implements MetricsExporter {
+
+  private static final double NANOS_PER_MICRO = 1000d;
+
+  private final Logger log = LoggerFactory.getLogger(LoggingMetricsExporter.class);
+
+  public void export(MetricsSnapshot snapshot) {
+    if (!log.isInfoEnabled()) {
+      return;
+    }
+    for (Map.Entry<String, Long> entry : snapshot.getCounters().entrySet()) {
+      log.info("{} {}", entry.getKey(), entry.getValue());
+    }
+    for (Map.Entry<String, LatencyHistogram> entry : snapshot.getMappingTimes().entrySet()) {
+      LatencyHistogram histogram = entry.getValue();
+      log.info(String.format(Locale.ROOT, "MAPPING_TIME[%s] count=%d p50=%.1fus p99=%.1fus max=%.1fus",
+          entry.getKey(), histogram.getCount(), histogram.getValueAtPercentile(50) / NANOS_PER_MICRO,
+          histogram.getValueAtPercentile(99) / NANOS_PER_MICRO, histogram.getMax() / NANOS_PER_MICRO));
+    }
+  }
+
+}
@@ -0,0 +1,259 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.stats;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.dozer.classmap.ClassMap;
+import org.dozer.config.GlobalSettings;
+import org.dozer.fieldmap.FieldMap;
+
+/**
+ * Internal profiler which attributes mapping time and allocated memory to class mappings and field mappings. Both
+ * include nested mappings, e.g. the time of a field holding a bean includes the mapping of that bean. Allocated
+ * memory is measured per thread, if the JVM supports it. Profiles reference the class and field mappings profiled
+ * until they are cleared. Only intended for internal use.
+ */
+public final class MappingProfiler {
+
+  private static final boolean ALLOCATION_API_AVAILABLE = isAllocationApiAvailable();
+
+  private static final MappingProfiler instance = new MappingProfiler();
+
+  private static final Comparator<Profile> BY_TIME = new Comparator<Profile>() {
+    public int compare(Profile first, Profile second) {
+      return Long.compare(second.getTotalNanos(), first.getTotalNanos());
+    }
+  };
+
+  private static final Comparator<Profile> BY_ALLOCATION = new Comparator<Profile>() {
+    public int compare(Profile first, Profile second) {
+      return Long.compare(second.getAllocatedBytes(), first.getAllocatedBytes());
+    }
+  };
+
+  private final ConcurrentMap<ClassMap, Profile> classMappings = new ConcurrentHashMap<ClassMap, Profile>();
+  private final ConcurrentMap<FieldMap, Profile> fieldMappings = new ConcurrentHashMap<FieldMap, Profile>();
+  private volatile AllocationMeter allocationMeter;
+  private boolean allocationResolved;
+  private volatile boolean enabled;
+
+  MappingProfiler() {
+    setEnabled(GlobalSettings.getInstance().isProfilingEnabled());
+  }
+
+  public static MappingProfiler getInstance() {
+    return instance;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Enabling the profiler for the first time also turns on the allocated memory accounting of the JVM, if supported.
+   */
+  public synchronized void setEnabled(boolean enabled) {
+    if (enabled && !allocationResolved) {
+      allocationMeter = ALLOCATION_API_AVAILABLE ? AllocationMeter.create() : null;
+      allocationResolved = true;
+    }
+    this.enabled = enabled;
+  }
+
+  public boolean isAllocationSupported() {
+    return ALLOCATION_API_AVAILABLE && AllocationMeter.isSupported();
+  }
+
+  /**
+   * @return bytes allocated by the current thread so far, 0 if not supported or the profiler was never enabled
+   */
+  public long getAllocatedBytes() {
+    AllocationMeter meter = allocationMeter;
+    return meter != null ? meter.getAllocatedBytes() : 0;
+  }
+
+  public void recordClassMapping(ClassMap classMap, long nanos, long allocatedBytes) {
+    Profile profile = classMappings.get(classMap);
+    if (profile == null) {
+      String name = classMap.getSrcClassName() + "-->" + classMap.getDestClassName();
+      if (classMap.getMapId() != null) {
+        name += " (map-id " + classMap.getMapId() + ")";
+      }
+      profile = putIfAbsent(classMappings, classMap, new Profile(name));
+    }
+    profile.record(nanos, allocatedBytes);
+  }
+
+  public void recordFieldMapping(FieldMap fieldMap, long nanos, long allocatedBytes) {
+    Profile profile = fieldMappings.get(fieldMap);
+    if (profile == null) {
+      ClassMap classMap = fieldMap.getClassMap();
+      String name = classMap.getSrcClassName() + "-->" + classMap.getDestClassName() + ": "
+          + fieldMap.getSrcFieldName() + "-->" + fieldMap.getDestFieldName();
+      profile = putIfAbsent(fieldMappings, fieldMap, new Profile(name));
+    }
+    profile.record(nanos, allocatedBytes);
+  }
+
+  public List<Profile> getTopClassMappings(int count, boolean byAllocation) {
+    return top(classMappings, count, byAllocation);
+  }
+
+  public List<Profile> getTopFieldMappings(int count, boolean byAllocation) {
+    return top(fieldMappings, count, byAllocation);
+  }
+
+  public void clearAll() {
+    classMappings.clear();
+    fieldMappings.clear();
+  }
+
+  private static <K> Profile putIfAbsent(ConcurrentMap<K, Profile> profiles, K key, Profile profile) {
+    Profile existing = profiles.putIfAbsent(key, profile);
+    return existing != null ? existing : profile;
+  }
+
+  private static List<Profile> top(ConcurrentMap<?, Profile> profiles, int count, boolean byAllocation) {
+    List<Profile> result = new ArrayList<Profile>(profiles.values());
+    Collections.sort(result, byAllocation ? BY_ALLOCATION : BY_TIME);
+    return result.size() > count ? new ArrayList<Profile>(result.subList(0, count)) : result;
+  }
+
+  private static boolean isAllocationApiAvailable() {
+    try {
+      Class.forName("com.sun.management.ThreadMXBean", false, MappingProfiler.class.getClassLoader());
+      return true;
+    } catch (ClassNotFoundException e) {
+      return false;
+    } catch (LinkageError e) {
+      return false;
+    } catch (SecurityException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Keeps the com.sun.management classes out of the profiler, so that they are only loaded if they are available.
+   */
+  private static final class AllocationMeter {
+
+    private final com.sun.management.ThreadMXBean threadBean;
+
+    private AllocationMeter(com.sun.management.ThreadMXBean threadBean) {
+      this.threadBean = threadBean;
+    }
+
+    static boolean isSupported() {
+      try {
+        return getThreadBean() != null;
+      } catch (LinkageError e) {
+        return false;
+      }
+    }
+
+    /**
+     * @return meter with the allocated memory accounting turned on, or null if it is not supported
+     */
+    static AllocationMeter create() {
+      try {
+        com.sun.management.ThreadMXBean threadBean = getThreadBean();
+        if (threadBean == null) {
+          return null;
+        }
+        if (!threadBean.isThreadAllocatedMemoryEnabled()) {
+          threadBean.setThreadAllocatedMemoryEnabled(true);
+        }
+        return new AllocationMeter(threadBean);
+      } catch (UnsupportedOperationException e) {
+        return null;
+      } catch (SecurityException e) {
+        return null;
+      } catch (LinkageError e) {
+        return null;
+      }
+    }
+
+    private static com.sun.management.ThreadMXBean getThreadBean() {
+      Object threadBean = ManagementFactory.getThreadMXBean();
+      if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+        return null;
+      }
+      com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+      return allocationBean.isThreadAllocatedMemorySupported() ? allocationBean : null;
+    }
+
+    long getAllocatedBytes() {
+      return threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+  }
+
+  /**
+   * Time and memory spent in one class or field mapping, summed over all its invocations.
+   */
+  public static final class Profile {
+
+    private final String name;
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong allocatedBytes = new AtomicLong();
+
+    Profile(String name) {
+      this.name = name;
+    }
+
+    void record(long nanos, long bytes) {
+      count.incrementAndGet();
+      totalNanos.addAndGet(nanos);
+      allocatedBytes.addAndGet(bytes);
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public long getCount() {
+      return count.get();
+    }
+
+    public long getTotalNanos() {
+      return totalNanos.get();
+    }
+
+    public long getAllocatedBytes() {
+      return allocatedBytes.get();
+    }
+
+    @Override
+    public String toString() {
+      long invocations = Math.max(1, getCount());
+      return String.format(Locale.ROOT, "%s: Count %d, Time %.3fms (%.1fus avg), Allocated %d bytes (%d avg)",
+          name, getCount(), getTotalNanos() / 1e6, getTotalNanos() / 1e3 / invocations, getAllocatedBytes(),
+          getAllocatedBytes() / invocations);
+    }
+
+  }
+
+}
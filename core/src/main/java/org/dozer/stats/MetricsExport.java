@@ -0,0 +1,122 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.stats;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.dozer.util.MappingUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Internal schedule passing snapshots of the statistics of a mapper to a {@link MetricsExporter} at a fixed interval.
+ * All exports run on one shared daemon thread. An export bound to an owner stops by itself once the owner has been
+ * garbage collected, so mappers which are never destroyed do not keep their statistics alive. Failures of the exporter
+ * are logged and do not cancel later exports. Only intended for internal use.
+ */
+public final class MetricsExport {
+
+  private static final ScheduledThreadPoolExecutor executor = createExecutor();
+
+  private final Logger log = LoggerFactory.getLogger(MetricsExport.class);
+
+  private final WeakReference<Object> owner;
+  private final StatisticsManager statsMgr;
+  private final MetricsExporter exporter;
+  private volatile ScheduledFuture<?> schedule;
+
+  private MetricsExport(Object owner, StatisticsManager statsMgr, MetricsExporter exporter) {
+    this.owner = owner != null ? new WeakReference<Object>(owner) : null;
+    this.statsMgr = statsMgr;
+    this.exporter = exporter;
+  }
+
+  private static ScheduledThreadPoolExecutor createExecutor() {
+    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+      public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "dozer-metrics-exporter");
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+    executor.setRemoveOnCancelPolicy(true);
+    return executor;
+  }
+
+  public static MetricsExport start(StatisticsManager statsMgr, MetricsExporter exporter, long intervalMillis) {
+    return start(null, statsMgr, exporter, intervalMillis);
+  }
+
+  /**
+   * @param owner object the export belongs to, held weakly, null to export until stopped
+   */
+  public static MetricsExport start(Object owner, StatisticsManager statsMgr, MetricsExporter exporter,
+                                    long intervalMillis) {
+    if (statsMgr == null || exporter == null || intervalMillis < 1) {
+      MappingUtils.throwMappingException("Metrics export requires statistics, an exporter and a positive interval");
+    }
+    final MetricsExport export = new MetricsExport(owner, statsMgr, exporter);
+    export.schedule = executor.scheduleAtFixedRate(new Runnable() {
+      public void run() {
+        if (export.isOwnerCollected()) {
+          export.stop();
+          return;
+        }
+        export.export();
+      }
+    }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    return export;
+  }
+
+  public MetricsExporter getExporter() {
+    return exporter;
+  }
+
+  /**
+   * Exports the current statistics on the calling thread.
+   */
+  public synchronized void export() {
+    try {
+      exporter.export(MetricsSnapshot.of(statsMgr));
+    } catch (RuntimeException e) {
+      log.error("Metrics exporter " + exporter.getClass().getName() + " failed", e);
+    }
+  }
+
+  /**
+   * Cancels further exports. An export in progress is completed.
+   */
+  public void stop() {
+    // Not yet set if the owner was collected before the first export, the next export stops it then
+    ScheduledFuture<?> current = schedule;
+    if (current != null) {
+      current.cancel(false);
+    }
+  }
+
+  public boolean isStopped() {
+    return schedule.isCancelled();
+  }
+
+  private boolean isOwnerCollected() {
+    return owner != null && owner.get() == null;
+  }
+
+}
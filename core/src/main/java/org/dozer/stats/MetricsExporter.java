@@ -0,0 +1,29 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.stats;
+
+/**
+ * Receives the statistics of a mapper periodically, to publish them to a monitoring system. An exporter is set on the
+ * mapper, or configured with the dozer.metrics.exporter property, in which case each mapper creates an instance with
+ * the public no-argument constructor. The exports of one mapper are called from a single background thread.
+ *
+ * @see LoggingMetricsExporter
+ */
+public interface MetricsExporter {
+
+  void export(MetricsSnapshot snapshot);
+
+}
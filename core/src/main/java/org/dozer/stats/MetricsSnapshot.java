@@ -0,0 +1,82 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.stats;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Values of the Dozer statistics at one point in time, passed to a {@link MetricsExporter}. Counters are cumulative
+ * since statistics were last cleared. Times are in nanoseconds.
+ */
+public final class MetricsSnapshot {
+
+  private final long timestamp;
+  private final Map<String, Long> counters;
+  private final Map<String, LatencyHistogram> mappingTimes;
+
+  MetricsSnapshot(long timestamp, Map<String, Long> counters, Map<String, LatencyHistogram> mappingTimes) {
+    this.timestamp = timestamp;
+    this.counters = Collections.unmodifiableMap(counters);
+    this.mappingTimes = Collections.unmodifiableMap(mappingTimes);
+  }
+
+  /**
+   * @return snapshot of the current values of the given statistics
+   */
+  public static MetricsSnapshot of(StatisticsManager statsMgr) {
+    Map<String, Long> counters = new TreeMap<String, Long>();
+    for (Statistic statistic : statsMgr.getStatistics()) {
+      for (StatisticEntry entry : statistic.getEntries()) {
+        counters.put(getName(statistic.getType(), entry.getKey()), entry.getValue());
+      }
+    }
+    return new MetricsSnapshot(System.currentTimeMillis(), counters, statsMgr.getMappingTimeHistograms());
+  }
+
+  /**
+   * @return time the snapshot was taken, in milliseconds since the epoch
+   */
+  public long getTimestamp() {
+    return timestamp;
+  }
+
+  /**
+   * @return counter values by name, which is the statistic type for statistics with a single entry and
+   *         "TYPE[entry key]" otherwise, e.g. "CACHE_HIT_COUNT[SUPER_TYPE_CHECK]"
+   */
+  public Map<String, Long> getCounters() {
+    return counters;
+  }
+
+  /**
+   * @return mapping time histograms by class pair, keyed by "srcClassName-->destClassName". The histograms are live
+   *         and keep recording while they are read.
+   */
+  public Map<String, LatencyHistogram> getMappingTimes() {
+    return mappingTimes;
+  }
+
+  static String getName(StatisticType type, Object entryKey) {
+    if (entryKey == type) {
+      return type.name();
+    }
+    String key = entryKey instanceof Class ? ((Class<?>) entryKey).getName() : String.valueOf(entryKey);
+    return type.name() + "[" + key + "]";
+  }
+
+}
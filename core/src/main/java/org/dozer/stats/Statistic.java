@@ -35,6 +35,8 @@ public class Statistic {
 
   private final StatisticType type;
   private final ConcurrentMap<Object, StatisticEntry> entriesMap = new ConcurrentHashMap<Object, StatisticEntry>();
+  // Set when the statistic is dropped from its manager, so that counters resolving an entry of it look it up again
+  private volatile boolean removed;
 
   public Statistic(StatisticType type) {
     this.type = type;
@@ -45,6 +47,13 @@ public class Statistic {
   }
 
   public StatisticEntry increment(Object statisticEntryKey, long value) {
+    StatisticEntry statisticEntry = getOrCreateEntry(statisticEntryKey);
+    // Increment the actual value
+    statisticEntry.increment(value);
+    return statisticEntry;
+  }
+
+  StatisticEntry getOrCreateEntry(Object statisticEntryKey) {
     if (statisticEntryKey == null) {
       throw new IllegalArgumentException("statistic entry key must be specified");
     }
@@ -59,15 +68,29 @@ public class Statistic {
         statisticEntry = newStatisticEntry;
       }
     }
-    // Increment the actual value
-    statisticEntry.increment(value);
     return statisticEntry;
   }
 
   public void clear() {
+    for (StatisticEntry statisticEntry : entriesMap.values()) {
+      statisticEntry.markRemoved();
+    }
     entriesMap.clear();
   }
 
+  boolean isRemoved() {
+    return removed;
+  }
+
+  /**
+   * Invalidates the statistic after it has been dropped from its manager. Entries created concurrently in the
+   * statistic are not marked removed, callers check {@link #isRemoved()} after creating one.
+   */
+  void markRemoved() {
+    removed = true;
+    clear();
+  }
+
   public Set<StatisticEntry> getEntries() {
     return new HashSet<StatisticEntry>(entriesMap.values());
   }
@@ -19,11 +19,11 @@ import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Internal class that represents one entry in the statistic. Holds the statistic value and unique key for lookup.
- * Entry counter is based on AtomicLong and is Thread Safe.
+ * Entry counter is based on LongAdder, so concurrent increments do not contend on a single value.
  *
  * Only intended for internal use.
  * 
@@ -33,7 +33,9 @@ import java.util.concurrent.atomic.AtomicLong;
 public class StatisticEntry {
 
   private final Object key;
-  private final AtomicLong value = new AtomicLong();
+  private final LongAdder value = new LongAdder();
+  // Set when the entry is cleared from its statistic, so that counters holding it look it up again
+  private volatile boolean removed;
 
   public StatisticEntry(Object key) {
     this.key = key;
@@ -44,11 +46,19 @@ public class StatisticEntry {
   }
 
   public long getValue() {
-    return value.get();
+    return value.sum();
   }
 
   public void increment(long value) {
-    this.value.addAndGet(value);
+    this.value.add(value);
+  }
+
+  boolean isRemoved() {
+    return removed;
+  }
+
+  void markRemoved() {
+    removed = true;
   }
 
   @Override
@@ -16,7 +16,8 @@
 package org.dozer.stats;
 
 /**
- * Internal constants file that defines the types of supported statistic keys. Only intended for internal use.
+ * Internal constants file that defines the types of supported statistic keys. Times are in nanoseconds. Only intended
+ * for internal use.
  * 
  * @author tierney.matt
  */
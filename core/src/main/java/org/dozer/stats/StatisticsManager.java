@@ -15,6 +15,7 @@
  */
 package org.dozer.stats;
 
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -48,4 +49,26 @@ public interface StatisticsManager {
 
   Statistic increment(StatisticType statisticType, Object statisticEntryKey);
 
+  /**
+   * @return handle incrementing the single entry of the statistic type
+   */
+  Counter getCounter(StatisticType statisticType);
+
+  /**
+   * @return handle incrementing the entry of the statistic type with the given key, to be obtained once for entries
+   *         which are incremented often
+   */
+  Counter getCounter(StatisticType statisticType, Object statisticEntryKey);
+
+  /**
+   * Records a successful top level mapping, counting it and adding its duration to the overall mapping time and to the
+   * histogram of the class pair.
+   */
+  void recordMappingTime(Class<?> srcClass, Class<?> destClass, long nanos);
+
+  /**
+   * @return mapping time histograms by class pair, keyed by "srcClassName-->destClassName"
+   */
+  Map<String, LatencyHistogram> getMappingTimeHistograms();
+
 }
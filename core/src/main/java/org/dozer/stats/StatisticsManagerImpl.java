@@ -21,13 +21,18 @@ import org.slf4j.Logger;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 /**
  * Internal class that manages the Dozer runtime statistics. Only intended for internal use.
+ * <p>
+ * A manager created for a single mapper adds every increment to the global manager too, so that the global statistics
+ * keep the totals of all mappers. Such a manager shares the enabled state of the global one.
  *
  * @author tierney.matt
  */
@@ -35,11 +40,68 @@ public final class StatisticsManagerImpl implements StatisticsManager {
 
   private final Logger log = LoggerFactory.getLogger(StatisticsManagerImpl.class);
 
+  private final StatisticsManagerImpl parent;
   private final ConcurrentMap<StatisticType, Statistic> statisticsMap = new ConcurrentHashMap<StatisticType, Statistic>();
+  // Counters of the single entry statistics by type ordinal, so that incrementing them does not look up the entry
+  private final Counter[] counters = new Counter[StatisticType.values().length];
   private boolean isStatisticsEnabled = GlobalSettings.getInstance().isStatisticsEnabled();
+  // Histograms by class pair name. Class values look them up without building the name, the names do not keep
+  // mapped classes from being unloaded.
+  private final ConcurrentMap<String, LatencyHistogram> mappingTimes = new ConcurrentHashMap<String, LatencyHistogram>();
+  private final ClassValue<ClassValue<LatencyHistogram>> mappingTimesByClass = new MappingTimesBySource(mappingTimes);
+
+  public StatisticsManagerImpl() {
+    this(null);
+  }
+
+  /**
+   * @param parent manager which receives all increments as well, null for none
+   */
+  StatisticsManagerImpl(StatisticsManagerImpl parent) {
+    this.parent = parent;
+    for (StatisticType type : StatisticType.values()) {
+      counters[type.ordinal()] = new Counter(this, type, type, parent != null ? parent.getCounter(type) : null);
+    }
+  }
 
   public void clearAll() {
-    statisticsMap.clear();
+    // Statistics are dropped before they are invalidated, so that counters resolving them again get new ones
+    for (StatisticType statisticType : statisticsMap.keySet()) {
+      Statistic statistic = statisticsMap.remove(statisticType);
+      if (statistic != null) {
+        statistic.markRemoved();
+      }
+    }
+    // Histograms stay bound to their class pairs, so they are emptied rather than removed
+    for (LatencyHistogram histogram : mappingTimes.values()) {
+      histogram.reset();
+    }
+  }
+
+  public void recordMappingTime(Class<?> srcClass, Class<?> destClass, long nanos) {
+    if (!isStatisticsEnabled()) {
+      return;
+    }
+    increment(StatisticType.MAPPING_SUCCESS_COUNT);
+    increment(StatisticType.MAPPING_TIME, nanos);
+    recordHistogram(srcClass, destClass, nanos);
+  }
+
+  private void recordHistogram(Class<?> srcClass, Class<?> destClass, long nanos) {
+    mappingTimesByClass.get(srcClass).get(destClass).record(nanos);
+    if (parent != null) {
+      parent.recordHistogram(srcClass, destClass, nanos);
+    }
+  }
+
+  public Map<String, LatencyHistogram> getMappingTimeHistograms() {
+    Map<String, LatencyHistogram> result = new TreeMap<String, LatencyHistogram>();
+    for (Entry<String, LatencyHistogram> entry : mappingTimes.entrySet()) {
+      if (entry.getValue().getCount() > 0) {
+        result.put(entry.getKey(), entry.getValue());
+      }
+    }
+    return result;
   }
 
   @SuppressWarnings("unchecked")
@@ -53,14 +115,30 @@ public final class StatisticsManagerImpl implements StatisticsManager {
   }
 
   public boolean isStatisticsEnabled() {
-    return isStatisticsEnabled;
+    return parent != null ? parent.isStatisticsEnabled() : isStatisticsEnabled;
   }
 
   public void setStatisticsEnabled(boolean statisticsEnabled) {
+    if (parent != null) {
+      parent.setStatisticsEnabled(statisticsEnabled);
+      return;
+    }
     this.isStatisticsEnabled = statisticsEnabled;
     GlobalSettings.getInstance().setStatisticsEnabled(statisticsEnabled);
   }
 
+  public Counter getCounter(StatisticType statisticType) {
+    return counters[statisticType.ordinal()];
+  }
+
+  public Counter getCounter(StatisticType statisticType, Object statisticEntryKey) {
+    if (statisticEntryKey == statisticType) {
+      return getCounter(statisticType);
+    }
+    return new Counter(this, statisticType, statisticEntryKey,
+        parent != null ? parent.getCounter(statisticType, statisticEntryKey) : null);
+  }
+
   public Set<StatisticType> getStatisticTypes() {
     Set<StatisticType> results = new HashSet<StatisticType>();
     for (Entry<StatisticType, Statistic> entry : statisticsMap.entrySet()) {
@@ -95,7 +173,20 @@ public final class StatisticsManagerImpl implements StatisticsManager {
     if (statisticType == null) {
       throw new IllegalArgumentException("statistic type must be specified");
     }
+    if (statisticEntryKey == statisticType) {
+      return counters[statisticType.ordinal()].add(value);
+    }
 
+    // increment the statistic
+    Statistic statistic = getOrCreateStatistic(statisticType);
+    statistic.increment(statisticEntryKey, value);
+    if (parent != null) {
+      parent.increment(statisticType, statisticEntryKey, value);
+    }
+    return statistic;
+  }
+
+  Statistic getOrCreateStatistic(StatisticType statisticType) {
     // Get Statistic object for the specified type. If it doesn't already exist, create it
     Statistic statistic = statisticsMap.get(statisticType);
     if (statistic == null) {
@@ -105,9 +196,6 @@ public final class StatisticsManagerImpl implements StatisticsManager {
         statistic = newStatistic;
       }
     }
-
-    // increment the statistic
-    statistic.increment(statisticEntryKey, value);
     return statistic;
   }
 
@@ -133,4 +221,44 @@ public final class StatisticsManagerImpl implements StatisticsManager {
     log.info(getStatistics().toString());
   }
 
+  /*
+   * The class values are static classes, because the values they store on the mapped classes must not reach this
+   * manager. Otherwise the values would keep their own keys reachable and the manager would never be collected.
+   */
+
+  private static final class MappingTimesBySource extends ClassValue<ClassValue<LatencyHistogram>> {
+
+    private final ConcurrentMap<String, LatencyHistogram> mappingTimes;
+
+    MappingTimesBySource(ConcurrentMap<String, LatencyHistogram> mappingTimes) {
+      this.mappingTimes = mappingTimes;
+    }
+
+    @Override
+    protected ClassValue<LatencyHistogram> computeValue(Class<?> srcClass) {
+      return new MappingTimesByDestination(mappingTimes, srcClass.getName());
+    }
+
+  }
+
+  private static final class MappingTimesByDestination extends ClassValue<LatencyHistogram> {
+
+    private final ConcurrentMap<String, LatencyHistogram> mappingTimes;
+    private final String srcClassName;
+
+    MappingTimesByDestination(ConcurrentMap<String, LatencyHistogram> mappingTimes, String srcClassName) {
+      this.mappingTimes = mappingTimes;
+      this.srcClassName = srcClassName;
+    }
+
+    @Override
+    protected LatencyHistogram computeValue(Class<?> destClass) {
+      String key = srcClassName + "-->" + destClass.getName();
+      LatencyHistogram histogram = new LatencyHistogram();
+      LatencyHistogram existing = mappingTimes.putIfAbsent(key, histogram);
+      return existing != null ? existing : histogram;
+    }
+
+  }
+
 }
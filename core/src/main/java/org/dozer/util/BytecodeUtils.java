@@ -0,0 +1,162 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import javassist.bytecode.AccessFlag;
+import javassist.bytecode.Bytecode;
+import javassist.bytecode.ClassFile;
+import javassist.bytecode.MethodInfo;
+import javassist.bytecode.Opcode;
+import org.apache.commons.lang3.ClassUtils;
+
+/**
+ * Internal helpers for generating classes with the Javassist bytecode API. Generated classes target Java 5 class file
+ * format, so no stack map frames are needed for branches. Requires Javassist on the classpath. Only intended for
+ * internal use.
+ */
+public final class BytecodeUtils {
+
+  private BytecodeUtils() {
+  }
+
+  /**
+   * Creates public final class implementing the interface, with a default constructor.
+   */
+  public static ClassFile createClassFile(String name, Class<?> interfaceType) {
+    ClassFile classFile = new ClassFile(false, name, null);
+    classFile.setMajorVersion(ClassFile.JAVA_5);
+    classFile.setAccessFlags(AccessFlag.PUBLIC | AccessFlag.FINAL | AccessFlag.SUPER);
+    classFile.setInterfaces(new String[] {interfaceType.getName()});
+
+    Bytecode constructor = new Bytecode(classFile.getConstPool(), 1, 1);
+    constructor.addAload(0);
+    constructor.addInvokespecial(Object.class.getName(), MethodInfo.nameInit, "()V");
+    constructor.addOpcode(Opcode.RETURN);
+    addMethod(classFile, MethodInfo.nameInit, "()V", constructor);
+    return classFile;
+  }
+
+  public static void addMethod(ClassFile classFile, String name, String descriptor, Bytecode code) {
+    MethodInfo method = new MethodInfo(classFile.getConstPool(), name, descriptor);
+    method.setAccessFlags(AccessFlag.PUBLIC);
+    method.setCodeAttribute(code.toCodeAttribute());
+    classFile.addMethod2(method);
+  }
+
+  /**
+   * Defines the class by the generated class loader of the given bean class loader and returns a new instance of it.
+   */
+  public static Object newInstance(ClassFile classFile, ClassLoader beanClassLoader) throws IOException,
+      InstantiationException, IllegalAccessException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+    classFile.write(out);
+    out.close();
+    Class<?> generatedClass = GeneratedClassLoader.getInstance(beanClassLoader).define(classFile.getName(),
+        bytes.toByteArray());
+    return generatedClass.newInstance();
+  }
+
+  /**
+   * @return true if generated code can invoke the member directly
+   */
+  public static boolean isAccessible(Member member) {
+    int modifiers = member.getModifiers();
+    return Modifier.isPublic(modifiers) && !Modifier.isStatic(modifiers)
+        && Modifier.isPublic(member.getDeclaringClass().getModifiers());
+  }
+
+  /**
+   * Adds invocation of the method, the target and the arguments are expected on the stack.
+   */
+  public static void addInvoke(Bytecode code, Method method) {
+    Class<?> owner = method.getDeclaringClass();
+    String descriptor = getDescriptor(method);
+    if (owner.isInterface()) {
+      code.addInvokeinterface(owner.getName(), method.getName(), descriptor, 1 + getSlots(method.getParameterTypes()));
+    } else {
+      code.addInvokevirtual(owner.getName(), method.getName(), descriptor);
+    }
+  }
+
+  /**
+   * Discards the value of the given type from the top of the stack.
+   */
+  public static void addPop(Bytecode code, Class<?> type) {
+    if (Long.TYPE.equals(type) || Double.TYPE.equals(type)) {
+      code.addOpcode(Opcode.POP2);
+    } else if (!Void.TYPE.equals(type)) {
+      code.addOpcode(Opcode.POP);
+    }
+  }
+
+  public static void addBoxing(Bytecode code, Class<?> type) {
+    if (type.isPrimitive()) {
+      Class<?> wrapper = ClassUtils.primitiveToWrapper(type);
+      code.addInvokestatic(wrapper.getName(), "valueOf", "(" + getDescriptor(type) + ")" + getDescriptor(wrapper));
+    }
+  }
+
+  public static void addUnboxing(Bytecode code, Class<?> type) {
+    if (type.isPrimitive()) {
+      Class<?> wrapper = ClassUtils.primitiveToWrapper(type);
+      code.addCheckcast(wrapper.getName());
+      code.addInvokevirtual(wrapper.getName(), type.getName() + "Value", "()" + getDescriptor(type));
+    } else if (!Object.class.equals(type)) {
+      code.addCheckcast(type.getName());
+    }
+  }
+
+  public static String getDescriptor(Method method) {
+    StringBuilder descriptor = new StringBuilder("(");
+    for (Class<?> parameterType : method.getParameterTypes()) {
+      descriptor.append(getDescriptor(parameterType));
+    }
+    return descriptor.append(')').append(getDescriptor(method.getReturnType())).toString();
+  }
+
+  public static String getDescriptor(Class<?> type) {
+    if (type.isArray()) {
+      return type.getName().replace('.', '/');
+    } else if (type.isPrimitive()) {
+      if (Void.TYPE.equals(type)) {
+        return "V";
+      } else if (Boolean.TYPE.equals(type)) {
+        return "Z";
+      } else if (Long.TYPE.equals(type)) {
+        return "J";
+      }
+      return String.valueOf(Character.toUpperCase(type.getName().charAt(0)));
+    }
+    return "L" + type.getName().replace('.', '/') + ";";
+  }
+
+  private static int getSlots(Class<?>[] types) {
+    int slots = 0;
+    for (Class<?> type : types) {
+      slots += Long.TYPE.equals(type) || Double.TYPE.equals(type) ? 2 : 1;
+    }
+    return slots;
+  }
+
+}
@@ -15,6 +15,7 @@
  */
 package org.dozer.util;
 
+import org.dozer.cache.DozerCachePolicy;
 import org.dozer.classmap.RelationshipType;
 import org.dozer.factory.XMLBeanFactory;
 import org.dozer.fieldmap.DozerField;
@@ -42,12 +43,21 @@ public final class DozerConstants {
   public static final boolean DEFAULT_TRIM_STRINGS_POLICY = false;
   public static final int DEFAULT_CONVERTER_BY_DEST_TYPE_CACHE_MAX_SIZE = 10000;
   public static final int DEFAULT_SUPER_TYPE_CHECK_CACHE_MAX_SIZE = 10000;
+  public static final DozerCachePolicy DEFAULT_CACHE_POLICY = DozerCachePolicy.LRU;
   public static final RelationshipType DEFAULT_RELATIONSHIP_TYPE_POLICY = RelationshipType.CUMULATIVE;
   public static final String DEFAULT_CONFIG_FILE = "dozer.properties";
   public static final String DEFAULT_MAPPING_FILE = "dozerBeanMapping.xml";
   public static final boolean DEFAULT_AUTOREGISTER_JMX_BEANS = true;
   public static final boolean DEFAULT_STATISTICS_ENABLED = false;
+  public static final boolean DEFAULT_PROFILING_ENABLED = false;
+  public static final String DEFAULT_METRICS_EXPORTER = null;
+  public static final long DEFAULT_METRICS_EXPORT_INTERVAL = 60000;
   public static final boolean DEFAULT_EL_ENABLED = false;
+  public static final String DEFAULT_PROPERTY_ACCESSOR = "reflection";
+  public static final boolean DEFAULT_MAPPER_GENERATION_ENABLED = false;
+  public static final boolean DEFAULT_PROCESSOR_REUSE_ENABLED = false;
+  public static final boolean DEFAULT_TREE_DETECTION_ENABLED = false;
+  public static final UnmatchedEnumPolicy DEFAULT_UNMATCHED_ENUM_POLICY = UnmatchedEnumPolicy.FAIL;
 
   public static final String XSD_NAME = "beanmapping.xsd";
   public static final String CONFIG_FILE_SYS_PROP = "dozer.configuration"; // i.e)-Ddozer.configuration=somefile.properties
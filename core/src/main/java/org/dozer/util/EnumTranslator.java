@@ -0,0 +1,87 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Internal class that maps enum constants to the constants of the same name of another enum. A translation table
+ * indexed by ordinal is built once per pair of enums, so mapping a constant is an array read. The table of a pair is
+ * stored on the destination enum and holds destination constants only. The lookup stored on the source enum holds
+ * the source enum only. Either enum can therefore be unloaded while the other one stays loaded. Only intended for
+ * internal use.
+ */
+public final class EnumTranslator {
+
+  private static final ClassValue<TablesBySource> TABLES = new ClassValue<TablesBySource>() {
+    @Override
+    protected TablesBySource computeValue(Class<?> srcClass) {
+      return new TablesBySource(srcClass);
+    }
+  };
+
+  private EnumTranslator() {
+  }
+
+  public static <T extends Enum<T>> T translate(Enum<?> srcValue, Class<T> destClass, UnmatchedEnumPolicy policy) {
+    Enum<?>[] table = TABLES.get(srcValue.getDeclaringClass()).get(destClass);
+    Enum<?> result = table != null ? table[srcValue.ordinal()] : null;
+    if (result == null && (table == null || policy == UnmatchedEnumPolicy.FAIL)) {
+      // Reports the missing constant just like before translation tables were introduced
+      return Enum.valueOf(destClass, srcValue.name());
+    }
+    return destClass.cast(result);
+  }
+
+  private static Enum<?>[] createTable(Class<?> srcClass, Class<?> destClass) {
+    Object[] srcConstants = srcClass.getEnumConstants();
+    Object[] destConstants = destClass.getEnumConstants();
+    if (srcConstants == null || destConstants == null) {
+      return null;
+    }
+    Map<String, Enum<?>> destByName = new HashMap<String, Enum<?>>();
+    for (Object destConstant : destConstants) {
+      destByName.put(((Enum<?>) destConstant).name(), (Enum<?>) destConstant);
+    }
+    Enum<?>[] table = new Enum<?>[srcConstants.length];
+    for (Object srcConstant : srcConstants) {
+      Enum<?> srcEnum = (Enum<?>) srcConstant;
+      table[srcEnum.ordinal()] = destByName.get(srcEnum.name());
+    }
+    return table;
+  }
+
+  /**
+   * Tables from one source enum, by destination enum. Static, so that it does not reference the class value it is
+   * stored by.
+   */
+  private static final class TablesBySource extends ClassValue<Enum<?>[]> {
+
+    private final Class<?> srcClass;
+
+    TablesBySource(Class<?> srcClass) {
+      this.srcClass = srcClass;
+    }
+
+    @Override
+    protected Enum<?>[] computeValue(Class<?> destClass) {
+      return createTable(srcClass, destClass);
+    }
+
+  }
+
+}
@@ -0,0 +1,107 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.util;
+
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.dozer.plan.GeneratedMapper;
+import org.dozer.plan.GeneratedMapperException;
+import org.dozer.propertydescriptor.accessor.PropertyAccessor;
+import org.dozer.propertydescriptor.accessor.PropertyReader;
+import org.dozer.propertydescriptor.accessor.PropertyWriter;
+
+/**
+ * Internal class loader for classes generated by Dozer at runtime. One instance is kept per bean class loader, so
+ * generated code resolves bean classes exactly as the beans do, while the Dozer interfaces implemented by generated
+ * classes always come from Dozer's own class loader. Only intended for internal use.
+ */
+public final class GeneratedClassLoader extends ClassLoader {
+
+  private static final String GENERATED_PACKAGE = "org.dozer.generated.";
+
+  private static final AtomicInteger counter = new AtomicInteger();
+  private static final Map<String, Class<?>> dozerTypes = new HashMap<String, Class<?>>();
+  // Held weakly in both directions, generated classes are unloaded together with the bean class loader
+  private static final Map<ClassLoader, WeakReference<GeneratedClassLoader>> instances =
+      new WeakHashMap<ClassLoader, WeakReference<GeneratedClassLoader>>();
+
+  static {
+    dozerTypes.put(PropertyReader.class.getName(), PropertyReader.class);
+    dozerTypes.put(PropertyWriter.class.getName(), PropertyWriter.class);
+    dozerTypes.put(PropertyAccessor.class.getName(), PropertyAccessor.class);
+    dozerTypes.put(GeneratedMapper.class.getName(), GeneratedMapper.class);
+    dozerTypes.put(GeneratedMapperException.class.getName(), GeneratedMapperException.class);
+  }
+
+  private GeneratedClassLoader(ClassLoader parent) {
+    super(parent);
+  }
+
+  public static synchronized GeneratedClassLoader getInstance(ClassLoader beanClassLoader) {
+    WeakReference<GeneratedClassLoader> reference = instances.get(beanClassLoader);
+    GeneratedClassLoader classLoader = reference != null ? reference.get() : null;
+    if (classLoader == null) {
+      classLoader = new GeneratedClassLoader(beanClassLoader);
+      instances.put(beanClassLoader, new WeakReference<GeneratedClassLoader>(classLoader));
+    }
+    return classLoader;
+  }
+
+  /**
+   * @param simpleName base name of the generated class
+   * @return unique fully qualified name for a new generated class
+   */
+  public static String nextClassName(String simpleName) {
+    return GENERATED_PACKAGE + simpleName + "$" + counter.incrementAndGet();
+  }
+
+  /**
+   * @return true if the type resolves to the very same class from the given class loader
+   */
+  public static boolean isVisible(Class<?> type, ClassLoader classLoader) {
+    while (type.isArray()) {
+      type = type.getComponentType();
+    }
+    if (type.isPrimitive()) {
+      return true;
+    }
+    try {
+      return Class.forName(type.getName(), false, classLoader) == type;
+    } catch (ClassNotFoundException e) {
+      return false;
+    } catch (LinkageError e) {
+      return false;
+    }
+  }
+
+  @Override
+  protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+    Class<?> dozerType = dozerTypes.get(name);
+    if (dozerType != null) {
+      return dozerType;
+    }
+    return super.loadClass(name, resolve);
+  }
+
+  public Class<?> define(String name, byte[] bytes) {
+    return defineClass(name, bytes, 0, bytes.length);
+  }
+
+}
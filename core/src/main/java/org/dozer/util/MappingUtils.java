@@ -94,16 +94,6 @@ public final class MappingUtils {
     return rootCause;
   }
 
-  public static String getMappedParentFieldKey(Object destObj, FieldMap destFieldMap) {
-    StringBuilder buf = new StringBuilder(100); // TODO Use IdentityHashMap instead of String concatenation
-    buf.append(System.identityHashCode(destObj));
-    buf.append(destFieldMap.getDestFieldName());
-    if ( destFieldMap.getDestFieldKey() != null ) {
-      buf.append("[").append( destFieldMap.getDestFieldKey() ).append("]");
-    }
-    return buf.toString();
-  }
-
   public static Class<?> findCustomConverter(Cache converterByDestTypeCache, CustomConverterContainer customConverterContainer,
       Class<?> srcClass, Class<?> destClass) {
     if (customConverterContainer == null) {
@@ -166,6 +156,7 @@ public final class MappingUtils {
     destination.setType(source.getType());
     destination.setWildcard(source.isWildcard());
     destination.setTrimStrings(source.isTrimStrings());
+    destination.setTree(source.isTree());
     destination.setDateFormat(source.getDateFormat());
     destination.setRelationshipType(source.getRelationshipType());
     destination.setStopOnErrors(source.isStopOnErrors());
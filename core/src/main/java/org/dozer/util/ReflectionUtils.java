@@ -41,6 +41,23 @@ public final class ReflectionUtils {
   private ReflectionUtils() {
   }
 
+  /**
+   * Checks presence of an optional dependency.
+   *
+   * @param className fully qualified class name
+   * @return true if the class can be loaded by the class loader of Dozer
+   */
+  public static boolean isClassPresent(String className) {
+    try {
+      Class.forName(className, false, ReflectionUtils.class.getClassLoader());
+      return true;
+    } catch (ClassNotFoundException e) {
+      return false;
+    } catch (LinkageError e) {
+      return false;
+    }
+  }
+
   public static PropertyDescriptor findPropertyDescriptor(Class<?> objectClass, String fieldName,
       HintContainer deepIndexHintContainer) {
     PropertyDescriptor result = null;
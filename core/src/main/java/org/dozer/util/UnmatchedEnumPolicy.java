@@ -0,0 +1,34 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.util;
+
+/**
+ * Result of mapping an enum constant, whose name is not declared by the destination enum. Only intended for internal
+ * use.
+ */
+public enum UnmatchedEnumPolicy {
+
+  /**
+   * Mapping fails with an IllegalArgumentException.
+   */
+  FAIL,
+
+  /**
+   * Destination is mapped to null.
+   */
+  NULL
+
+}
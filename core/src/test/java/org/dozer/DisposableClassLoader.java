@@ -0,0 +1,57 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+
+/**
+ * Loads its own copy of a class, which can be unloaded when the loader is no longer referenced.
+ */
+public class DisposableClassLoader extends ClassLoader {
+
+  public DisposableClassLoader() {
+    super(null);
+  }
+
+  public Class<?> define(Class<?> type) throws IOException {
+    InputStream in = type.getClassLoader().getResourceAsStream(type.getName().replace('.', '/') + ".class");
+    try {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      byte[] buffer = new byte[4096];
+      for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+        bytes.write(buffer, 0, read);
+      }
+      return defineClass(type.getName(), bytes.toByteArray(), 0, bytes.size());
+    } finally {
+      in.close();
+    }
+  }
+
+  /**
+   * Runs the garbage collector until the referenced object has been collected, or gives up after a while.
+   */
+  public static boolean isCollected(WeakReference<?> reference) throws InterruptedException {
+    for (int i = 0; i < 200 && reference.get() != null; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+    return reference.get() == null;
+  }
+
+}
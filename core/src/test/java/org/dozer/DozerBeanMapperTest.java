@@ -16,7 +16,19 @@
 package org.dozer;
 
 import org.apache.commons.beanutils.PropertyUtils;
+import org.dozer.cache.CacheManager;
+import org.dozer.cache.DozerCacheManager;
+import org.dozer.cache.DozerCachePolicy;
+import org.dozer.cache.DozerCacheType;
+import org.dozer.cache.UnboundedDozerCache;
+import org.dozer.cache.WeakClassDozerCache;
 import org.dozer.loader.api.BeanMappingBuilder;
+import org.dozer.stats.GlobalStatistics;
+import org.dozer.stats.LatencyHistogram;
+import org.dozer.stats.MetricsExport;
+import org.dozer.stats.MetricsExporter;
+import org.dozer.stats.StatisticType;
+import org.dozer.stats.StatisticsManager;
 import org.dozer.vo.TestObject;
 import org.dozer.vo.generics.deepindex.TestObjectPrime;
 import org.junit.After;
@@ -30,7 +42,11 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.mockito.Mockito.mock;
 
@@ -87,6 +103,27 @@ public class DozerBeanMapperTest extends Assert {
     assertTrue(exceptions.isEmpty());
   }
 
+  @Test
+  public void shouldReleaseReusedProcessorsOnDestroy() throws Exception {
+    mapper.setReuseProcessors(true);
+    ExecutorService executorService = Executors.newSingleThreadExecutor();
+    try {
+      Callable<Mapper> getProcessor = new Callable<Mapper>() {
+        public Mapper call() {
+          return mapper.getMappingProcessor();
+        }
+      };
+      Mapper poolProcessor = executorService.submit(getProcessor).get();
+      assertSame(poolProcessor, executorService.submit(getProcessor).get());
+
+      mapper.destroy();
+
+      assertNotSame(poolProcessor, executorService.submit(getProcessor).get());
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
   @Test
   public void shouldBeThreadSafe() throws Exception {
     mapper.setMappingFiles(Arrays.asList("dozerBeanMapping.xml"));
@@ -191,6 +228,62 @@ public class DozerBeanMapperTest extends Assert {
     }
   }
 
+  @Test
+  public void shouldRecordMappingTimesPerClassPair() {
+    StatisticsManager statsMgr = GlobalStatistics.getInstance().getStatsMgr();
+    boolean statisticsEnabled = statsMgr.isStatisticsEnabled();
+    statsMgr.setStatisticsEnabled(true);
+    try {
+      statsMgr.clearAll();
+      mapper.map(new TestObject(), TestObject.class);
+      mapper.map(new TestObject(), new TestObjectPrime());
+
+      Map<String, LatencyHistogram> histograms = statsMgr.getMappingTimeHistograms();
+      assertEquals(1, histograms.get(TestObject.class.getName() + "-->" + TestObject.class.getName()).getCount());
+      assertEquals(1, histograms.get(TestObject.class.getName() + "-->" + TestObjectPrime.class.getName()).getCount());
+      assertEquals(2, statsMgr.getStatisticValue(StatisticType.MAPPING_SUCCESS_COUNT));
+    } finally {
+      statsMgr.clearAll();
+      statsMgr.setStatisticsEnabled(statisticsEnabled);
+    }
+  }
+
+  @Test
+  public void shouldKeepStatisticsPerMapper() {
+    StatisticsManager statsMgr = GlobalStatistics.getInstance().getStatsMgr();
+    boolean statisticsEnabled = statsMgr.isStatisticsEnabled();
+    statsMgr.setStatisticsEnabled(true);
+    try {
+      statsMgr.clearAll();
+      DozerBeanMapper otherMapper = new DozerBeanMapper();
+      mapper.map(new TestObject(), TestObject.class);
+      otherMapper.map(new TestObject(), TestObject.class);
+      otherMapper.map(new TestObject(), TestObject.class);
+
+      assertEquals(Long.valueOf(1), mapper.getMetrics().getCounters().get("MAPPING_SUCCESS_COUNT"));
+      assertEquals(Long.valueOf(2), otherMapper.getMetrics().getCounters().get("MAPPING_SUCCESS_COUNT"));
+      assertEquals(3, statsMgr.getStatisticValue(StatisticType.MAPPING_SUCCESS_COUNT));
+    } finally {
+      statsMgr.clearAll();
+      statsMgr.setStatisticsEnabled(statisticsEnabled);
+    }
+  }
+
+  @Test
+  public void shouldExportMetricsOfMapper() {
+    MetricsExporter exporter = mock(MetricsExporter.class);
+    mapper.setMetricsExporter(exporter);
+    assertNull(mapper.getMetricsExport());
+
+    mapper.map(new TestObject(), TestObject.class);
+    MetricsExport export = mapper.getMetricsExport();
+    assertSame(exporter, export.getExporter());
+    assertFalse(export.isStopped());
+
+    mapper.destroy();
+    assertTrue(export.isStopped());
+  }
+
   @Test
   public void shouldSetEventListeners() {
     DozerEventListener listener = mock(DozerEventListener.class);
@@ -201,4 +294,145 @@ public class DozerBeanMapperTest extends Assert {
     assertEquals(1, listeners.size());
   }
 
+  @Test
+  public void shouldMapAll() {
+    TestObject first = new TestObject();
+    first.setOne("first");
+    TestObject second = new TestObject();
+    second.setOne("second");
+
+    List<TestObject> result = mapper.mapAll(Arrays.asList(first, null, second, first), TestObject.class);
+
+    assertEquals(4, result.size());
+    assertEquals("first", result.get(0).getOne());
+    assertNull(result.get(1));
+    assertEquals("second", result.get(2).getOne());
+    // every source is mapped on its own
+    assertNotSame(result.get(0), result.get(3));
+    assertEquals("first", result.get(3).getOne());
+  }
+
+  @Test
+  public void shouldMapAllIntoExistingList() {
+    TestObject source = new TestObject();
+    source.setOne("one");
+    List<Object> destinations = new ArrayList<Object>(Arrays.asList("existing"));
+
+    mapper.mapAll(Collections.singleton(source), destinations, TestObject.class, null);
+
+    assertEquals(2, destinations.size());
+    assertEquals("one", ((TestObject) destinations.get(1)).getOne());
+  }
+
+  @Test
+  public void shouldMapAllInParallel() {
+    List<TestObject> sources = new ArrayList<TestObject>();
+    for (int i = 0; i < 1000; i++) {
+      TestObject source = new TestObject();
+      source.setOne(String.valueOf(i));
+      sources.add(source);
+    }
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      List<TestObject> result = mapper.mapAllParallel(sources, TestObject.class, null, pool);
+
+      assertEquals(1000, result.size());
+      for (int i = 0; i < 1000; i++) {
+        assertEquals(String.valueOf(i), result.get(i).getOne());
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test(expected = MappingException.class)
+  public void shouldRejectNullSourcesInParallel() {
+    mapper.mapAllParallel(null, TestObject.class, null, ForkJoinPool.commonPool());
+  }
+
+  @Test(expected = MappingException.class)
+  public void shouldRejectNullPool() {
+    mapper.mapAllParallel(Collections.singleton(new TestObject()), TestObject.class, null, null);
+  }
+
+  @Test
+  public void shouldMapStreamLazily() {
+    final AtomicInteger created = new AtomicInteger();
+    Stream<TestObject> sources = Stream.generate(new Supplier<TestObject>() {
+      public TestObject get() {
+        TestObject source = new TestObject();
+        source.setOne(String.valueOf(created.getAndIncrement()));
+        return source;
+      }
+    });
+
+    List<TestObject> result = mapper.mapStream(sources, TestObject.class).limit(3).collect(Collectors.toList());
+
+    assertEquals(3, result.size());
+    assertEquals("2", result.get(2).getOne());
+    assertEquals(3, created.get());
+  }
+
+  @Test
+  public void shouldMapParallelStream() {
+    List<TestObject> sources = new ArrayList<TestObject>();
+    for (int i = 0; i < 1000; i++) {
+      TestObject source = new TestObject();
+      source.setOne(String.valueOf(i));
+      sources.add(source);
+    }
+
+    List<TestObject> result = mapper.mapStream(sources.parallelStream(), TestObject.class)
+        .collect(Collectors.toList());
+
+    assertEquals(1000, result.size());
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(String.valueOf(i), result.get(i).getOne());
+    }
+  }
+
+  @Test
+  public void shouldMapIterator() {
+    TestObject source = new TestObject();
+    source.setOne("one");
+
+    Iterator<TestObject> result = mapper.mapIterator(Arrays.asList(source, null).iterator(), TestObject.class);
+
+    assertTrue(result.hasNext());
+    assertEquals("one", result.next().getOne());
+    assertNull(result.next());
+    assertFalse(result.hasNext());
+  }
+
+  @Test
+  public void shouldUseCachePolicies() {
+    Map<DozerCacheType, DozerCachePolicy> cachePolicies =
+        new EnumMap<DozerCacheType, DozerCachePolicy>(DozerCacheType.class);
+    cachePolicies.put(DozerCacheType.SUPER_TYPE_CHECK, DozerCachePolicy.WEAK_KEYS);
+    cachePolicies.put(DozerCacheType.CONVERTER_BY_DEST_TYPE, DozerCachePolicy.LRU);
+    mapper.setCachePolicies(cachePolicies);
+    mapper.setCacheSizes(Collections.singletonMap(DozerCacheType.CONVERTER_BY_DEST_TYPE, 10));
+
+    mapper.map(new TestObject(), TestObjectPrime.class);
+
+    CacheManager cacheManager = mapper.getCacheManager();
+    assertTrue(cacheManager.getCache(DozerCacheType.SUPER_TYPE_CHECK.name()) instanceof WeakClassDozerCache);
+    assertEquals(10, cacheManager.getCache(DozerCacheType.CONVERTER_BY_DEST_TYPE.name()).getMaxSize());
+  }
+
+  @Test
+  public void shouldKeepCachesOfCacheManager() {
+    DozerCacheManager cacheManager = new DozerCacheManager();
+    UnboundedDozerCache<Object, Object> cache =
+        new UnboundedDozerCache<Object, Object>(DozerCacheType.SUPER_TYPE_CHECK.name());
+    cacheManager.addCache(cache);
+    mapper.setCacheManager(cacheManager);
+
+    mapper.map(new TestObject(), TestObjectPrime.class);
+
+    assertSame(cache, cacheManager.getCache(DozerCacheType.SUPER_TYPE_CHECK.name()));
+    assertTrue(cacheManager.cacheExists(DozerCacheType.CONVERTER_BY_DEST_TYPE.name()));
+    assertTrue(cache.getSize() > 0);
+  }
+
 }
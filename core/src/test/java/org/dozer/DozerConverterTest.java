@@ -71,6 +71,14 @@ public class DozerConverterTest extends AbstractDozerTest {
     assertEquals(new Integer(2), converter.convertTo("2", new Integer(0)));
   }
 
+  @Test
+  public void test_convertPrimitiveBothWays() {
+    for (int i = 0; i < 3; i++) {
+      assertEquals(i, converter.convert(null, String.valueOf(i), int.class, String.class));
+      assertEquals(String.valueOf(i), converter.convert(null, i, String.class, int.class));
+    }
+  }
+
   @Test
   public void test_FullCycle() {
     assertEquals(1, converter.convert(null, "1", Integer.class,
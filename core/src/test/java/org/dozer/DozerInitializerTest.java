@@ -20,6 +20,7 @@ import org.junit.Before;
 import org.junit.After;
 import org.dozer.config.BeanContainer;
 import org.dozer.config.GlobalSettings;
+import org.dozer.stats.LoggingMetricsExporter;
 import org.dozer.util.DozerConstants;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -75,6 +76,24 @@ public class DozerInitializerTest extends AbstractDozerTest {
     fail();
   }
 
+  @Test
+  public void testCreateMetricsExporter() {
+    GlobalSettings settings = mock(GlobalSettings.class);
+    assertNull(instance.createMetricsExporter(settings));
+
+    when(settings.getMetricsExporterName()).thenReturn(LoggingMetricsExporter.class.getName());
+    assertTrue(instance.createMetricsExporter(settings) instanceof LoggingMetricsExporter);
+  }
+
+  @Test(expected=MappingException.class)
+  public void testMetricsExporterIsNotAssignable() {
+    GlobalSettings settings = mock(GlobalSettings.class);
+    when(settings.getMetricsExporterName()).thenReturn("java.lang.String");
+
+    instance.createMetricsExporter(settings);
+    fail();
+  }
+
   @After
   public void tearDown() throws Exception {
     instance.destroy();
@@ -1,59 +0,0 @@
-/**
- * Copyright 2005-2013 Dozer Project
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- *      http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package org.dozer;
-
-
-import org.junit.Before;
-import org.junit.Test;
-
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertFalse;
-import static org.junit.Assert.assertTrue;
-
-/**
- * @author andino.alexander
- */
-public class MapIdFieldTest {
-
-  private MapIdField mapIdField;
-
-  @Before
-  public void setUp() {
-    mapIdField = new MapIdField();
-  }
-
-  @Test
-  public void testPut() {
-    mapIdField.put("aMapId", "aMapIdValue");
-    assertEquals("aMapIdValue", mapIdField.get("aMapId"));
-  }
-
-  @Test
-  public void testGet() {
-    mapIdField.put(null, "nullMapId");
-    mapIdField.put("aMapId", "aMapIdValue");
-    assertEquals("nullMapId", mapIdField.get(null));
-    assertEquals("aMapIdValue", mapIdField.get("aMapId"));
-  }
-
-  @Test
-  public void testContainsMapId() {
-    mapIdField.put("aMapId", "aMapIdValue");
-    assertTrue(mapIdField.containsMapId("aMapId"));
-    assertFalse(mapIdField.containsMapId(null));
-  }
-  
-}
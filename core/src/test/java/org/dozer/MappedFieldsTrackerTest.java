@@ -46,6 +46,30 @@ public class MappedFieldsTrackerTest extends AbstractDozerTest{
     assertEquals(new HashSet(), tracker.getMappedValue("", Set.class));
   }
 
+  @Test
+  public void testClear() {
+    tracker.put("", "1");
+    tracker.clear();
+    assertNull(tracker.getMappedValue("", String.class));
+  }
+
+  @Test
+  public void testPut_ManyObjects() {
+    Object[] sources = new Object[1000];
+    for (int i = 0; i < sources.length; i++) {
+      sources[i] = new Object();
+      tracker.put(sources[i], String.valueOf(i));
+      tracker.put(sources[i], Integer.valueOf(i), "someId");
+    }
+    for (int i = 0; i < sources.length; i++) {
+      assertEquals(String.valueOf(i), tracker.getMappedValue(sources[i], String.class));
+      assertEquals(Integer.valueOf(i), tracker.getMappedValue(sources[i], Integer.class, "someId"));
+      assertNull(tracker.getMappedValue(sources[i], Integer.class));
+    }
+    tracker.clear();
+    assertNull(tracker.getMappedValue(sources[0], String.class));
+  }
+
   @Test
   public void testGetMappedValue() {
     assertNull(tracker.getMappedValue("", String.class));
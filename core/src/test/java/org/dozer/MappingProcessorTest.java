@@ -15,12 +15,20 @@
  */
 package org.dozer;
 
+import org.dozer.cache.DozerCacheManager;
+import org.dozer.cache.DozerCacheType;
+import org.dozer.classmap.ClassMappings;
+import org.dozer.classmap.Configuration;
+import org.dozer.event.DozerEventManager;
+import org.dozer.plan.MappingPlanCache;
+import org.dozer.stats.GlobalStatistics;
 import org.dozer.vo.A;
 import org.dozer.vo.B;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 
 /**
@@ -54,6 +62,50 @@ public class MappingProcessorTest extends AbstractDozerTest {
     assertSame(dest1.getB(), dest2.getB());
   }
 
+  @Test
+  public void testReusableProcessor() {
+    DozerBeanMapper mapper = new DozerBeanMapper();
+    MappingProcessor mappingProcessor = (MappingProcessor) mapper.getMappingProcessor();
+    mappingProcessor.setReusable(true);
+
+    A src = new A();
+    src.setB(new B());
+
+    A dest1 = mappingProcessor.map(src, A.class);
+    A dest2 = mappingProcessor.map(src, A.class);
+
+    assertNotSame(dest1, dest2);
+    assertNotSame(dest1.getB(), dest2.getB());
+    assertFalse(mappingProcessor.isInUse());
+  }
+
+  @Test
+  public void testGeneratedMapperFailureContinuesAfterFailedField() {
+    Configuration configuration = new Configuration();
+    configuration.setStopOnErrors(false);
+    ClassMappings classMappings = new ClassMappings();
+    DozerCacheManager cacheManager = new DozerCacheManager();
+    cacheManager.addCache(DozerCacheType.CONVERTER_BY_DEST_TYPE.name(), 100);
+    cacheManager.addCache(DozerCacheType.SUPER_TYPE_CHECK.name(), 100);
+    MappingProcessor mappingProcessor = new MappingProcessor(classMappings, configuration, cacheManager,
+        GlobalStatistics.getInstance().getStatsMgr(), new ArrayList<CustomConverter>(),
+        new DozerEventManager(new ArrayList<DozerEventListener>()), null, new HashMap<String, CustomConverter>(),
+        new MappingPlanCache(classMappings, cacheManager, true, false));
+
+    CountingBean src = new CountingBean();
+    src.setFirst("first");
+    src.setLast("last");
+    CountingBean dest = mappingProcessor.map(src, CountingBean.class);
+
+    assertEquals("first", dest.getFirst());
+    assertEquals("last", dest.getLast());
+    assertNull(dest.middle);
+    // Accessors which ran before the failure are not invoked again
+    assertEquals(1, src.firstReads);
+    assertEquals(1, src.middleReads);
+    assertEquals(1, src.lastReads);
+  }
+
   @Test
   public void testPrepareDetinationList_OK() {
     List<?> result = MappingProcessor.prepareDestinationList(sourceList, destinationList);
@@ -152,4 +204,41 @@ public class MappingProcessorTest extends AbstractDozerTest {
     }
   }
 
+  public static class CountingBean {
+
+    private String first;
+    private String middle;
+    private String last;
+    private int firstReads;
+    private int middleReads;
+    private int lastReads;
+
+    public String getFirst() {
+      firstReads++;
+      return first;
+    }
+
+    public void setFirst(String first) {
+      this.first = first;
+    }
+
+    public String getMiddle() {
+      middleReads++;
+      throw new IllegalStateException("middle");
+    }
+
+    public void setMiddle(String middle) {
+      this.middle = middle;
+    }
+
+    public String getLast() {
+      lastReads++;
+      return last;
+    }
+
+    public void setLast(String last) {
+      this.last = last;
+    }
+  }
+
 }
@@ -0,0 +1,129 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.cache;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.dozer.AbstractDozerTest;
+import org.junit.Test;
+
+public class ConcurrentDozerCacheTest extends AbstractDozerTest {
+
+  @Test
+  public void testPutGetFromCache() {
+    Cache<String, String> cache = new ConcurrentDozerCache<String, String>(getRandomString(), 50);
+    for (int i = 0; i < 45; i++) {
+      String key = String.valueOf(i);
+      assertNull(cache.get(key));
+
+      cache.put(key, "testvalue" + i);
+
+      assertEquals("testvalue" + i, cache.get(key));
+      assertTrue(cache.containsKey(key));
+    }
+    assertEquals(45, cache.getSize());
+  }
+
+  @Test
+  public void testReplaceValue() {
+    Cache<String, String> cache = new ConcurrentDozerCache<String, String>(getRandomString(), 5);
+    cache.put("A", "B");
+    cache.put("A", "C");
+
+    assertEquals("C", cache.get("A"));
+    assertEquals(1, cache.getSize());
+  }
+
+  @Test
+  public void testMaximumCacheSize() {
+    int maxSize = 25;
+    Cache<String, String> cache = new ConcurrentDozerCache<String, String>(getRandomString(), maxSize);
+    for (int i = 0; i < maxSize + 125; i++) {
+      cache.put("testkey" + i, "testvalue" + i);
+    }
+    assertEquals(maxSize, cache.getSize());
+    assertEquals(maxSize, cache.getMaxSize());
+  }
+
+  @Test
+  public void testKeepFrequentlyReadEntries() {
+    Cache<String, String> cache = new ConcurrentDozerCache<String, String>(getRandomString(), 10);
+    cache.put("hot", "value");
+    for (int i = 0; i < 100; i++) {
+      cache.get("hot");
+      cache.put("cold" + i, "value");
+    }
+    assertTrue(cache.containsKey("hot"));
+    assertFalse(cache.containsKey("cold0"));
+  }
+
+  @Test
+  public void testClear() {
+    Cache<Object, String> cache = new ConcurrentDozerCache<Object, String>(getRandomString(), 50);
+    cache.put(CacheKeyFactory.createKey(String.class, Integer.class), "testvalue");
+    cache.clear();
+
+    assertEquals(0, cache.getSize());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMaximumCacheSize_Zero() {
+    new ConcurrentDozerCache<String, String>(getRandomString(), 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testGetNull() {
+    new ConcurrentDozerCache<String, String>(getRandomString(), 5).get(null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPutNull() {
+    new ConcurrentDozerCache<String, String>(getRandomString(), 5).put(null, null);
+  }
+
+  @Test
+  public void testConcurrentAccess() throws Exception {
+    final int maxSize = 100;
+    final Cache<Integer, Integer> cache = new ConcurrentDozerCache<Integer, Integer>(getRandomString(), maxSize);
+    final CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    for (int t = 0; t < 4; t++) {
+      final int offset = t * 1000;
+      executor.execute(new Runnable() {
+        public void run() {
+          try {
+            start.await();
+          } catch (InterruptedException e) {
+            return;
+          }
+          for (int i = 0; i < 1000; i++) {
+            cache.put(offset + i, i);
+            cache.get(offset + i % 10);
+          }
+        }
+      });
+    }
+    start.countDown();
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+    assertEquals(maxSize, cache.getSize());
+  }
+
+}
@@ -138,4 +138,13 @@ public class DozerCacheManagerTest extends AbstractDozerTest {
 
     assertEquals("invalid caches found", expected, cacheMgr.getCaches());
   }
+
+  @Test
+  public void testAddCacheWithPolicy() throws Exception {
+    String cacheName = getRandomString();
+    cacheMgr.addCache(cacheName, 1, DozerCachePolicy.CONCURRENT);
+
+    assertTrue("invalid cache type", cacheMgr.getCache(cacheName) instanceof ConcurrentDozerCache);
+  }
+
 }
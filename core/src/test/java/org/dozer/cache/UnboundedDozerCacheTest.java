@@ -0,0 +1,71 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.cache;
+
+import org.dozer.AbstractDozerTest;
+import org.dozer.stats.StatisticType;
+import org.dozer.stats.StatisticsManagerImpl;
+import org.junit.Test;
+
+public class UnboundedDozerCacheTest extends AbstractDozerTest {
+
+  @Test
+  public void testPutGetFromCache() {
+    Cache<String, String> cache = new UnboundedDozerCache<String, String>(getRandomString());
+    for (int i = 0; i < 100; i++) {
+      cache.put("testkey" + i, "testvalue" + i);
+    }
+
+    assertEquals(100, cache.getSize());
+    assertEquals("testvalue0", cache.get("testkey0"));
+    assertTrue(cache.containsKey("testkey99"));
+    assertNull(cache.get("other"));
+  }
+
+  @Test
+  public void testNullValue() {
+    StatisticsManagerImpl statsMgr = new StatisticsManagerImpl();
+    statsMgr.setStatisticsEnabled(true);
+    try {
+      String name = getRandomString();
+      Cache<String, String> cache = new UnboundedDozerCache<String, String>(name, statsMgr);
+      cache.put("A", null);
+
+      assertTrue(cache.containsKey("A"));
+      assertNull(cache.get("A"));
+      assertEquals(1, statsMgr.getStatisticValue(StatisticType.CACHE_HIT_COUNT, name));
+      assertEquals(0, statsMgr.getStatisticValue(StatisticType.CACHE_MISS_COUNT, name));
+    } finally {
+      statsMgr.setStatisticsEnabled(false);
+    }
+  }
+
+  @Test
+  public void testClear() {
+    Cache<String, String> cache = new UnboundedDozerCache<String, String>(getRandomString());
+    cache.put("A", "B");
+    cache.clear();
+
+    assertEquals(0, cache.getSize());
+    assertNull(cache.get("A"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPutNull() {
+    new UnboundedDozerCache<String, String>(getRandomString()).put(null, null);
+  }
+
+}
@@ -0,0 +1,110 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.cache;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+
+import org.dozer.AbstractDozerTest;
+import org.dozer.DisposableClassLoader;
+import org.junit.Test;
+
+public class WeakClassDozerCacheTest extends AbstractDozerTest {
+
+  @Test
+  public void testPutGetFromCache() {
+    Cache<Object, String> cache = new WeakClassDozerCache<Object, String>(getRandomString());
+    cache.put(CacheKeyFactory.createKey(String.class, Integer.class), "A");
+    cache.put(CacheKeyFactory.createKey(Integer.class, String.class), "B");
+    cache.put(CacheKeyFactory.createKey(Integer.class, String.class, "id"), "C");
+
+    assertEquals("A", cache.get(CacheKeyFactory.createKey(String.class, Integer.class)));
+    assertEquals("B", cache.get(CacheKeyFactory.createKey(Integer.class, String.class)));
+    assertEquals("C", cache.get(CacheKeyFactory.createKey(Integer.class, String.class, "id")));
+    assertNull(cache.get(CacheKeyFactory.createKey(Long.class, String.class)));
+    assertEquals(3, cache.getSize());
+  }
+
+  @Test
+  public void testNullValue() {
+    Cache<Object, String> cache = new WeakClassDozerCache<Object, String>(getRandomString());
+    Object key = CacheKeyFactory.createKey(String.class, Integer.class);
+    cache.put(key, null);
+
+    assertTrue(cache.containsKey(key));
+    assertNull(cache.get(key));
+  }
+
+  @Test
+  public void testOtherKeys() {
+    Cache<Object, String> cache = new WeakClassDozerCache<Object, String>(getRandomString());
+    cache.put("key", "value");
+
+    assertEquals("value", cache.get("key"));
+    assertTrue(cache.containsKey("key"));
+  }
+
+  @Test
+  public void testClear() {
+    Cache<Object, String> cache = new WeakClassDozerCache<Object, String>(getRandomString());
+    Object key = CacheKeyFactory.createKey(String.class, Integer.class);
+    cache.put(key, "A");
+    cache.clear();
+
+    assertEquals(0, cache.getSize());
+    assertFalse(cache.containsKey(key));
+  }
+
+  @Test
+  public void testSourceClassUnloaded() throws Exception {
+    Cache<Object, Object> cache = new WeakClassDozerCache<Object, Object>(getRandomString());
+    WeakReference<ClassLoader> classLoader = putDisposableClass(cache, true);
+
+    assertTrue("class loader of the source class not collected", DisposableClassLoader.isCollected(classLoader));
+  }
+
+  @Test
+  public void testDestinationClassUnloaded() throws Exception {
+    Cache<Object, Object> cache = new WeakClassDozerCache<Object, Object>(getRandomString());
+    WeakReference<ClassLoader> classLoader = putDisposableClass(cache, false);
+
+    assertTrue("class loader of the destination class not collected", DisposableClassLoader.isCollected(classLoader));
+  }
+
+  @Test
+  public void testLoadedByAncestor() {
+    assertTrue(WeakClassDozerCache.isLoadedByAncestor(String.class, getClass()));
+    assertTrue(WeakClassDozerCache.isLoadedByAncestor(getClass(), getClass()));
+    assertFalse(WeakClassDozerCache.isLoadedByAncestor(getClass(), String.class));
+  }
+
+  private static WeakReference<ClassLoader> putDisposableClass(Cache<Object, Object> cache, boolean source)
+      throws IOException {
+    DisposableClassLoader classLoader = new DisposableClassLoader();
+    Class<?> disposableClass = classLoader.define(Disposable.class);
+    Object key = source ? CacheKeyFactory.createKey(String.class, disposableClass)
+        : CacheKeyFactory.createKey(disposableClass, String.class);
+    // The value references the class of the key as well
+    cache.put(key, Collections.singletonList(disposableClass));
+    assertNotNull(cache.get(key));
+    return new WeakReference<ClassLoader>(classLoader);
+  }
+
+  public static class Disposable {
+  }
+
+}
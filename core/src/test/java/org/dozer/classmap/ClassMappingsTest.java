@@ -22,6 +22,7 @@ import org.junit.Test;
 
 import java.util.Map;
 
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -92,6 +93,75 @@ public class ClassMappingsTest extends AbstractDozerTest{
     classMappings.add(String.class, String.class, classMap);
   }
 
+  @Test
+  public void shouldFindByMapId() {
+    ClassMap classMap = mock(ClassMap.class);
+    ClassMap classMapWithId = mock(ClassMap.class);
+    classMappings.add(String.class, Integer.class, classMap);
+    classMappings.add(String.class, Integer.class, "id", classMapWithId);
+
+    assertSame(classMap, classMappings.find(String.class, Integer.class));
+    assertSame(classMap, classMappings.find(String.class, Integer.class, ""));
+    assertSame(classMapWithId, classMappings.find(String.class, Integer.class, "id"));
+    assertTrue(classMappings.contains(String.class, Integer.class, "id"));
+    assertFalse(classMappings.contains(String.class, Integer.class, "other"));
+  }
+
+  @Test
+  public void shouldFindAddedMappings() {
+    ClassMap classMap = mock(ClassMap.class);
+    ClassMappings additionalMappings = new ClassMappings();
+    additionalMappings.add(String.class, Integer.class, "id", classMap);
+
+    classMappings.addAll(additionalMappings);
+
+    assertSame(classMap, classMappings.find(String.class, Integer.class, "id"));
+    assertNull(classMappings.find(String.class, Integer.class));
+  }
+
+  @Test
+  public void shouldResolveInterfaceMapping() {
+    ClassMap classMap = mock(ClassMap.class);
+    doReturn(CharSequence.class).when(classMap).getSrcClassToMap();
+    doReturn(Integer.class).when(classMap).getDestClassToMap();
+    classMappings.add(CharSequence.class, Integer.class, classMap);
+
+    assertSame(classMap, classMappings.find(String.class, Integer.class, null));
+    assertSame(classMap, classMappings.find(String.class, Integer.class, null));
+    assertNull(classMappings.find(String.class, Long.class, null));
+  }
+
+  @Test
+  public void shouldResolveAgainAfterAdd() {
+    assertNull(classMappings.find(StringBuilder.class, Integer.class, null));
+
+    ClassMap classMap = mock(ClassMap.class);
+    doReturn(CharSequence.class).when(classMap).getSrcClassToMap();
+    doReturn(Integer.class).when(classMap).getDestClassToMap();
+    classMappings.add(CharSequence.class, Integer.class, classMap);
+
+    assertSame(classMap, classMappings.find(StringBuilder.class, Integer.class, null));
+  }
+
+  @Test
+  public void shouldResolveAgainAfterAddDefault() {
+    ClassMap other = mock(ClassMap.class);
+    doReturn(Long.class).when(other).getSrcClassToMap();
+    doReturn(String.class).when(other).getDestClassToMap();
+    classMappings.add(Long.class, String.class, other);
+    assertNull(classMappings.find(Integer.class, CharSequence.class, null));
+    assertSame(other, classMappings.find(Long.class, CharSequence.class, null));
+
+    ClassMap classMap = mock(ClassMap.class);
+    doReturn(Integer.class).when(classMap).getSrcClassToMap();
+    doReturn(String.class).when(classMap).getDestClassToMap();
+    classMappings.addDefault(Integer.class, String.class, classMap);
+
+    assertSame(classMap, classMappings.find(Integer.class, String.class, null));
+    assertSame(classMap, classMappings.find(Integer.class, CharSequence.class, null));
+    assertSame(other, classMappings.find(Long.class, CharSequence.class, null));
+  }
+
   public static class NestedClass {
 
   }
@@ -16,8 +16,10 @@
 package org.dozer.config;
 
 import org.dozer.AbstractDozerTest;
+import org.dozer.cache.DozerCachePolicy;
 import org.dozer.config.GlobalSettings;
 import org.dozer.util.DozerConstants;
+import org.dozer.util.UnmatchedEnumPolicy;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -56,6 +58,12 @@ public class GlobalSettingsTest extends AbstractDozerTest {
     assertEquals(DozerConstants.DEFAULT_PROXY_RESOLVER_BEAN, globalSettings.getProxyResolverName());
     assertEquals(DozerConstants.DEFAULT_CLASS_LOADER_BEAN, globalSettings.getClassLoaderName());
     assertEquals(DozerConstants.DEFAULT_EL_ENABLED, globalSettings.isElEnabled());
+    assertEquals(DozerConstants.DEFAULT_CACHE_POLICY, globalSettings.getConverterByDestTypeCachePolicy());
+    assertEquals(DozerConstants.DEFAULT_CACHE_POLICY, globalSettings.getSuperTypesCachePolicy());
+    assertEquals(DozerConstants.DEFAULT_UNMATCHED_ENUM_POLICY, globalSettings.getUnmatchedEnumPolicy());
+    assertEquals(DozerConstants.DEFAULT_PROFILING_ENABLED, globalSettings.isProfilingEnabled());
+    assertNull(globalSettings.getMetricsExporterName());
+    assertEquals(DozerConstants.DEFAULT_METRICS_EXPORT_INTERVAL, globalSettings.getMetricsExportInterval());
   }
 
   @Test
@@ -70,10 +78,13 @@ public class GlobalSettingsTest extends AbstractDozerTest {
     assertEquals("invalid stats enabled value", true, globalSettings.isStatisticsEnabled());
     assertEquals("invalid converter cache max size value", 25000, globalSettings.getConverterByDestTypeCacheMaxSize());
     assertEquals("invalid super type cache max size value", 10000, globalSettings.getSuperTypesCacheMaxSize());
+    assertEquals(DozerCachePolicy.LRU, globalSettings.getConverterByDestTypeCachePolicy());
+    assertEquals(DozerCachePolicy.CONCURRENT, globalSettings.getSuperTypesCachePolicy());
     assertEquals("invalid autoregister jmx beans", false, globalSettings.isAutoregisterJMXBeans());
     assertEquals("org.dozer.CustomLoader", globalSettings.getClassLoaderName());
     assertEquals("org.dozer.CustomResolver", globalSettings.getProxyResolverName());
     assertEquals(true, globalSettings.isElEnabled());
+    assertEquals(UnmatchedEnumPolicy.NULL, globalSettings.getUnmatchedEnumPolicy());
   }
   
 }
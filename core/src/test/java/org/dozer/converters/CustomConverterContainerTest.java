@@ -16,11 +16,14 @@
 package org.dozer.converters;
 
 import org.dozer.AbstractDozerTest;
+import org.dozer.DisposableClassLoader;
 import org.dozer.cache.CacheKeyFactory;
 import org.dozer.cache.DozerCache;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -82,6 +85,74 @@ public class CustomConverterContainerTest extends AbstractDozerTest {
     assertEquals(Void.class, result);
   }
 
+  @Test
+  public void testGetCustomConverter_Dispatched() {
+    CustomConverterDescription description = new CustomConverterDescription();
+    description.setClassA(String.class);
+    description.setClassB(Integer.class);
+    description.setType(Void.class);
+    converters.add(description);
+
+    assertEquals(Void.class, ccc.getCustomConverter(String.class, Integer.class, cache));
+    assertNull(ccc.getCustomConverter(String.class, Double.class, cache));
+
+    // Served from the dispatch table
+    cache.clear();
+    assertEquals(Void.class, ccc.getCustomConverter(String.class, Integer.class, cache));
+    assertNull(ccc.getCustomConverter(String.class, Double.class, cache));
+    assertEquals(0, cache.getSize());
+  }
+
+  @Test
+  public void testGetCustomConverter_SourceClassUnloaded() throws Exception {
+    WeakReference<ClassLoader> classLoader = getCustomConverterOfDisposableClass(true);
+
+    assertTrue("class loader of the source class not collected", DisposableClassLoader.isCollected(classLoader));
+  }
+
+  @Test
+  public void testGetCustomConverter_DestinationClassUnloaded() throws Exception {
+    WeakReference<ClassLoader> classLoader = getCustomConverterOfDisposableClass(false);
+
+    assertTrue("class loader of the destination class not collected", DisposableClassLoader.isCollected(classLoader));
+  }
+
+  private WeakReference<ClassLoader> getCustomConverterOfDisposableClass(boolean source) throws IOException {
+    CustomConverterDescription description = new CustomConverterDescription();
+    description.setClassA(String.class);
+    description.setClassB(Integer.class);
+    description.setType(Void.class);
+    converters.add(description);
+    DisposableClassLoader classLoader = new DisposableClassLoader();
+    Class<?> disposableClass = classLoader.define(Disposable.class);
+    // The container outlives the class, the cache does not
+    DozerCache disposableCache = new DozerCache("DISPOSABLE", 10);
+    if (source) {
+      assertNull(ccc.getCustomConverter(disposableClass, String.class, disposableCache));
+    } else {
+      assertNull(ccc.getCustomConverter(String.class, disposableClass, disposableCache));
+    }
+    return new WeakReference<ClassLoader>(classLoader);
+  }
+
+  @Test
+  public void testGetCustomConverter_AddedConverter() {
+    CustomConverterDescription existing = new CustomConverterDescription();
+    existing.setClassA(String.class);
+    existing.setClassB(Integer.class);
+    existing.setType(Object.class);
+    converters.add(existing);
+    assertNull(ccc.getCustomConverter(String.class, Double.class, new DozerCache("OTHER", 10)));
+
+    CustomConverterDescription description = new CustomConverterDescription();
+    description.setClassA(String.class);
+    description.setClassB(Double.class);
+    description.setType(Void.class);
+    ccc.addConverter(description);
+
+    assertEquals(Void.class, ccc.getCustomConverter(String.class, Double.class, new DozerCache("OTHER", 10)));
+  }
+
   @Test
   public void testGetCustomConverter_Miss() {
     cache.put(CacheKeyFactory.createKey(String.class, Integer.class), Object.class);
@@ -114,4 +185,7 @@ public class CustomConverterContainerTest extends AbstractDozerTest {
     assertEquals(1, cache.getSize());
   }
 
+  public static class Disposable {
+  }
+
 }
@@ -0,0 +1,65 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.converters;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.dozer.AbstractDozerTest;
+import org.junit.Test;
+
+public class DateFormatContainerTest extends AbstractDozerTest {
+
+  @Test
+  public void shouldReuseContainerOfPatternWithinThread() {
+    DateFormatContainer container = DateFormatContainer.forPattern("dd.MM.yyyy");
+
+    assertSame(container, DateFormatContainer.forPattern("dd.MM.yyyy"));
+    assertSame(container.getDateFormat(), DateFormatContainer.forPattern("dd.MM.yyyy").getDateFormat());
+    assertNotSame(container, DateFormatContainer.forPattern("yyyy-MM-dd"));
+  }
+
+  @Test
+  public void shouldNotShareDateFormatsBetweenThreads() throws Exception {
+    final AtomicReference<DateFormatContainer> other = new AtomicReference<DateFormatContainer>();
+    Thread thread = new Thread() {
+      @Override
+      public void run() {
+        other.set(DateFormatContainer.forPattern("dd.MM.yyyy"));
+      }
+    };
+    thread.start();
+    thread.join();
+
+    assertNotSame(DateFormatContainer.forPattern("dd.MM.yyyy"), other.get());
+  }
+
+  @Test
+  public void shouldShareContainerWithoutPattern() throws Exception {
+    final AtomicReference<DateFormatContainer> other = new AtomicReference<DateFormatContainer>();
+    Thread thread = new Thread() {
+      @Override
+      public void run() {
+        other.set(DateFormatContainer.forPattern(null));
+      }
+    };
+    thread.start();
+    thread.join();
+
+    assertSame(DateFormatContainer.forPattern(null), other.get());
+    assertNull(other.get().getDateFormat());
+  }
+
+}
@@ -567,4 +567,27 @@ public class PrimitiveOrWrapperConverterTest extends AbstractDozerTest {
     assertThat(result, equalTo(Date.class));
   }
 
+  @Test
+  public void shouldReuseConvertersOfDateFormatContainer() throws Exception {
+    DateFormatContainer container = new DateFormatContainer("yyyyMMdd");
+    Date expected = new SimpleDateFormat("yyyyMMdd").parse("20130401");
+
+    assertEquals(expected, converter.convert("20130401", Date.class, container));
+    assertEquals(expected, converter.convert("20130401", Date.class, container));
+    assertEquals("20130401", converter.convert(expected, String.class, container));
+    assertSame(container.getDateConverter(), container.getDateConverter());
+    assertSame(container.getStringConverter(), container.getStringConverter());
+  }
+
+  @Test
+  public void shouldResetConvertersOnDateFormatChange() throws Exception {
+    DateFormatContainer container = new DateFormatContainer("yyyyMMdd");
+    DateConverter dateConverter = container.getDateConverter();
+    container.setDateFormat(new SimpleDateFormat("dd.MM.yyyy"));
+
+    assertNotSame(dateConverter, container.getDateConverter());
+    assertEquals(new SimpleDateFormat("yyyyMMdd").parse("20130401"),
+        converter.convert("01.04.2013", Date.class, container));
+  }
+
 }
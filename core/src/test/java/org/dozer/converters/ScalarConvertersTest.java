@@ -0,0 +1,76 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.converters;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Date;
+
+import org.dozer.AbstractDozerTest;
+import org.junit.Test;
+
+public class ScalarConvertersTest extends AbstractDozerTest {
+
+  private final PrimitiveOrWrapperConverter converter = new PrimitiveOrWrapperConverter();
+
+  @Test
+  public void shouldPassThroughImmutableValues() {
+    String string = new String("abc");
+    BigDecimal decimal = new BigDecimal("1.50");
+
+    assertSame(string, ScalarConverters.find(String.class, String.class).convert(String.class, string));
+    assertSame(decimal, ScalarConverters.find(BigDecimal.class, BigDecimal.class).convert(BigDecimal.class, decimal));
+    assertNotNull(ScalarConverters.find(Integer.class, Integer.TYPE));
+  }
+
+  @Test
+  public void shouldWidenNumbers() {
+    assertEquals(Long.valueOf(5), ScalarConverters.find(Integer.class, Long.TYPE).convert(Long.TYPE, 5));
+    assertEquals(Integer.valueOf(5), ScalarConverters.find(Byte.class, Integer.class).convert(Integer.class, (byte) 5));
+    assertEquals(new BigDecimal("7"), ScalarConverters.find(BigInteger.class, BigDecimal.class)
+        .convert(BigDecimal.class, BigInteger.valueOf(7)));
+    assertEquals("2.5", ScalarConverters.find(Double.class, String.class).convert(String.class, 2.5d));
+  }
+
+  @Test
+  public void shouldLeaveCheckedConversionsToGeneralConverters() {
+    assertNull(ScalarConverters.find(Long.class, Integer.class));
+    assertNull(ScalarConverters.find(Double.class, Float.class));
+    assertNull(ScalarConverters.find(String.class, Integer.class));
+    assertNull(ScalarConverters.find(Boolean.class, Integer.class));
+    assertNull(ScalarConverters.find(Date.class, String.class));
+  }
+
+  @Test
+  public void shouldMatchGeneralConverters() {
+    Object[] values = {(byte) 1, (short) 2, 3, 4L, 5.5f, 6.5d, BigInteger.TEN, new BigDecimal("1.25"), true, 'c', "s"};
+    Class<?>[] types = {Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+        BigInteger.class, BigDecimal.class, Boolean.class, Character.class, String.class};
+    for (Object value : values) {
+      for (Class<?> type : types) {
+        org.apache.commons.beanutils.Converter scalarConverter = ScalarConverters.find(value.getClass(), type);
+        if (scalarConverter != null) {
+          Object expected = type == String.class ? new StringConverter(null).convert(type, value)
+              : type == Integer.class ? new IntegerConverter().convert(type, value)
+              : new org.apache.commons.beanutils.ConvertUtilsBean().lookup(type).convert(type, value);
+          assertEquals(value + " to " + type, expected, scalarConverter.convert(type, value));
+          assertEquals(value + " to " + type, expected, converter.convert(value, type, null));
+        }
+      }
+    }
+  }
+
+}
@@ -15,6 +15,7 @@
  */
 package org.dozer.converters;
 
+import java.io.File;
 import java.util.ArrayList;
 
 import org.dozer.AbstractDozerTest;
@@ -38,4 +39,10 @@ public class StringConstructorConverterTest extends AbstractDozerTest {
     Object result = converter.convert(ArrayList.class, "A");
     assertEquals("A", result);
   }
+
+  @Test
+  public void testConstructor() {
+    assertEquals(new StringBuilder("A").toString(), converter.convert(StringBuilder.class, "A").toString());
+    assertEquals(new File("A"), converter.convert(File.class, "A"));
+  }
 }
@@ -0,0 +1,210 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.dozer.AbstractDozerTest;
+import org.dozer.DozerEventListener;
+import org.dozer.SelectiveDozerEventListener;
+import org.dozer.classmap.ClassMap;
+import org.dozer.fieldmap.FieldMap;
+import org.junit.Test;
+
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class AsyncDozerEventListenerTest extends AbstractDozerTest {
+
+  @Test
+  public void shouldDeliverEventsInOrderOnBackgroundThread() throws Exception {
+    RecordingListener recorder = new RecordingListener(null);
+    AsyncDozerEventListener listener = new AsyncDozerEventListener(recorder);
+
+    List<DozerEvent> events = new ArrayList<DozerEvent>();
+    for (DozerEventType type : DozerEventType.values()) {
+      DozerEvent event = event(type);
+      events.add(event);
+      listener.postWritingDestinationValue(event);
+    }
+    listener.close();
+
+    assertEquals(events, recorder.events);
+    assertNotSame(Thread.currentThread(), recorder.thread);
+    assertEquals(0, listener.getDroppedEvents());
+  }
+
+  @Test
+  public void shouldDropEventsWhenFull() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    RecordingListener recorder = new RecordingListener(release);
+    AsyncDozerEventListener listener = new AsyncDozerEventListener(recorder, 1,
+        AsyncDozerEventListener.OverflowPolicy.DROP);
+
+    listener.mappingStarted(event(DozerEventType.MAPPING_STARTED));
+    assertTrue(recorder.started.await(5, TimeUnit.SECONDS));
+    // Listener is blocked on the first event, the second one fills the buffer
+    listener.mappingFinished(event(DozerEventType.MAPPING_FINISHED));
+    listener.mappingFinished(event(DozerEventType.MAPPING_FINISHED));
+    release.countDown();
+    listener.close();
+
+    assertEquals(1, listener.getDroppedEvents());
+    assertEquals(2, recorder.events.size());
+  }
+
+  @Test
+  public void shouldBlockWhenFull() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    RecordingListener recorder = new RecordingListener(release);
+    final AsyncDozerEventListener listener = new AsyncDozerEventListener(recorder, 1,
+        AsyncDozerEventListener.OverflowPolicy.BLOCK);
+
+    listener.mappingStarted(event(DozerEventType.MAPPING_STARTED));
+    assertTrue(recorder.started.await(5, TimeUnit.SECONDS));
+    listener.mappingFinished(event(DozerEventType.MAPPING_FINISHED));
+    Thread blocked = new Thread() {
+      @Override
+      public void run() {
+        listener.mappingFinished(event(DozerEventType.MAPPING_FINISHED));
+      }
+    };
+    blocked.start();
+    blocked.join(200);
+    assertTrue(blocked.isAlive());
+
+    release.countDown();
+    blocked.join(5000);
+    assertFalse(blocked.isAlive());
+    listener.close();
+
+    assertEquals(0, listener.getDroppedEvents());
+    assertEquals(3, recorder.events.size());
+  }
+
+  @Test
+  public void shouldDeliverEventsFiredWhileClosing() throws Exception {
+    final int threads = 4;
+    final int eventsPerThread = 10000;
+    RecordingListener recorder = new RecordingListener(null);
+    final AsyncDozerEventListener listener = new AsyncDozerEventListener(recorder, 16,
+        AsyncDozerEventListener.OverflowPolicy.BLOCK);
+    final CountDownLatch firing = new CountDownLatch(threads);
+    List<Thread> mappings = new ArrayList<Thread>();
+    for (int i = 0; i < threads; i++) {
+      Thread mapping = new Thread() {
+        @Override
+        public void run() {
+          firing.countDown();
+          for (int j = 0; j < eventsPerThread; j++) {
+            listener.mappingFinished(event(DozerEventType.MAPPING_FINISHED));
+          }
+        }
+      };
+      mappings.add(mapping);
+      mapping.start();
+    }
+
+    firing.await();
+    listener.close();
+    for (Thread mapping : mappings) {
+      mapping.join();
+    }
+
+    assertEquals(threads * eventsPerThread, recorder.events.size());
+  }
+
+  @Test
+  public void shouldDeliverSynchronouslyWhenClosed() throws Exception {
+    RecordingListener recorder = new RecordingListener(null);
+    AsyncDozerEventListener listener = new AsyncDozerEventListener(recorder, 10,
+        AsyncDozerEventListener.OverflowPolicy.BLOCK, 2);
+    listener.close();
+
+    listener.mappingStarted(event(DozerEventType.MAPPING_STARTED));
+
+    assertEquals(1, recorder.events.size());
+    assertSame(Thread.currentThread(), recorder.thread);
+  }
+
+  @Test
+  public void shouldAskInterestOfWrappedListener() throws Exception {
+    SelectiveDozerEventListener selective = mock(SelectiveDozerEventListener.class);
+    when(selective.isInterested(eq(DozerEventType.MAPPING_FINISHED), any(ClassMap.class), any(FieldMap.class)))
+        .thenReturn(true);
+    AsyncDozerEventListener listener = new AsyncDozerEventListener(selective);
+    AsyncDozerEventListener plain = new AsyncDozerEventListener(mock(DozerEventListener.class));
+
+    assertTrue(listener.isInterested(DozerEventType.MAPPING_FINISHED, null, null));
+    assertFalse(listener.isInterested(DozerEventType.MAPPING_STARTED, null, null));
+    assertTrue(plain.isInterested(DozerEventType.MAPPING_STARTED, null, null));
+    listener.close();
+    plain.close();
+  }
+
+  private static DozerEvent event(DozerEventType type) {
+    return new DozerEvent(type, null, null, new Object(), new Object(), null);
+  }
+
+  private static class RecordingListener implements DozerEventListener {
+
+    private final List<DozerEvent> events = Collections.synchronizedList(new ArrayList<DozerEvent>());
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release;
+    private volatile Thread thread;
+
+    RecordingListener(CountDownLatch release) {
+      this.release = release;
+    }
+
+    public void mappingStarted(DozerEvent event) {
+      record(event);
+    }
+
+    public void preWritingDestinationValue(DozerEvent event) {
+      record(event);
+    }
+
+    public void postWritingDestinationValue(DozerEvent event) {
+      record(event);
+    }
+
+    public void mappingFinished(DozerEvent event) {
+      record(event);
+    }
+
+    private void record(DozerEvent event) {
+      thread = Thread.currentThread();
+      events.add(event);
+      started.countDown();
+      if (release != null) {
+        try {
+          release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    }
+
+  }
+
+}
@@ -16,6 +16,9 @@
 package org.dozer.event;
 
 import org.dozer.DozerEventListener;
+import org.dozer.SelectiveDozerEventListener;
+import org.dozer.classmap.ClassMap;
+import org.dozer.fieldmap.FieldMap;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -51,5 +54,37 @@ public class DozerEventManagerTest extends Assert {
     verify(listener).mappingStarted(dozerEvent);
   }
 
+  @Test
+  public void testIsInterested_NoListeners() {
+    assertFalse(manager.isInterested(DozerEventType.MAPPING_STARTED, null, null));
+    assertFalse(new DozerEventManager(null).isInterested(DozerEventType.MAPPING_STARTED, null, null));
+  }
+
+  @Test
+  public void testIsInterested_PlainListener() {
+    listeners.add(mock(DozerEventListener.class));
+
+    assertTrue(manager.isInterested(DozerEventType.MAPPING_PRE_WRITING_DEST_VALUE, null, null));
+  }
+
+  @Test
+  public void testFireEvent_SelectiveListener() {
+    SelectiveDozerEventListener listener = mock(SelectiveDozerEventListener.class);
+    when(listener.isInterested(eq(DozerEventType.MAPPING_FINISHED), any(ClassMap.class), any(FieldMap.class)))
+        .thenReturn(true);
+    listeners.add(listener);
+
+    assertFalse(manager.isInterested(DozerEventType.MAPPING_STARTED, null, null));
+    assertTrue(manager.isInterested(DozerEventType.MAPPING_FINISHED, null, null));
+
+    DozerEvent started = new DozerEvent(DozerEventType.MAPPING_STARTED, null, null, null, null, null);
+    DozerEvent finished = new DozerEvent(DozerEventType.MAPPING_FINISHED, null, null, null, null, null);
+    manager.fireEvent(started);
+    manager.fireEvent(finished);
+
+    verify(listener, never()).mappingStarted(started);
+    verify(listener).mappingFinished(finished);
+  }
+
 
 }
@@ -30,6 +30,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author dmitry.buzdin
@@ -80,6 +81,19 @@ public class CustomConverterMapperAwareTest extends AbstractFunctionalTest {
     assertEquals("bar", result.get("foo"));
   }
 
+  @Test
+  public void test_convert_withConverterBoundOnce() {
+    DozerBeanMapper mapper = new DozerBeanMapper(Arrays.asList("customConverterMapperAware.xml"));
+    Converter.mapperInjections.set(0);
+
+    for (int i = 0; i < 3; i++) {
+      Map map = mapper.map(new ArrayList<BeanA>(Arrays.asList(new BeanA("1"))), HashMap.class);
+      assertEquals(1, map.size());
+    }
+
+    assertEquals(1, Converter.mapperInjections.get());
+  }
+
   @Test
   public void test_stackOverflow() {
     BeanA a = new BeanA();
@@ -100,6 +114,8 @@ public class CustomConverterMapperAwareTest extends AbstractFunctionalTest {
 
   public static class Converter extends DozerConverter <List, Map> implements MapperAware {
 
+    static final AtomicInteger mapperInjections = new AtomicInteger();
+
     private Mapper mapper;
 
     public Converter() {
@@ -120,6 +136,7 @@ public class CustomConverterMapperAwareTest extends AbstractFunctionalTest {
     }
 
     public void setMapper(Mapper mapper) {
+      mapperInjections.incrementAndGet();
       this.mapper = mapper;
     }
 
@@ -15,6 +15,9 @@
  */
 package org.dozer.functional_tests;
 
+import org.dozer.DozerBeanMapper;
+import org.dozer.functional_tests.support.CustomConverterParamConverter;
+import org.dozer.loader.api.BeanMappingBuilder;
 import org.dozer.vo.AnotherTestObject;
 import org.dozer.vo.Fruit;
 import org.dozer.vo.Individual;
@@ -25,6 +28,9 @@ import org.junit.Test;
 
 import java.util.StringTokenizer;
 
+import static org.dozer.loader.api.FieldsMappingOptions.customConverter;
+import static org.dozer.loader.api.TypeMappingOptions.wildcard;
+
 /**
  * @author johnsen.knut-erik
  */
@@ -54,6 +60,30 @@ public class CustomConverterParamMappingTest extends AbstractFunctionalTest {
 
   }
 
+  @Test
+  public void testCustomConverterParamPerField() {
+    SimpleObj src = newInstance(SimpleObj.class);
+    src.setField1("X");
+    src.setField6("Y");
+
+    DozerBeanMapper beanMapper = new DozerBeanMapper();
+    beanMapper.addMapping(new BeanMappingBuilder() {
+      @Override
+      protected void configure() {
+        mapping(SimpleObj.class, AnotherTestObject.class, wildcard(false))
+            .fields("field1", "field3", customConverter(CustomConverterParamConverter.class, "A"))
+            .fields("field6", "field4", customConverter(CustomConverterParamConverter.class, "B"));
+      }
+    });
+
+    for (int i = 0; i < 2; i++) {
+      AnotherTestObject dest = beanMapper.map(src, AnotherTestObject.class);
+
+      assertEquals("X-A", dest.getField3());
+      assertEquals("Y-B", dest.getField4());
+    }
+  }
+
   @Test
   public void testGlobalCustomConverter() {
     Individual individual = newInstance(Individual.class);
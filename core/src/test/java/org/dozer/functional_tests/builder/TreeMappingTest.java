@@ -0,0 +1,101 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.functional_tests.builder;
+
+import org.dozer.DozerBeanMapper;
+import org.dozer.functional_tests.AbstractFunctionalTest;
+import org.dozer.loader.api.BeanMappingBuilder;
+import org.dozer.loader.api.TypeMappingOptions;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class TreeMappingTest extends AbstractFunctionalTest {
+
+  private DozerBeanMapper beanMapper;
+  private Parent source;
+
+  @Before
+  public void setUp() {
+    beanMapper = new DozerBeanMapper();
+    Child child = new Child();
+    child.setName("child");
+    source = new Parent();
+    source.setFirst(child);
+    source.setSecond(child);
+  }
+
+  @Test
+  public void shouldPreserveSharedReference() {
+    Parent destination = beanMapper.map(source, Parent.class);
+
+    assertThat(destination.getFirst(), sameInstance(destination.getSecond()));
+  }
+
+  @Test
+  public void shouldMapSharedReferenceTwiceInTree() {
+    beanMapper.addMapping(new BeanMappingBuilder() {
+      @Override
+      protected void configure() {
+        mapping(Parent.class, Parent.class, TypeMappingOptions.tree());
+      }
+    });
+
+    Parent destination = beanMapper.map(source, Parent.class);
+
+    assertThat(destination.getFirst(), not(sameInstance(destination.getSecond())));
+    assertThat(destination.getFirst().getName(), equalTo("child"));
+    assertThat(destination.getSecond().getName(), equalTo("child"));
+  }
+
+  public static class Parent {
+    private Child first;
+    private Child second;
+
+    public Child getFirst() {
+      return first;
+    }
+
+    public void setFirst(Child first) {
+      this.first = first;
+    }
+
+    public Child getSecond() {
+      return second;
+    }
+
+    public void setSecond(Child second) {
+      this.second = second;
+    }
+  }
+
+  public static class Child {
+    private String name;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+  }
+
+}
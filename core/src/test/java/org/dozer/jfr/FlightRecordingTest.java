@@ -0,0 +1,115 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.jfr;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.dozer.AbstractDozerTest;
+import org.dozer.DozerBeanMapper;
+import org.junit.Test;
+
+public class FlightRecordingTest extends AbstractDozerTest {
+
+  @Test
+  public void shouldNotBeginDisabledEvents() {
+    assertNull(FlightRecording.beginMapping());
+    assertNull(FlightRecording.beginCustomConverter());
+    assertNull(FlightRecording.beginClassMapCreation());
+    // Ending an event which was not begun is a no-op
+    FlightRecording.endMapping(null, Outer.class, Outer.class, null, true);
+  }
+
+  @Test
+  public void shouldRecordMappingEvents() throws Exception {
+    Outer src = new Outer();
+    src.setInner(new Inner());
+    src.getInner().setValue("value");
+
+    List<RecordedEvent> events = new ArrayList<RecordedEvent>();
+    File file = File.createTempFile("dozer", ".jfr");
+    try {
+      Recording recording = new Recording();
+      try {
+        recording.enable("org.dozer.Mapping").withoutThreshold();
+        recording.enable("org.dozer.ClassMapCreation").withoutThreshold();
+        recording.enable("org.dozer.CacheMiss");
+        recording.start();
+        Outer dest = new DozerBeanMapper().map(src, Outer.class);
+        assertEquals("value", dest.getInner().getValue());
+        recording.stop();
+        recording.dump(file.toPath());
+      } finally {
+        recording.close();
+      }
+      events.addAll(RecordingFile.readAllEvents(file.toPath()));
+    } finally {
+      file.delete();
+    }
+
+    RecordedEvent topLevel = find(events, "org.dozer.Mapping", true);
+    assertEquals(Outer.class.getName(), topLevel.getClass("sourceClass").getName());
+    assertEquals(Outer.class.getName(), topLevel.getClass("destinationClass").getName());
+    RecordedEvent nested = find(events, "org.dozer.Mapping", false);
+    assertEquals(Inner.class.getName(), nested.getClass("destinationClass").getName());
+    assertNotNull(find(events, "org.dozer.ClassMapCreation", false));
+    assertNotNull(find(events, "org.dozer.CacheMiss", false));
+  }
+
+  private static RecordedEvent find(List<RecordedEvent> events, String name, boolean topLevel) {
+    for (RecordedEvent event : events) {
+      if (event.getEventType().getName().equals(name)
+          && (!event.hasField("topLevel") || event.getBoolean("topLevel") == topLevel)) {
+        return event;
+      }
+    }
+    fail("No " + name + " event recorded");
+    return null;
+  }
+
+  public static class Outer {
+
+    private Inner inner;
+
+    public Inner getInner() {
+      return inner;
+    }
+
+    public void setInner(Inner inner) {
+      this.inner = inner;
+    }
+
+  }
+
+  public static class Inner {
+
+    private String value;
+
+    public String getValue() {
+      return value;
+    }
+
+    public void setValue(String value) {
+      this.value = value;
+    }
+
+  }
+
+}
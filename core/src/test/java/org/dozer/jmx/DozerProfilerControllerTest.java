@@ -0,0 +1,77 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.jmx;
+
+import java.util.List;
+
+import org.dozer.AbstractDozerTest;
+import org.dozer.DozerBeanMapper;
+import org.dozer.vo.TestObject;
+import org.dozer.vo.TestObjectPrime;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DozerProfilerControllerTest extends AbstractDozerTest {
+
+  private DozerProfilerController controller;
+
+  @Override
+  @Before
+  public void setUp() throws Exception {
+    controller = new DozerProfilerController();
+    controller.clearAll();
+    controller.setProfilingEnabled(true);
+  }
+
+  @After
+  public void tearDown() {
+    controller.setProfilingEnabled(false);
+    controller.clearAll();
+  }
+
+  @Test
+  public void testProfileMapping() {
+    TestObject source = new TestObject();
+    source.setOne("one");
+    new DozerBeanMapper().map(source, TestObjectPrime.class);
+
+    List<String> classMappings = controller.getMostExpensiveClassMappings();
+    assertFalse(classMappings.isEmpty());
+    assertTrue(classMappings.get(0), classMappings.get(0).startsWith(
+        TestObject.class.getName() + "-->" + TestObjectPrime.class.getName() + ": Count 1"));
+    assertFalse(controller.getMostExpensiveFieldMappings().isEmpty());
+    assertTrue(controller.dumpProfile().startsWith("Most expensive class mappings:\n  " + classMappings.get(0)));
+  }
+
+  @Test
+  public void testTopCount() {
+    controller.setTopCount(0);
+    assertEquals(1, controller.getTopCount());
+    new DozerBeanMapper().map(new TestObject(), TestObjectPrime.class);
+
+    assertTrue(controller.getMostExpensiveFieldMappings().size() <= 1);
+  }
+
+  @Test
+  public void testDisabled() {
+    controller.setProfilingEnabled(false);
+    new DozerBeanMapper().map(new TestObject(), TestObjectPrime.class);
+
+    assertTrue(controller.getMostExpensiveClassMappings().isEmpty());
+  }
+
+}
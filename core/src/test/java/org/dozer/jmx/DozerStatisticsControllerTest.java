@@ -18,7 +18,9 @@ package org.dozer.jmx;
 import java.util.Set;
 
 import org.dozer.AbstractDozerTest;
+import org.dozer.stats.GlobalStatistics;
 import org.dozer.stats.StatisticType;
+import org.dozer.stats.StatisticsManager;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -55,6 +57,29 @@ public class DozerStatisticsControllerTest extends AbstractDozerTest {
     assertEquals(0, controller.getFieldMappingFailureIgnoredCount());
   }
 
+  @Test
+  public void testGetMappingTimePercentiles() throws Exception {
+    boolean statisticsEnabled = controller.isStatisticsEnabled();
+    StatisticsManager statsMgr = GlobalStatistics.getInstance().getStatsMgr();
+    statsMgr.setStatisticsEnabled(true);
+    try {
+      controller.clearAll();
+      assertTrue(controller.getMappingTimePercentiles().isEmpty());
+      statsMgr.recordMappingTime(String.class, Integer.class, 1500);
+      statsMgr.recordMappingTime(String.class, Integer.class, 2000000);
+
+      Set<String> percentiles = controller.getMappingTimePercentiles();
+      assertEquals(1, percentiles.size());
+      String entry = percentiles.iterator().next();
+      assertTrue(entry, entry.startsWith("java.lang.String-->java.lang.Integer: Count 2"));
+      assertTrue(entry, entry.endsWith("Max 2000.0us"));
+      assertEquals(2, controller.getMappingOverallTimeInMillis());
+    } finally {
+      controller.clearAll();
+      statsMgr.setStatisticsEnabled(statisticsEnabled);
+    }
+  }
+
   @Test
   public void testGetStatisticEntries() throws Exception {
     controller.clearAll();
@@ -0,0 +1,196 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.plan;
+
+import java.util.Date;
+
+import org.dozer.AbstractDozerTest;
+import org.dozer.cache.DozerCacheManager;
+import org.dozer.cache.DozerCacheType;
+import org.dozer.classmap.ClassMap;
+import org.dozer.classmap.ClassMapBuilder;
+import org.dozer.classmap.ClassMappings;
+import org.dozer.classmap.Configuration;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MapperGeneratorTest extends AbstractDozerTest {
+
+  private MappingPlanCache mappingPlans;
+  private Configuration configuration;
+
+  @Override
+  @Before
+  public void setUp() throws Exception {
+    super.setUp();
+    configuration = new Configuration();
+    DozerCacheManager cacheManager = new DozerCacheManager();
+    cacheManager.addCache(DozerCacheType.CONVERTER_BY_DEST_TYPE.name(), 100);
+    cacheManager.addCache(DozerCacheType.SUPER_TYPE_CHECK.name(), 100);
+    mappingPlans = new MappingPlanCache(new ClassMappings(), cacheManager, true, false);
+  }
+
+  @Test
+  public void shouldCopyScalarProperties() {
+    GeneratedMapper mapper = getPlan(Source.class, Dest.class).getGeneratedMapper();
+    assertNotNull(mapper);
+
+    Source source = new Source();
+    source.setName("dozer");
+    source.setCount(42L);
+    source.setActive(true);
+    Dest dest = new Dest();
+    dest.setAmount(1);
+
+    mapper.map(source, dest);
+
+    assertEquals("dozer", dest.getName());
+    assertEquals(42L, dest.getCount());
+    assertNull(dest.getAmount());
+    assertTrue(dest.isActive());
+  }
+
+  @Test
+  public void shouldNotWriteSameReference() {
+    GeneratedMapper mapper = getPlan(Source.class, Dest.class).getGeneratedMapper();
+    Source source = new Source();
+    source.setName("dozer");
+    Dest dest = new Dest();
+    dest.setName(source.getName());
+    dest.nameWrites = 0;
+
+    mapper.map(source, dest);
+
+    assertEquals(0, dest.nameWrites);
+  }
+
+  @Test
+  public void shouldReportFailedStep() {
+    MappingPlan plan = getPlan(FailingSource.class, Dest.class);
+    FailingSource source = new FailingSource();
+    source.setName("dozer");
+    Dest dest = new Dest();
+
+    try {
+      plan.getGeneratedMapper().map(source, dest);
+      fail();
+    } catch (GeneratedMapperException e) {
+      assertTrue(e.getCause() instanceof IllegalStateException);
+      assertEquals("count", plan.getStep(e.getStep()).getFieldMap().getSrcFieldName());
+      assertEquals(1, source.countReads);
+    }
+  }
+
+  @Test
+  public void shouldNotGenerateForMutableTypes() {
+    assertNull(getPlan(DateSource.class, DateDest.class).getGeneratedMapper());
+  }
+
+  @Test
+  public void shouldNotGenerateWithoutGeneration() {
+    DozerCacheManager cacheManager = new DozerCacheManager();
+    cacheManager.addCache(DozerCacheType.CONVERTER_BY_DEST_TYPE.name(), 100);
+    cacheManager.addCache(DozerCacheType.SUPER_TYPE_CHECK.name(), 100);
+    MappingPlanCache plans = new MappingPlanCache(new ClassMappings(), cacheManager);
+    ClassMap classMap = ClassMapBuilder.createDefaultClassMap(configuration, Source.class, Dest.class);
+
+    assertNull(plans.getPlan(classMap, Source.class, Dest.class).getGeneratedMapper());
+  }
+
+  private MappingPlan getPlan(Class<?> srcClass, Class<?> destClass) {
+    ClassMap classMap = ClassMapBuilder.createDefaultClassMap(configuration, srcClass, destClass);
+    return mappingPlans.getPlan(classMap, srcClass, destClass);
+  }
+
+  public static class Source {
+
+    private String name;
+    private long count;
+    private Integer amount;
+    private boolean active;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public long getCount() {
+      return count;
+    }
+
+    public void setCount(long count) {
+      this.count = count;
+    }
+
+    public Integer getAmount() {
+      return amount;
+    }
+
+    public void setAmount(Integer amount) {
+      this.amount = amount;
+    }
+
+    public boolean isActive() {
+      return active;
+    }
+
+    public void setActive(boolean active) {
+      this.active = active;
+    }
+  }
+
+  public static class Dest extends Source {
+
+    private int nameWrites;
+
+    @Override
+    public void setName(String name) {
+      nameWrites++;
+      super.setName(name);
+    }
+  }
+
+  public static class FailingSource extends Source {
+
+    private int countReads;
+
+    @Override
+    public long getCount() {
+      countReads++;
+      throw new IllegalStateException("count");
+    }
+  }
+
+  public static class DateSource {
+
+    private Date date;
+
+    public Date getDate() {
+      return date;
+    }
+
+    public void setDate(Date date) {
+      this.date = date;
+    }
+  }
+
+  public static class DateDest extends DateSource {
+  }
+
+}
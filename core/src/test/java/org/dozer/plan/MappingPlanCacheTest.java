@@ -0,0 +1,127 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.plan;
+
+import org.dozer.AbstractDozerTest;
+import org.dozer.cache.DozerCacheManager;
+import org.dozer.cache.DozerCacheType;
+import org.dozer.classmap.ClassMap;
+import org.dozer.classmap.ClassMappings;
+import org.dozer.classmap.Configuration;
+import org.dozer.fieldmap.DozerField;
+import org.dozer.fieldmap.ExcludeFieldMap;
+import org.dozer.fieldmap.FieldMap;
+import org.dozer.fieldmap.GenericFieldMap;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MappingPlanCacheTest extends AbstractDozerTest {
+
+  private ClassMappings classMappings;
+  private MappingPlanCache mappingPlans;
+  private Configuration configuration;
+
+  @Override
+  @Before
+  public void setUp() throws Exception {
+    super.setUp();
+    configuration = new Configuration();
+    classMappings = new ClassMappings();
+    DozerCacheManager cacheManager = new DozerCacheManager();
+    cacheManager.addCache(DozerCacheType.CONVERTER_BY_DEST_TYPE.name(), 100);
+    cacheManager.addCache(DozerCacheType.SUPER_TYPE_CHECK.name(), 100);
+    mappingPlans = new MappingPlanCache(classMappings, cacheManager);
+  }
+
+  @Test
+  public void shouldReusePlan() {
+    ClassMap classMap = new ClassMap(configuration);
+    addField(classMap, new GenericFieldMap(classMap), "a", null);
+
+    MappingPlan plan = mappingPlans.getPlan(classMap, Source.class, Dest.class);
+
+    assertSame(plan, mappingPlans.getPlan(classMap, Source.class, Dest.class));
+    assertSame(classMap, plan.getClassMap());
+    assertNull(plan.getConverterClass());
+    assertEquals(1, plan.getStepCount());
+  }
+
+  @Test
+  public void shouldBuildPlanPerRuntimeClasses() {
+    ClassMap classMap = new ClassMap(configuration);
+
+    MappingPlan plan = mappingPlans.getPlan(classMap, Source.class, Dest.class);
+    MappingPlan basePlan = mappingPlans.getPlan(classMap, Source.class, BaseDest.class);
+
+    assertNotSame(plan, basePlan);
+    assertTrue(basePlan.matches(Source.class, BaseDest.class));
+    assertSame(plan, mappingPlans.getPlan(classMap, Source.class, Dest.class));
+  }
+
+  @Test
+  public void shouldSkipExcludedFields() {
+    ClassMap classMap = new ClassMap(configuration);
+    addField(classMap, new ExcludeFieldMap(classMap), "a", null);
+    FieldMap iterate = addField(classMap, new GenericFieldMap(classMap), "b", "iterate");
+
+    MappingPlan plan = mappingPlans.getPlan(classMap, Source.class, Dest.class);
+
+    assertEquals(1, plan.getStepCount());
+    assertSame(iterate, plan.getStep(0).getFieldMap());
+    assertTrue(plan.getStep(0).isIterate());
+    assertFalse(plan.getStep(0).isConverter());
+  }
+
+  @Test
+  public void shouldPlaceSuperTypeFieldsFirst() {
+    ClassMap superClassMap = new ClassMap(configuration);
+    FieldMap superField = addField(superClassMap, new GenericFieldMap(superClassMap), "a", null);
+    addField(superClassMap, new ExcludeFieldMap(superClassMap), "b", null);
+    classMappings.add(BaseSource.class, BaseDest.class, superClassMap);
+
+    ClassMap classMap = new ClassMap(configuration);
+    addField(classMap, new GenericFieldMap(classMap), "a", null);
+    addField(classMap, new GenericFieldMap(classMap), "b", null);
+    FieldMap ownField = addField(classMap, new GenericFieldMap(classMap), "c", null);
+
+    MappingPlan plan = mappingPlans.getPlan(classMap, Source.class, Dest.class);
+
+    // fields "a" and "b" are covered by super type mapping, "b" being excluded there
+    assertEquals(2, plan.getStepCount());
+    assertSame(superField, plan.getStep(0).getFieldMap());
+    assertSame(ownField, plan.getStep(1).getFieldMap());
+  }
+
+  private FieldMap addField(ClassMap classMap, FieldMap fieldMap, String name, String destType) {
+    fieldMap.setSrcField(new DozerField(name, null));
+    fieldMap.setDestField(new DozerField(name, destType));
+    classMap.addFieldMapping(fieldMap);
+    return fieldMap;
+  }
+
+  public static class BaseSource {
+  }
+
+  public static class Source extends BaseSource {
+  }
+
+  public static class BaseDest {
+  }
+
+  public static class Dest extends BaseDest {
+  }
+
+}
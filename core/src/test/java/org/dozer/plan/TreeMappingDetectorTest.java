@@ -0,0 +1,133 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.plan;
+
+import java.util.List;
+
+import org.dozer.AbstractDozerTest;
+import org.dozer.classmap.ClassMap;
+import org.dozer.classmap.ClassMappings;
+import org.dozer.classmap.Configuration;
+import org.dozer.classmap.DozerClass;
+import org.dozer.converters.CustomConverterDescription;
+import org.dozer.fieldmap.DozerField;
+import org.dozer.fieldmap.FieldMap;
+import org.dozer.fieldmap.GenericFieldMap;
+import org.dozer.fieldmap.HintContainer;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TreeMappingDetectorTest extends AbstractDozerTest {
+
+  private ClassMappings classMappings;
+  private ClassMap classMap;
+
+  @Override
+  @Before
+  public void setUp() throws Exception {
+    super.setUp();
+    classMappings = new ClassMappings();
+    classMap = new ClassMap(new Configuration());
+  }
+
+  @Test
+  public void shouldDetectTree() {
+    TreeMappingDetector detector = new TreeMappingDetector(classMappings);
+
+    assertTrue(detector.isTree(classMap, Order.class));
+    assertTrue(detector.isTree(classMap, Line.class));
+  }
+
+  @Test
+  public void shouldNotDetectCycle() {
+    TreeMappingDetector detector = new TreeMappingDetector(classMappings);
+
+    assertFalse(detector.isTree(classMap, Node.class));
+  }
+
+  @Test
+  public void shouldNotDetectUnknownTypes() {
+    TreeMappingDetector detector = new TreeMappingDetector(classMappings);
+
+    assertFalse(detector.isTree(classMap, Holder.class));
+  }
+
+  @Test
+  public void shouldNotDetectConvertedBeans() {
+    CustomConverterDescription converter = new CustomConverterDescription();
+    converter.setClassA(String.class);
+    converter.setClassB(Product.class);
+    classMap.getCustomConverters().addConverter(converter);
+    TreeMappingDetector detector = new TreeMappingDetector(classMappings);
+
+    assertFalse(detector.isTree(classMap, Order.class));
+  }
+
+  @Test
+  public void shouldNotDetectWithHints() {
+    classMap.setSrcClass(new DozerClass());
+    classMap.setDestClass(new DozerClass());
+    FieldMap fieldMap = new GenericFieldMap(classMap);
+    fieldMap.setSrcField(new DozerField("lines", null));
+    fieldMap.setDestField(new DozerField("lines", null));
+    HintContainer hintContainer = new HintContainer();
+    hintContainer.setHintName(Line.class.getName());
+    fieldMap.setDestHintContainer(hintContainer);
+    classMap.addFieldMapping(fieldMap);
+    classMappings.add(Order.class, Order.class, classMap);
+
+    TreeMappingDetector detector = new TreeMappingDetector(classMappings);
+
+    assertFalse(detector.isTree(classMap, Order.class));
+  }
+
+  public static class Order {
+    private String id;
+    private Line[] lines;
+    private List<Line> moreLines;
+
+    public List<Line> getMoreLines() {
+      return moreLines;
+    }
+
+    public void setMoreLines(List<Line> moreLines) {
+      this.moreLines = moreLines;
+    }
+  }
+
+  public static class Line {
+    private int quantity;
+    private Product product;
+  }
+
+  public static class Product {
+    private String name;
+    private Size size;
+  }
+
+  public enum Size {
+    SMALL, LARGE
+  }
+
+  public static class Node {
+    private List<Node> children;
+  }
+
+  public static class Holder {
+    private Object value;
+  }
+
+}
@@ -0,0 +1,217 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.propertydescriptor.accessor;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.dozer.AbstractDozerTest;
+import org.dozer.MappingException;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Contract of all accessor backends. A backend may decline a member by returning null, any accessor it returns must
+ * behave as reflection does.
+ */
+@RunWith(Parameterized.class)
+public class PropertyAccessorBackendTest extends AbstractDozerTest {
+
+  private final PropertyAccessorBackend backend;
+  private final boolean nonPublicMembers;
+  private final boolean finalFields;
+  private Bean bean;
+
+  public PropertyAccessorBackendTest(String name, PropertyAccessorBackend backend, boolean nonPublicMembers,
+                                     boolean finalFields) {
+    this.backend = backend;
+    this.nonPublicMembers = nonPublicMembers;
+    this.finalFields = finalFields;
+  }
+
+  @Parameters(name = "{0}")
+  public static Collection<Object[]> backends() {
+    return Arrays.asList(new Object[][] {
+        {"reflection", new ReflectionAccessorBackend(), true, true},
+        {"javassist", new JavassistAccessorBackend(), false, false},
+        {"methodhandle", new MethodHandleAccessorBackend(), true, false}
+    });
+  }
+
+  @Override
+  @Before
+  public void setUp() throws Exception {
+    super.setUp();
+    bean = new Bean();
+  }
+
+  @Test
+  public void shouldReadAndWriteObjectProperty() throws Exception {
+    PropertyReader getter = backend.createReadAccessor(Bean.class.getMethod("getName"));
+    PropertyWriter setter = backend.createWriteAccessor(Bean.class.getMethod("setName", String.class));
+
+    setter.setValue(bean, "dozer");
+
+    assertEquals("dozer", bean.getName());
+    assertEquals("dozer", getter.getValue(bean));
+  }
+
+  @Test
+  public void shouldBoxAndWidenPrimitives() throws Exception {
+    PropertyReader getter = backend.createReadAccessor(Bean.class.getMethod("getCount"));
+    PropertyWriter setter = backend.createWriteAccessor(Bean.class.getMethod("setCount", Long.TYPE));
+
+    setter.setValue(bean, 42L);
+    assertEquals(42L, bean.getCount());
+    assertEquals(Long.valueOf(42L), getter.getValue(bean));
+
+    setter.setValue(bean, 7);
+    assertEquals(7L, bean.getCount());
+  }
+
+  @Test
+  public void shouldIgnoreSetterResult() throws Exception {
+    PropertyWriter setter = backend.createWriteAccessor(Bean.class.getMethod("setFlags", boolean[].class));
+    boolean[] flags = new boolean[] {true};
+
+    setter.setValue(bean, flags);
+
+    assertSame(flags, bean.flags);
+  }
+
+  @Test
+  public void shouldAccessPublicField() throws Exception {
+    PropertyAccessor accessor = backend.createFieldAccessor(Bean.class.getField("flags"));
+    boolean[] flags = new boolean[] {false};
+
+    accessor.setValue(bean, flags);
+
+    assertSame(flags, bean.flags);
+    assertSame(flags, accessor.getValue(bean));
+  }
+
+  @Test
+  public void shouldAccessNonPublicMembersIfSupported() throws Exception {
+    // Members are made accessible by the property descriptors before an accessor is created
+    Field nameField = Bean.class.getDeclaredField("name");
+    nameField.setAccessible(true);
+    Method nameMethod = HiddenBean.class.getMethod("getName");
+    nameMethod.setAccessible(true);
+    PropertyAccessor field = backend.createFieldAccessor(nameField);
+    PropertyReader getter = backend.createReadAccessor(nameMethod);
+    if (!nonPublicMembers) {
+      assertNull(field);
+      assertNull(getter);
+      return;
+    }
+
+    field.setValue(bean, "dozer");
+
+    assertEquals("dozer", bean.getName());
+    assertEquals("dozer", field.getValue(bean));
+    assertEquals("hidden", getter.getValue(new HiddenBean()));
+  }
+
+  @Test
+  public void shouldAccessFinalFieldsIfSupported() throws Exception {
+    PropertyAccessor field = backend.createFieldAccessor(Bean.class.getField("ID"));
+    if (!finalFields) {
+      assertNull(field);
+      return;
+    }
+
+    assertEquals(Bean.ID, field.getValue(bean));
+  }
+
+  @Test
+  public void shouldWrapPropertyException() throws Exception {
+    assertTargetException(backend.createReadAccessor(Bean.class.getMethod("getBroken")), bean, IOException.class);
+    assertTargetException(backend.createReadAccessor(Bean.class.getMethod("getFailing")), bean,
+        IllegalStateException.class);
+    if (nonPublicMembers) {
+      Method brokenMethod = HiddenBean.class.getMethod("getBroken");
+      brokenMethod.setAccessible(true);
+      assertTargetException(backend.createReadAccessor(brokenMethod), new HiddenBean(), IOException.class);
+    }
+  }
+
+  private void assertTargetException(PropertyReader getter, Object target, Class<? extends Throwable> exceptionType) {
+    try {
+      getter.getValue(target);
+      fail();
+    } catch (MappingException e) {
+      assertTrue(e.getCause() instanceof InvocationTargetException);
+      assertTrue(exceptionType.isInstance(((InvocationTargetException) e.getCause()).getTargetException()));
+    }
+  }
+
+  public static class Bean {
+
+    public static final String ID = "bean";
+
+    public boolean[] flags;
+    private String name;
+    private long count;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public long getCount() {
+      return count;
+    }
+
+    public void setCount(long count) {
+      this.count = count;
+    }
+
+    public Bean setFlags(boolean[] flags) {
+      this.flags = flags;
+      return this;
+    }
+
+    public String getBroken() throws IOException {
+      throw new IOException();
+    }
+
+    public String getFailing() {
+      throw new IllegalStateException();
+    }
+  }
+
+  static class HiddenBean {
+
+    public String getName() {
+      return "hidden";
+    }
+
+    public String getBroken() throws IOException {
+      throw new IOException();
+    }
+  }
+
+}
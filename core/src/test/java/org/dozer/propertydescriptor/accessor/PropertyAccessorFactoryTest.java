@@ -0,0 +1,48 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.propertydescriptor.accessor;
+
+import org.dozer.AbstractDozerTest;
+import org.junit.Test;
+
+public class PropertyAccessorFactoryTest extends AbstractDozerTest {
+
+  @Test
+  public void shouldCreateSelectedBackend() {
+    assertTrue(PropertyAccessorFactory.createBackend("javassist") instanceof JavassistAccessorBackend);
+    assertTrue(PropertyAccessorFactory.createBackend("reflection") instanceof ReflectionAccessorBackend);
+    assertTrue(PropertyAccessorFactory.createBackend("methodhandle") instanceof MethodHandleAccessorBackend);
+  }
+
+  @Test
+  public void shouldFallbackToReflection() {
+    assertTrue(PropertyAccessorFactory.createBackend("unknown") instanceof ReflectionAccessorBackend);
+  }
+
+  @Test
+  public void shouldCreateAccessorForAnyMember() throws Exception {
+    PropertyReader accessor = PropertyAccessorFactory.createReadAccessor(Hidden.class.getDeclaredMethod("getValue"));
+    assertEquals("hidden", accessor.getValue(new Hidden()));
+  }
+
+  private static class Hidden {
+
+    private String getValue() {
+      return "hidden";
+    }
+  }
+
+}
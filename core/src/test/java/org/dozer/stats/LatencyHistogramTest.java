@@ -0,0 +1,82 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.stats;
+
+import org.dozer.AbstractDozerTest;
+import org.junit.Test;
+
+public class LatencyHistogramTest extends AbstractDozerTest {
+
+  private final LatencyHistogram histogram = new LatencyHistogram();
+
+  @Test
+  public void shouldMapValuesToAdjacentBuckets() {
+    for (long value = 0; value < 100000; value++) {
+      int bucket = LatencyHistogram.bucketOf(value);
+      assertTrue(value + " above bucket", value <= LatencyHistogram.highestValueOf(bucket));
+      assertTrue(value + " below bucket", bucket == 0 || value > LatencyHistogram.highestValueOf(bucket - 1));
+    }
+  }
+
+  @Test
+  public void shouldBoundRelativeError() {
+    for (long value = 16; value < LatencyHistogram.MAX_TRACKABLE_VALUE; value = value * 3 + 1) {
+      long highest = LatencyHistogram.highestValueOf(LatencyHistogram.bucketOf(value));
+      assertTrue(String.valueOf(value), highest - value < value / 16 + 1);
+    }
+  }
+
+  @Test
+  public void shouldReportPercentiles() {
+    for (int i = 1; i <= 1000; i++) {
+      histogram.record(i * 1000L);
+    }
+
+    assertEquals(1000, histogram.getCount());
+    assertEquals(1000000, histogram.getMax());
+    assertEquals(500500.0, histogram.getMean(), 0.001);
+    assertNear(500000, histogram.getValueAtPercentile(50));
+    assertNear(990000, histogram.getValueAtPercentile(99));
+    assertNear(999000, histogram.getValueAtPercentile(99.9));
+    assertEquals(1000000, histogram.getValueAtPercentile(100));
+  }
+
+  @Test
+  public void shouldKeepSmallValuesExact() {
+    histogram.record(3);
+    histogram.record(7);
+    histogram.record(-5);
+
+    assertEquals(0, histogram.getValueAtPercentile(10));
+    assertEquals(3, histogram.getValueAtPercentile(50));
+    assertEquals(7, histogram.getValueAtPercentile(99.9));
+  }
+
+  @Test
+  public void shouldReset() {
+    histogram.record(5000);
+    histogram.reset();
+
+    assertEquals(0, histogram.getCount());
+    assertEquals(0, histogram.getMax());
+    assertEquals(0, histogram.getValueAtPercentile(99));
+  }
+
+  private static void assertNear(long expected, long actual) {
+    assertTrue(expected + " expected, was " + actual, actual >= expected && actual <= expected + expected / 16);
+  }
+
+}
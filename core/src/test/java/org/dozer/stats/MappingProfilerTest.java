@@ -0,0 +1,111 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.stats;
+
+import java.util.List;
+
+import org.dozer.AbstractDozerTest;
+import org.dozer.classmap.ClassMap;
+import org.dozer.fieldmap.FieldMap;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class MappingProfilerTest extends AbstractDozerTest {
+
+  private MappingProfiler profiler;
+  private ClassMap classMap;
+  private ClassMap otherClassMap;
+
+  @Override
+  @Before
+  public void setUp() throws Exception {
+    profiler = new MappingProfiler();
+    classMap = classMap("A", "B", null);
+    otherClassMap = classMap("C", "D", "id");
+  }
+
+  @Test
+  public void shouldRankClassMappingsByTime() {
+    profiler.recordClassMapping(classMap, 100, 5000);
+    profiler.recordClassMapping(otherClassMap, 300, 10);
+    profiler.recordClassMapping(classMap, 100, 5000);
+
+    List<MappingProfiler.Profile> byTime = profiler.getTopClassMappings(10, false);
+    assertEquals(2, byTime.size());
+    assertEquals("C-->D (map-id id)", byTime.get(0).getName());
+    assertEquals(300, byTime.get(0).getTotalNanos());
+    assertEquals("A-->B", byTime.get(1).getName());
+    assertEquals(2, byTime.get(1).getCount());
+
+    List<MappingProfiler.Profile> byAllocation = profiler.getTopClassMappings(1, true);
+    assertEquals(1, byAllocation.size());
+    assertEquals(10000, byAllocation.get(0).getAllocatedBytes());
+  }
+
+  @Test
+  public void shouldNameFieldMappings() {
+    FieldMap fieldMap = mock(FieldMap.class);
+    when(fieldMap.getClassMap()).thenReturn(classMap);
+    when(fieldMap.getSrcFieldName()).thenReturn("one");
+    when(fieldMap.getDestFieldName()).thenReturn("two");
+
+    profiler.recordFieldMapping(fieldMap, 2000, 64);
+
+    MappingProfiler.Profile profile = profiler.getTopFieldMappings(5, false).get(0);
+    assertEquals("A-->B: one-->two", profile.getName());
+    assertEquals("A-->B: one-->two: Count 1, Time 0.002ms (2.0us avg), Allocated 64 bytes (64 avg)", profile.toString());
+  }
+
+  @Test
+  public void shouldClear() {
+    profiler.recordClassMapping(classMap, 100, 0);
+    profiler.clearAll();
+
+    assertTrue(profiler.getTopClassMappings(10, false).isEmpty());
+  }
+
+  @Test
+  public void shouldNotMeasureAllocationsUntilEnabled() {
+    assertFalse(profiler.isEnabled());
+    assertEquals(0, profiler.getAllocatedBytes());
+  }
+
+  @Test
+  public void shouldMeasureAllocations() {
+    if (!profiler.isAllocationSupported()) {
+      return;
+    }
+    profiler.setEnabled(true);
+    long start = profiler.getAllocatedBytes();
+    byte[][] garbage = new byte[16][];
+    for (int i = 0; i < garbage.length; i++) {
+      garbage[i] = new byte[1024];
+    }
+    assertTrue(profiler.getAllocatedBytes() - start >= 16 * 1024);
+  }
+
+  private static ClassMap classMap(String srcClassName, String destClassName, String mapId) {
+    ClassMap classMap = mock(ClassMap.class);
+    when(classMap.getSrcClassName()).thenReturn(srcClassName);
+    when(classMap.getDestClassName()).thenReturn(destClassName);
+    when(classMap.getMapId()).thenReturn(mapId);
+    return classMap;
+  }
+
+}
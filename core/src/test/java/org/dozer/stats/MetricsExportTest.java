@@ -0,0 +1,140 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.stats;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.dozer.AbstractDozerTest;
+import org.dozer.MappingException;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MetricsExportTest extends AbstractDozerTest {
+
+  private StatisticsManagerImpl statMgr;
+  private RecordingExporter exporter;
+
+  @Override
+  @Before
+  public void setUp() throws Exception {
+    statMgr = new StatisticsManagerImpl();
+    statMgr.setStatisticsEnabled(true);
+    exporter = new RecordingExporter();
+  }
+
+  @Test
+  public void shouldNameCounters() {
+    statMgr.increment(StatisticType.MAPPING_FAILURE_COUNT);
+    statMgr.increment(StatisticType.CACHE_HIT_COUNT, "SUPER_TYPE_CHECK");
+    statMgr.increment(StatisticType.MAPPING_FAILURE_EX_TYPE_COUNT, IllegalStateException.class);
+    statMgr.recordMappingTime(String.class, Integer.class, 1000);
+
+    MetricsSnapshot snapshot = MetricsSnapshot.of(statMgr);
+
+    assertEquals(Long.valueOf(1), snapshot.getCounters().get("MAPPING_FAILURE_COUNT"));
+    assertEquals(Long.valueOf(1), snapshot.getCounters().get("CACHE_HIT_COUNT[SUPER_TYPE_CHECK]"));
+    assertEquals(Long.valueOf(1),
+        snapshot.getCounters().get("MAPPING_FAILURE_EX_TYPE_COUNT[java.lang.IllegalStateException]"));
+    assertEquals(Long.valueOf(1000), snapshot.getCounters().get("MAPPING_TIME"));
+    assertEquals(1, snapshot.getMappingTimes().get("java.lang.String-->java.lang.Integer").getCount());
+  }
+
+  @Test
+  public void shouldExportPeriodically() throws Exception {
+    statMgr.increment(StatisticType.MAPPER_INSTANCES_COUNT);
+    MetricsExport export = MetricsExport.start(statMgr, exporter, 10);
+    try {
+      long deadline = System.currentTimeMillis() + 10000;
+      while (exporter.getSnapshots().size() < 2 && System.currentTimeMillis() < deadline) {
+        Thread.sleep(10);
+      }
+    } finally {
+      export.stop();
+    }
+    assertTrue(exporter.getSnapshots().size() >= 2);
+    assertEquals(Long.valueOf(1), exporter.getSnapshots().get(0).getCounters().get("MAPPER_INSTANCES_COUNT"));
+    assertTrue(export.isStopped());
+  }
+
+  @Test
+  public void shouldStopWhenOwnerCollected() throws Exception {
+    MetricsExport export = MetricsExport.start(new Object(), statMgr, exporter, 10);
+    MetricsExport otherExport = MetricsExport.start(statMgr, exporter, 10);
+    try {
+      for (int i = 0; i < 200 && !export.isStopped(); i++) {
+        System.gc();
+        Thread.sleep(10);
+      }
+      assertTrue(export.isStopped());
+      assertFalse(otherExport.isStopped());
+      assertEquals(1, countExporterThreads());
+    } finally {
+      otherExport.stop();
+    }
+  }
+
+  private static int countExporterThreads() {
+    int count = 0;
+    for (Thread thread : Thread.getAllStackTraces().keySet()) {
+      if ("dozer-metrics-exporter".equals(thread.getName())) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Test
+  public void shouldSurviveExporterFailure() {
+    MetricsExport export = MetricsExport.start(statMgr, new MetricsExporter() {
+      public void export(MetricsSnapshot snapshot) {
+        throw new IllegalStateException("test");
+      }
+    }, 60000);
+    try {
+      export.export();
+    } finally {
+      export.stop();
+    }
+  }
+
+  @Test
+  public void shouldLogMetrics() {
+    statMgr.increment(StatisticType.MAPPING_SUCCESS_COUNT);
+    statMgr.recordMappingTime(String.class, Integer.class, 1000);
+    new LoggingMetricsExporter().export(MetricsSnapshot.of(statMgr));
+  }
+
+  @Test(expected = MappingException.class)
+  public void shouldRequirePositiveInterval() {
+    MetricsExport.start(statMgr, exporter, 0);
+  }
+
+  private static class RecordingExporter implements MetricsExporter {
+
+    private final List<MetricsSnapshot> snapshots = new ArrayList<MetricsSnapshot>();
+
+    public synchronized void export(MetricsSnapshot snapshot) {
+      snapshots.add(snapshot);
+    }
+
+    synchronized List<MetricsSnapshot> getSnapshots() {
+      return new ArrayList<MetricsSnapshot>(snapshots);
+    }
+
+  }
+
+}
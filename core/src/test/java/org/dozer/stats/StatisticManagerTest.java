@@ -15,8 +15,11 @@
  */
 package org.dozer.stats;
 
+import java.lang.ref.WeakReference;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.dozer.AbstractDozerTest;
 import org.junit.Before;
@@ -159,4 +162,134 @@ public class StatisticManagerTest extends AbstractDozerTest {
       assertEquals("invalid threading result " + task.getName(), NTHREADS, statMgr.getStatisticValue(StatisticType.MAPPING_FAILURE_EX_TYPE_COUNT, task));
     }
   }
+
+  @Test
+  public void testCounter() {
+    Counter counter = statMgr.getCounter(StatisticType.CACHE_HIT_COUNT, "cache");
+    counter.increment();
+    counter.increment(2);
+    assertEquals(3, statMgr.getStatisticValue(StatisticType.CACHE_HIT_COUNT, "cache"));
+    assertSame(statMgr.getCounter(StatisticType.MAPPING_TIME), statMgr.getCounter(StatisticType.MAPPING_TIME,
+        StatisticType.MAPPING_TIME));
+
+    statMgr.setStatisticsEnabled(false);
+    counter.increment();
+    statMgr.setStatisticsEnabled(true);
+    assertEquals(3, statMgr.getStatisticValue(StatisticType.CACHE_HIT_COUNT, "cache"));
+  }
+
+  @Test
+  public void testCounterAfterClearAll() {
+    Counter counter = statMgr.getCounter(StatisticType.CACHE_MISS_COUNT, "cache");
+    counter.increment();
+    statMgr.increment(StatisticType.MAPPING_SUCCESS_COUNT);
+    statMgr.clearAll();
+    assertTrue(statMgr.getStatistics().isEmpty());
+
+    counter.increment();
+    statMgr.increment(StatisticType.MAPPING_SUCCESS_COUNT);
+    assertEquals(1, statMgr.getStatisticValue(StatisticType.CACHE_MISS_COUNT, "cache"));
+    assertEquals(1, statMgr.getStatisticValue(StatisticType.MAPPING_SUCCESS_COUNT));
+  }
+
+  @Test
+  public void testCounterDuringClearAll() throws InterruptedException {
+    final Counter[] counters = new Counter[8];
+    final AtomicBoolean stopped = new AtomicBoolean();
+    Thread[] tasks = new Thread[counters.length];
+    for (int i = 0; i < tasks.length; ++i) {
+      counters[i] = statMgr.getCounter(StatisticType.CACHE_HIT_COUNT, "cache" + i);
+      final Counter counter = counters[i];
+      tasks[i] = new Thread("Counter " + i) {
+        @Override
+        public void run() {
+          while (!stopped.get()) {
+            counter.increment();
+          }
+        }
+      };
+    }
+    for (Thread task : tasks) {
+      task.start();
+    }
+    for (int i = 0; i < 10000; ++i) {
+      statMgr.clearAll();
+    }
+    stopped.set(true);
+    for (Thread task : tasks) {
+      task.join(10000);
+      assertFalse("thread timeout", task.isAlive());
+    }
+
+    statMgr.clearAll();
+    for (int i = 0; i < counters.length; ++i) {
+      counters[i].increment();
+      assertEquals("counter " + i, 1, statMgr.getStatisticValue(StatisticType.CACHE_HIT_COUNT, "cache" + i));
+    }
+  }
+
+  @Test
+  public void testMapperStatistics() {
+    StatisticsManagerImpl mapperStatMgr = new StatisticsManagerImpl(statMgr);
+    StatisticsManagerImpl otherMapperStatMgr = new StatisticsManagerImpl(statMgr);
+    mapperStatMgr.getCounter(StatisticType.CACHE_HIT_COUNT, "cache").increment();
+    mapperStatMgr.increment(StatisticType.MAPPING_FAILURE_EX_TYPE_COUNT, IllegalStateException.class);
+    mapperStatMgr.recordMappingTime(String.class, Integer.class, 1000);
+    otherMapperStatMgr.increment(StatisticType.MAPPING_SUCCESS_COUNT);
+
+    assertEquals(1, mapperStatMgr.getStatisticValue(StatisticType.CACHE_HIT_COUNT, "cache"));
+    assertEquals(1, mapperStatMgr.getStatisticValue(StatisticType.MAPPING_SUCCESS_COUNT));
+    assertEquals(0, otherMapperStatMgr.getStatisticValue(StatisticType.CACHE_HIT_COUNT, "cache"));
+    assertEquals(1, statMgr.getStatisticValue(StatisticType.CACHE_HIT_COUNT, "cache"));
+    assertEquals(1, statMgr.getStatisticValue(StatisticType.MAPPING_FAILURE_EX_TYPE_COUNT,
+        IllegalStateException.class));
+    assertEquals(2, statMgr.getStatisticValue(StatisticType.MAPPING_SUCCESS_COUNT));
+    assertEquals(1000, statMgr.getStatisticValue(StatisticType.MAPPING_TIME));
+    assertEquals(1, statMgr.getMappingTimeHistograms().get("java.lang.String-->java.lang.Integer").getCount());
+
+    mapperStatMgr.clearAll();
+    assertTrue(mapperStatMgr.getStatistics().isEmpty());
+    assertEquals(2, statMgr.getStatisticValue(StatisticType.MAPPING_SUCCESS_COUNT));
+
+    mapperStatMgr.setStatisticsEnabled(false);
+    assertFalse(statMgr.isStatisticsEnabled());
+    assertFalse(otherMapperStatMgr.isStatisticsEnabled());
+  }
+
+  @Test
+  public void testMapperStatisticsCollected() throws InterruptedException {
+    WeakReference<StatisticsManagerImpl> mapperStatMgr = recordMapperMappingTime();
+
+    for (int i = 0; i < 200 && mapperStatMgr.get() != null; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+    assertNull("statistics of a discarded mapper not collected", mapperStatMgr.get());
+  }
+
+  private WeakReference<StatisticsManagerImpl> recordMapperMappingTime() {
+    StatisticsManagerImpl mapperStatMgr = new StatisticsManagerImpl(statMgr);
+    mapperStatMgr.recordMappingTime(String.class, Integer.class, 1000);
+    return new WeakReference<StatisticsManagerImpl>(mapperStatMgr);
+  }
+
+  @Test
+  public void testRecordMappingTime() {
+    statMgr.recordMappingTime(String.class, Integer.class, 2000);
+    statMgr.recordMappingTime(String.class, Integer.class, 4000);
+    statMgr.recordMappingTime(Integer.class, String.class, 1000);
+
+    assertEquals(3, statMgr.getStatisticValue(StatisticType.MAPPING_SUCCESS_COUNT));
+    assertEquals(7000, statMgr.getStatisticValue(StatisticType.MAPPING_TIME));
+    Map<String, LatencyHistogram> histograms = statMgr.getMappingTimeHistograms();
+    assertEquals(2, histograms.size());
+    assertEquals(2, histograms.get("java.lang.String-->java.lang.Integer").getCount());
+    assertEquals(4000, histograms.get("java.lang.String-->java.lang.Integer").getMax());
+
+    statMgr.clearAll();
+    assertTrue(statMgr.getMappingTimeHistograms().isEmpty());
+    statMgr.recordMappingTime(String.class, Integer.class, 3000);
+    assertEquals(1, statMgr.getMappingTimeHistograms().get("java.lang.String-->java.lang.Integer").getCount());
+  }
+
 }
@@ -0,0 +1,86 @@
+/**
+ * Copyright 2005-2013 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.util;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+
+import org.dozer.AbstractDozerTest;
+import org.dozer.DisposableClassLoader;
+import org.dozer.vo.enumtest.DestType;
+import org.dozer.vo.enumtest.DestTypeWithOverride;
+import org.dozer.vo.enumtest.SrcType;
+import org.dozer.vo.enumtest.SrcTypeWithOverride;
+import org.junit.Test;
+
+public class EnumTranslatorTest extends AbstractDozerTest {
+
+  @Test
+  public void shouldTranslateByName() {
+    assertSame(DestType.FOO, EnumTranslator.translate(SrcType.FOO, DestType.class, UnmatchedEnumPolicy.FAIL));
+    assertSame(SrcType.BAR, EnumTranslator.translate(SrcType.BAR, SrcType.class, UnmatchedEnumPolicy.FAIL));
+  }
+
+  @Test
+  public void shouldTranslateConstantsWithBodies() {
+    assertSame(DestTypeWithOverride.FOO,
+        EnumTranslator.translate(SrcTypeWithOverride.FOO, DestTypeWithOverride.class, UnmatchedEnumPolicy.FAIL));
+    assertSame(DestType.FOO, EnumTranslator.translate(SrcTypeWithOverride.FOO, DestType.class, UnmatchedEnumPolicy.FAIL));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shouldFailOnUnmatchedConstant() {
+    EnumTranslator.translate(SrcType.BAR, DestType.class, UnmatchedEnumPolicy.FAIL);
+  }
+
+  @Test
+  public void shouldReturnNullForUnmatchedConstant() {
+    assertNull(EnumTranslator.translate(SrcType.BAR, DestType.class, UnmatchedEnumPolicy.NULL));
+    assertSame(DestType.FOO, EnumTranslator.translate(SrcType.FOO, DestType.class, UnmatchedEnumPolicy.NULL));
+  }
+
+  @Test
+  public void shouldUnloadSourceEnum() throws Exception {
+    WeakReference<ClassLoader> classLoader = translateDisposableEnum(true);
+
+    assertTrue("class loader of the source enum not collected", DisposableClassLoader.isCollected(classLoader));
+  }
+
+  @Test
+  public void shouldUnloadDestinationEnum() throws Exception {
+    WeakReference<ClassLoader> classLoader = translateDisposableEnum(false);
+
+    assertTrue("class loader of the destination enum not collected", DisposableClassLoader.isCollected(classLoader));
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static WeakReference<ClassLoader> translateDisposableEnum(boolean source) throws IOException {
+    DisposableClassLoader classLoader = new DisposableClassLoader();
+    Class disposableEnum = classLoader.define(Disposable.class);
+    Enum<?> disposableFoo = (Enum<?>) disposableEnum.getEnumConstants()[0];
+    if (source) {
+      assertSame(DestType.FOO, EnumTranslator.translate(disposableFoo, DestType.class, UnmatchedEnumPolicy.FAIL));
+    } else {
+      assertSame(disposableFoo, EnumTranslator.translate(SrcType.FOO, disposableEnum, UnmatchedEnumPolicy.FAIL));
+    }
+    return new WeakReference<ClassLoader>(classLoader);
+  }
+
+  public enum Disposable {
+    FOO, BAR
+  }
+
+}
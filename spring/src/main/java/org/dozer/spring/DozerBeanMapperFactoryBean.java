@@ -16,6 +16,9 @@
 package org.dozer.spring;
 
 import org.dozer.*;
+import org.dozer.cache.CacheManager;
+import org.dozer.cache.DozerCachePolicy;
+import org.dozer.cache.DozerCacheType;
 import org.dozer.loader.api.BeanMappingBuilder;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.DisposableBean;
@@ -51,6 +54,9 @@ public class DozerBeanMapperFactoryBean implements FactoryBean<Mapper>,
   private Map<String, CustomConverter> customConvertersWithId;
   private List<DozerEventListener> eventListeners;
   private Map<String, BeanFactory> factories;
+  private CacheManager cacheManager;
+  private Map<DozerCacheType, DozerCachePolicy> cachePolicies;
+  private Map<DozerCacheType, Integer> cacheSizes;
   private ApplicationContext applicationContext;
 
   /**
@@ -92,6 +98,30 @@ public class DozerBeanMapperFactoryBean implements FactoryBean<Mapper>,
     this.factories = factories;
   }
 
+  public void setCacheManager(CacheManager cacheManager) {
+    this.cacheManager = cacheManager;
+  }
+
+  /**
+   * Eviction policies of the mapper caches, for example
+   * {@code
+   *   <property name="cachePolicies">
+   *     <map>
+   *       <entry key="SUPER_TYPE_CHECK" value="WEAK_KEYS"/>
+   *     </map>
+   *   </property>
+   * }
+   *
+   * @param cachePolicies policy by cache type
+   */
+  public void setCachePolicies(Map<DozerCacheType, DozerCachePolicy> cachePolicies) {
+    this.cachePolicies = cachePolicies;
+  }
+
+  public void setCacheSizes(Map<DozerCacheType, Integer> cacheSizes) {
+    this.cacheSizes = cacheSizes;
+  }
+
   // ==================================================================================================================================
   // interface 'FactoryBean'
   // ==================================================================================================================================
@@ -132,6 +162,15 @@ public class DozerBeanMapperFactoryBean implements FactoryBean<Mapper>,
     allListeners.addAll(contextEventListeners.values());
     allMappingBuilders.addAll(contextMappingBuilders.values());
 
+    if (this.cacheManager != null) {
+      this.beanMapper.setCacheManager(this.cacheManager);
+    }
+    if (this.cachePolicies != null) {
+      this.beanMapper.setCachePolicies(this.cachePolicies);
+    }
+    if (this.cacheSizes != null) {
+      this.beanMapper.setCacheSizes(this.cacheSizes);
+    }
     if(customFieldMapper != null){
         this.beanMapper.setCustomFieldMapper(customFieldMapper);
     }
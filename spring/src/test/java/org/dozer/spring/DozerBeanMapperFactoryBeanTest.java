@@ -16,6 +16,9 @@
 package org.dozer.spring;
 
 import org.dozer.*;
+import org.dozer.cache.CacheManager;
+import org.dozer.cache.DozerCachePolicy;
+import org.dozer.cache.DozerCacheType;
 import org.dozer.loader.api.BeanMappingBuilder;
 import org.junit.Assert;
 import org.junit.Before;
@@ -85,6 +88,18 @@ public class DozerBeanMapperFactoryBeanTest {
     verify(factory.beanMapper).destroy();
   }
 
+  @Test
+  public void shouldSetCaches() throws Exception {
+    CacheManager cacheManager = mock(CacheManager.class);
+    factory.setCacheManager(cacheManager);
+    factory.setCachePolicies(Collections.singletonMap(DozerCacheType.SUPER_TYPE_CHECK, DozerCachePolicy.UNBOUNDED));
+
+    factory.afterPropertiesSet();
+
+    DozerBeanMapper mapper = (DozerBeanMapper) factory.getObject();
+    assertEquals(cacheManager, mapper.getCacheManager());
+  }
+
   @Test
   public void shouldInjectBeans() throws Exception {
     HashMap<String, CustomConverter> converterHashMap = new HashMap<String, CustomConverter>();